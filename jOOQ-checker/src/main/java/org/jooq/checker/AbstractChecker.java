@@ -58,6 +58,11 @@ abstract class AbstractChecker extends SourceChecker {
         return null;
     }
 
+    Void warning(Object node, String message) {
+        getChecker().report(Result.warning(message, node), node);
+        return null;
+    }
+
     static Void print(Printer printer) {
         try (PrintWriter writer = new PrintWriter(new FileWriter("error.txt"))){
             writer.println("This is probably a bug in jOOQ-checker.");
@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.checker;
+
+import static com.sun.source.util.TreePath.getPath;
+
+import org.checkerframework.framework.source.SourceVisitor;
+
+import com.sun.source.tree.MethodInvocationTree;
+
+/**
+ * A checker to warn about N+1 query patterns, i.e. about queries that are
+ * executed inside of loops or iterations over collections and streams, and
+ * about rows that are fetched only to be counted.
+ *
+ * @author Lukas Eder
+ */
+public class QueryExecutionChecker extends AbstractChecker {
+
+    @Override
+    protected SourceVisitor<Void, Void> createSourceVisitor() {
+        return new SourceVisitor<Void, Void>(getChecker()) {
+
+            @Override
+            public Void visitMethodInvocation(MethodInvocationTree node, Void p) {
+                Tools.checkQueryExecution(
+                    node,
+                    () -> getPath(root, node),
+                    message -> warning(node, message),
+                    printer -> print(printer)
+                );
+
+                return super.visitMethodInvocation(node, p);
+            }
+        };
+    }
+}
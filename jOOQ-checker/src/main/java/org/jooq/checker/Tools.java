@@ -45,11 +45,16 @@ import static org.checkerframework.javacutil.TreeUtils.enclosingMethod;
 
 import java.io.PrintWriter;
 import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
 
 import org.jooq.Allow;
 import org.jooq.PlainSQL;
@@ -58,8 +63,15 @@ import org.jooq.SQLDialect;
 import org.jooq.Support;
 
 import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.EnhancedForLoopTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.ForLoopTree;
+import com.sun.source.tree.LambdaExpressionTree;
+import com.sun.source.tree.MemberSelectTree;
 import com.sun.source.tree.MethodInvocationTree;
 import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.Tree;
 import com.sun.source.util.TreePath;
 
 /**
@@ -68,6 +80,34 @@ import com.sun.source.util.TreePath;
  * @author Lukas Eder
  */
 final class Tools {
+
+    /**
+     * Methods of {@link Iterable}, {@link java.util.Iterator},
+     * {@link java.util.Map}, and {@link java.util.stream.BaseStream} types
+     * that call their lambda arguments once per element.
+     */
+    private static final Set<String> ITERATIONS = new HashSet<>(asList(
+        "allMatch",
+        "anyMatch",
+        "dropWhile",
+        "filter",
+        "flatMap",
+        "forEach",
+        "forEachOrdered",
+        "forEachRemaining",
+        "map",
+        "mapToDouble",
+        "mapToInt",
+        "mapToLong",
+        "mapToObj",
+        "noneMatch",
+        "peek",
+        "reduce",
+        "removeIf",
+        "replaceAll",
+        "takeWhile"
+    ));
+
     static final <T> T checkSQLDialect(
         MethodInvocationTree node,
         Supplier<Element> enclosingSupplier,
@@ -199,6 +239,187 @@ final class Tools {
         return null;
     }
 
+    static final <T> T checkQueryExecution(
+        MethodInvocationTree node,
+        Supplier<TreePath> pathSupplier,
+        Function<? super String, ? extends T> warning,
+        Function<? super Printer, ? extends T> print
+    ) {
+        try {
+            ExecutableElement elementFromUse = elementFromUse(node);
+
+            if (isQueryExecution(elementFromUse)) {
+                if (inLoop(pathSupplier.get()))
+                    return warning.apply("Query execution inside of a loop or an iteration. Consider fetching all the data with a single query, e.g. using a JOIN or an IN predicate, or batching the statements.");
+            }
+
+            // Counting fetched rows, e.g. ctx.selectFrom(T).fetch().size()
+            else if (node.getArguments().isEmpty()) {
+                String name = elementFromUse.getSimpleName().toString();
+
+                if (("size".equals(name) || "isEmpty".equals(name)) && node.getMethodSelect() instanceof MemberSelectTree) {
+                    ExpressionTree receiver = ((MemberSelectTree) node.getMethodSelect()).getExpression();
+
+                    while (receiver instanceof ParenthesizedTree)
+                        receiver = ((ParenthesizedTree) receiver).getExpression();
+
+                    if (receiver instanceof MethodInvocationTree) {
+                        ExecutableElement fetch = elementFromUse((MethodInvocationTree) receiver);
+                        Set<String> types = supertypes(elementFromUse.getEnclosingElement());
+
+                        if (fetch.getSimpleName().toString().startsWith("fetch")
+                                && isQueryExecution(fetch)
+                                && (types.contains("java.util.Collection") || types.contains("java.util.Map")))
+                            return warning.apply("size".equals(name)
+                                ? "Rows are fetched only to be counted. Use DSLContext.fetchCount() instead."
+                                : "Rows are fetched only to check for their existence. Use DSLContext.fetchExists() instead.");
+                    }
+                }
+            }
+        }
+        catch (final Exception e) {
+            return print.apply(new Printer() {
+                @Override
+                public void print(PrintWriter t) {
+                    e.printStackTrace(t);
+                }
+            });
+        }
+
+        return null;
+    }
+
+    /**
+     * Whether a method executes a query against the database.
+     */
+    private static boolean isQueryExecution(ExecutableElement element) {
+        if (element == null)
+            return false;
+
+        String name = element.getSimpleName().toString();
+        boolean fetch = name.startsWith("fetch") && !name.startsWith("fetchFrom") && !"fetchSize".equals(name);
+        boolean execute = name.startsWith("execute");
+
+        switch (name) {
+            case "store":
+            case "insert":
+            case "update":
+            case "delete":
+            case "merge":
+            case "refresh":
+            case "count":
+            case "findAll":
+            case "findById":
+            case "findOptionalById":
+            case "existsById":
+                break;
+
+            default:
+                if (!fetch && !execute)
+                    return false;
+        }
+
+        Set<String> types = supertypes(element.getEnclosingElement());
+
+        // DSLContext.update() and similar methods only construct queries
+        if (types.contains("org.jooq.Query")
+                || types.contains("org.jooq.DSLContext")
+                || types.contains("org.jooq.Batch")
+                || types.contains("org.jooq.Routine"))
+            return fetch || execute;
+        else if (types.contains("org.jooq.TableRecord"))
+            return fetch || "store".equals(name) || "insert".equals(name) || "update".equals(name) || "delete".equals(name) || "merge".equals(name) || "refresh".equals(name);
+        else if (types.contains("org.jooq.DAO"))
+            return !execute;
+        else
+            return false;
+    }
+
+    /**
+     * Whether a path is (possibly) executed repeatedly within its enclosing
+     * method, i.e. whether it is contained in a loop body, or in a lambda that
+     * is passed to an iteration over a collection or stream.
+     */
+    private static boolean inLoop(TreePath path) {
+        for (Tree child = null; path != null; child = path.getLeaf(), path = path.getParentPath()) {
+            Tree leaf = path.getLeaf();
+
+            switch (leaf.getKind()) {
+                case WHILE_LOOP:
+                case DO_WHILE_LOOP:
+                    return true;
+
+                // The iterated expression is evaluated only once
+                case ENHANCED_FOR_LOOP:
+                    if (child != ((EnhancedForLoopTree) leaf).getExpression())
+                        return true;
+
+                    break;
+
+                // The initialiser is evaluated only once
+                case FOR_LOOP:
+                    if (!((ForLoopTree) leaf).getInitializer().contains(child))
+                        return true;
+
+                    break;
+
+                // Other lambdas and nested classes may be executed at any
+                // time, so we conservatively assume they're not looping
+                case LAMBDA_EXPRESSION:
+                    return isIteration(path.getParentPath(), (LambdaExpressionTree) leaf);
+
+                default:
+                    if (leaf instanceof MethodTree || leaf instanceof ClassTree)
+                        return false;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isIteration(TreePath path, LambdaExpressionTree lambda) {
+        if (path == null || !(path.getLeaf() instanceof MethodInvocationTree))
+            return false;
+
+        MethodInvocationTree invocation = (MethodInvocationTree) path.getLeaf();
+        ExecutableElement element = elementFromUse(invocation);
+
+        if (element == null
+                || !invocation.getArguments().contains(lambda)
+                || !ITERATIONS.contains(element.getSimpleName().toString()))
+            return false;
+
+        Set<String> types = supertypes(element.getEnclosingElement());
+        return types.contains("java.lang.Iterable")
+            || types.contains("java.util.Iterator")
+            || types.contains("java.util.Map")
+            || types.contains("java.util.stream.BaseStream");
+    }
+
+    private static Set<String> supertypes(Element element) {
+        Set<String> result = new HashSet<>();
+        supertypes(element, result);
+        return result;
+    }
+
+    private static void supertypes(Element element, Set<String> result) {
+        if (element instanceof TypeElement) {
+            TypeElement type = (TypeElement) element;
+
+            if (result.add(type.getQualifiedName().toString())) {
+                supertypes(type.getSuperclass(), result);
+
+                for (TypeMirror i : type.getInterfaces())
+                    supertypes(i, result);
+            }
+        }
+    }
+
+    private static void supertypes(TypeMirror type, Set<String> result) {
+        if (type instanceof DeclaredType)
+            supertypes(((DeclaredType) type).asElement(), result);
+    }
+
     static Element enclosing(TreePath path) {
         MethodTree enclosingMethod = enclosingMethod(path);
 
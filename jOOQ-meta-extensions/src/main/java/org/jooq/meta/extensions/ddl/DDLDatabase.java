@@ -44,6 +44,7 @@ import static org.jooq.tools.StringUtils.isBlank;
 import java.io.File;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Properties;
 import java.util.Scanner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -90,31 +91,53 @@ public class DDLDatabase extends AbstractInterpretingDatabase {
     private boolean                 logExecutedQueries  = true;
     private boolean                 logExecutionResults = true;
 
-    @Override
-    protected void export() throws Exception {
+    /**
+     * The parser {@link Settings} specified by the <code>parseIgnoreComments</code>,
+     * <code>parseIgnoreCommentStart</code>, and
+     * <code>parseIgnoreCommentStop</code> properties.
+     */
+    static final Settings parseSettings(Properties properties) {
         Settings defaultSettings = new Settings();
-        String scripts = getProperties().getProperty("scripts");
-        String encoding = getProperties().getProperty("encoding", "UTF-8");
-        String sort = getProperties().getProperty("sort", "semantic").toLowerCase();
-        final String defaultNameCase = getProperties().getProperty("defaultNameCase", "as_is").toUpperCase();
-        boolean parseIgnoreComments = !"false".equalsIgnoreCase(getProperties().getProperty("parseIgnoreComments"));
-        String parseIgnoreCommentStart = getProperties().getProperty("parseIgnoreCommentStart", defaultSettings.getParseIgnoreCommentStart());
-        String parseIgnoreCommentStop = getProperties().getProperty("parseIgnoreCommentStop", defaultSettings.getParseIgnoreCommentStop());
-        logExecutedQueries = !"false".equalsIgnoreCase(getProperties().getProperty("logExecutedQueries"));
-        logExecutionResults = !"false".equalsIgnoreCase(getProperties().getProperty("logExecutionResults"));
+        boolean parseIgnoreComments = !"false".equalsIgnoreCase(properties.getProperty("parseIgnoreComments"));
+        String parseIgnoreCommentStart = properties.getProperty("parseIgnoreCommentStart", defaultSettings.getParseIgnoreCommentStart());
+        String parseIgnoreCommentStop = properties.getProperty("parseIgnoreCommentStop", defaultSettings.getParseIgnoreCommentStop());
+
+        return new Settings()
+            .withParseIgnoreComments(parseIgnoreComments)
+            .withParseIgnoreCommentStart(parseIgnoreCommentStart)
+            .withParseIgnoreCommentStop(parseIgnoreCommentStop)
+            .withParseUnknownFunctions(ParseUnknownFunctions.IGNORE);
+    }
+
+    /**
+     * The scripts specified by the <code>scripts</code> property.
+     */
+    static final FilePattern scripts(Properties properties, String basedir) {
+        String scripts = properties.getProperty("scripts");
+        String encoding = properties.getProperty("encoding", "UTF-8");
+        String sort = properties.getProperty("sort", "semantic").toLowerCase();
 
         if (isBlank(scripts)) {
             scripts = "";
             log.warn("No scripts defined", "It is recommended that you provide an explicit script directory to scan");
         }
 
+        return new FilePattern()
+            .encoding(encoding)
+            .basedir(new File(basedir))
+            .pattern(scripts)
+            .sort(Sort.of(sort));
+    }
+
+    @Override
+    protected void export() throws Exception {
+        FilePattern scripts = scripts(getProperties(), getBasedir());
+        final String defaultNameCase = getProperties().getProperty("defaultNameCase", "as_is").toUpperCase();
+        logExecutedQueries = !"false".equalsIgnoreCase(getProperties().getProperty("logExecutedQueries"));
+        logExecutionResults = !"false".equalsIgnoreCase(getProperties().getProperty("logExecutionResults"));
+
         try {
-            final DSLContext ctx = DSL.using(connection(), new Settings()
-                .withParseIgnoreComments(parseIgnoreComments)
-                .withParseIgnoreCommentStart(parseIgnoreCommentStart)
-                .withParseIgnoreCommentStop(parseIgnoreCommentStop)
-                .withParseUnknownFunctions(ParseUnknownFunctions.IGNORE)
-            );
+            final DSLContext ctx = DSL.using(connection(), parseSettings(getProperties()));
 
             // [#7771] [#8011] Ignore all parsed storage clauses when executing the statements
             ctx.data("org.jooq.ddl.ignore-storage-clauses", true);
@@ -148,15 +171,10 @@ public class DDLDatabase extends AbstractInterpretingDatabase {
                 });
             }
 
-            new FilePattern()
-                    .encoding(encoding)
-                    .basedir(new File(getBasedir()))
-                    .pattern(scripts)
-                    .sort(Sort.of(sort))
-                    .load(source -> DDLDatabase.this.load(ctx, source));
+            scripts.load(source -> DDLDatabase.this.load(ctx, source));
         }
         catch (ParserException e) {
-            log.error("An exception occurred while parsing script source : " + scripts + ". Please report this error to https://github.com/jOOQ/jOOQ/issues/new", e);
+            log.error("An exception occurred while parsing script source : " + scripts.pattern() + ". Please report this error to https://github.com/jOOQ/jOOQ/issues/new", e);
             throw e;
         }
     }
@@ -0,0 +1,305 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.meta.extensions.ddl;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.Check;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.FilePattern;
+import org.jooq.ForeignKey;
+import org.jooq.Key;
+import org.jooq.Meta;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.Schema;
+import org.jooq.SortField;
+import org.jooq.SortOrder;
+import org.jooq.Table;
+import org.jooq.UniqueKey;
+import org.jooq.conf.ParseNameCase;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.impl.ParserException;
+import org.jooq.meta.AbstractIndexDefinition;
+import org.jooq.meta.AbstractMetaDatabase;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.DefaultCheckConstraintDefinition;
+import org.jooq.meta.DefaultIndexColumnDefinition;
+import org.jooq.meta.DefaultRelations;
+import org.jooq.meta.IndexColumnDefinition;
+import org.jooq.meta.IndexDefinition;
+import org.jooq.meta.SchemaDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.StringUtils;
+
+/**
+ * The DDL database, backed by jOOQ's DDL interpreter.
+ * <p>
+ * This meta data source parses a set of SQL scripts just like the
+ * {@link DDLDatabase}, and supports the same properties. Instead of running
+ * the scripts on an in-memory H2 database and reverse engineering the outcome
+ * via JDBC, the parsed statements are fed to jOOQ's DDL interpreter, and the
+ * resulting {@link Meta} is exposed directly. This is much faster for large
+ * schemas, and supports any syntax that jOOQ's parser and interpreter support,
+ * rather than only what H2 supports.
+ * <p>
+ * Unqualified objects are created in the default schema, whose name is the
+ * empty string. Unnamed constraints are given synthetic names derived from
+ * their table and columns. The <code>logExecutionResults</code> and
+ * <code>unqualifiedSchema</code> properties have no effect, as nothing is
+ * executed.
+ *
+ * @author Lukas Eder
+ */
+public class DDLInterpreterDatabase extends AbstractMetaDatabase {
+
+    private static final JooqLogger log = JooqLogger.getLogger(DDLInterpreterDatabase.class);
+
+    private Meta                    meta;
+
+    @Override
+    protected DSLContext create0() {
+        return DSL.using(SQLDialect.DEFAULT);
+    }
+
+    @Override
+    protected Meta getMeta0() {
+        if (meta == null) {
+            FilePattern scripts = DDLDatabase.scripts(getProperties(), getBasedir());
+            String defaultNameCase = getProperties().getProperty("defaultNameCase", "as_is").toUpperCase();
+            boolean logExecutedQueries = !"false".equalsIgnoreCase(getProperties().getProperty("logExecutedQueries"));
+            Settings settings = DDLDatabase.parseSettings(getProperties());
+
+            // The H2 based DDLDatabase applies the defaultNameCase when rendering
+            // names. The interpreter never renders anything, so names are
+            // transformed by the parser instead.
+            if ("UPPER".equals(defaultNameCase))
+                settings.setParseNameCase(ParseNameCase.UPPER_IF_UNQUOTED);
+            else if ("LOWER".equals(defaultNameCase))
+                settings.setParseNameCase(ParseNameCase.LOWER_IF_UNQUOTED);
+
+            DSLContext ctx = DSL.using(SQLDialect.DEFAULT, settings);
+
+            // [#8910] Parse things a bit differently for use with the DDLDatabase
+            ctx.data("org.jooq.ddl.parse-for-ddldatabase", true);
+
+            List<Query> queries = new ArrayList<>();
+
+            try {
+                scripts.load(source -> {
+                    for (Query query : ctx.parser().parse(source.readString())) {
+                        if (logExecutedQueries)
+                            log.info(query);
+
+                        queries.add(query);
+                    }
+                });
+            }
+            catch (ParserException e) {
+                log.error("An exception occurred while parsing script source : " + scripts.pattern() + ". Please report this error to https://github.com/jOOQ/jOOQ/issues/new", e);
+                throw e;
+            }
+
+            meta = ctx.meta(queries.toArray(new Query[0]));
+        }
+
+        return meta;
+    }
+
+    @Override
+    protected void loadPrimaryKeys(DefaultRelations relations) throws SQLException {
+        for (Table<?> table : tables()) {
+            TableDefinition t = table(table);
+            UniqueKey<?> pk = table.getPrimaryKey();
+
+            if (t != null && pk != null && resolvable(t, pk.getFields()))
+                for (Field<?> field : pk.getFields())
+                    relations.addPrimaryKey(name(pk), t, t.getColumn(field.getName()));
+        }
+    }
+
+    @Override
+    protected void loadUniqueKeys(DefaultRelations relations) throws SQLException {
+        for (Table<?> table : tables()) {
+            TableDefinition t = table(table);
+
+            if (t != null)
+                for (UniqueKey<?> uk : table.getKeys())
+                    if (!uk.isPrimary() && resolvable(t, uk.getFields()))
+                        for (Field<?> field : uk.getFields())
+                            relations.addUniqueKey(name(uk), t, t.getColumn(field.getName()));
+        }
+    }
+
+    @Override
+    protected void loadForeignKeys(DefaultRelations relations) throws SQLException {
+        for (Table<?> table : tables()) {
+            TableDefinition t = table(table);
+
+            if (t != null) {
+                for (ForeignKey<?, ?> fk : table.getReferences()) {
+                    UniqueKey<?> uk = fk.getKey();
+                    TableDefinition referenced = uk != null ? table(uk.getTable()) : null;
+
+                    if (referenced != null && resolvable(t, fk.getFields()))
+                        for (Field<?> field : fk.getFields())
+                            relations.addForeignKey(name(fk), t, t.getColumn(field.getName()), name(uk), referenced);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void loadCheckConstraints(DefaultRelations relations) throws SQLException {
+        for (Table<?> table : tables()) {
+            TableDefinition t = table(table);
+
+            if (t != null) {
+                List<? extends Check<?>> checks = table.getChecks();
+
+                for (int i = 0; i < checks.size(); i++) {
+                    Check<?> check = checks.get(i);
+                    String name = StringUtils.isBlank(check.getName())
+                        ? "CK_" + table.getName() + "_" + (i + 1)
+                        : check.getName();
+
+                    relations.addCheckConstraint(t, new DefaultCheckConstraintDefinition(
+                        t.getSchema(),
+                        t,
+                        name,
+                        create().renderInlined(check.condition())
+                    ));
+                }
+            }
+        }
+    }
+
+    @Override
+    protected List<IndexDefinition> getIndexes0() throws SQLException {
+        List<IndexDefinition> result = new ArrayList<>();
+
+        for (Table<?> table : tables()) {
+            TableDefinition t = table(table);
+
+            if (t != null) {
+                indexLoop:
+                for (org.jooq.Index index : table.getIndexes()) {
+                    List<SortField<?>> fields = index.getFields();
+
+                    for (SortField<?> field : fields)
+                        if (t.getColumn(field.getName()) == null)
+                            continue indexLoop;
+
+                    result.add(new AbstractIndexDefinition(t.getSchema(), index.getName(), t, index.getUnique()) {
+                        List<IndexColumnDefinition> indexColumns = new ArrayList<>();
+
+                        {
+                            for (int i = 0; i < fields.size(); i++) {
+                                SortField<?> field = fields.get(i);
+
+                                indexColumns.add(new DefaultIndexColumnDefinition(
+                                    this,
+                                    t.getColumn(field.getName()),
+                                    field.getOrder() == SortOrder.DESC ? SortOrder.DESC : SortOrder.ASC,
+                                    i + 1
+                                ));
+                            }
+                        }
+
+                        @Override
+                        protected List<IndexColumnDefinition> getIndexColumns0() {
+                            return indexColumns;
+                        }
+                    });
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private final List<Table<?>> tables() {
+        return getMeta0().getTables();
+    }
+
+    private final TableDefinition table(Table<?> table) {
+        Schema schema = table.getSchema();
+        SchemaDefinition s = getSchema(schema != null ? schema.getName() : "");
+        return s != null ? getTable(s, table.getName()) : null;
+    }
+
+    /**
+     * Whether all the key's fields resolve to columns of the table definition.
+     */
+    private static final boolean resolvable(TableDefinition t, List<? extends Field<?>> fields) {
+        for (Field<?> field : fields)
+            if (t.getColumn(field.getName()) == null)
+                return false;
+
+        return true;
+    }
+
+    /**
+     * The name of a key, or a synthetic name derived from its table and
+     * columns, if the key is unnamed.
+     */
+    private static final String name(Key<?> key) {
+        if (!StringUtils.isBlank(key.getName()))
+            return key.getName();
+
+        StringBuilder sb = new StringBuilder(
+              key instanceof ForeignKey
+            ? "FK_"
+            : ((UniqueKey<?>) key).isPrimary()
+            ? "PK_"
+            : "UK_"
+        ).append(key.getTable().getName());
+
+        // Primary keys are unique per table, their names need no columns
+        if (!(key instanceof UniqueKey) || !((UniqueKey<?>) key).isPrimary())
+            for (Field<?> field : key.getFields())
+                sb.append('_').append(field.getName());
+
+        return sb.toString();
+    }
+}
@@ -46,6 +46,7 @@ import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.Name;
 import org.jooq.Table;
+import org.jooq.UniqueKey;
 
 /**
  * @author Lukas Eder
@@ -63,6 +64,7 @@ public class DefaultMetaTableDefinition extends AbstractTableDefinition {
     @Override
     public List<ColumnDefinition> getElements0() throws SQLException {
         List<ColumnDefinition> result = new ArrayList<>();
+        UniqueKey<?> pk = table.getPrimaryKey();
 
         for (Field<?> field : table.fields()) {
             DataType<?> dataType = field.getDataType();
@@ -74,7 +76,10 @@ public class DefaultMetaTableDefinition extends AbstractTableDefinition {
                 dataType.lengthDefined() ? dataType.length() : null,
                 dataType.precisionDefined() ? dataType.precision() : null,
                 dataType.scaleDefined() ? dataType.scale() : null,
-                dataType.nullable(),
+
+                // Primary key columns are implicitly NOT NULL, even if the
+                // Meta source (e.g. a DDL interpreter) doesn't say so
+                dataType.nullable() && (pk == null || !pk.getFields().contains(field)),
                 dataType.defaulted() ? create().renderInlined(dataType.defaultValue()) : null,
                 (Name) null
             );
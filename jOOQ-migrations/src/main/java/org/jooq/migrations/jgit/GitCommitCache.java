@@ -0,0 +1,244 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.migrations.jgit;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.Commit;
+import org.jooq.Configuration;
+import org.jooq.ContentType;
+import org.jooq.DSLContext;
+import org.jooq.Meta;
+import org.jooq.Source;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.JooqLogger;
+import org.jooq.util.jaxb.tools.MiniJAXB;
+
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.revwalk.RevCommit;
+
+/**
+ * A local, on-disk cache of the migration files that each git commit adds,
+ * modifies, or deletes.
+ * <p>
+ * Computing these files requires diffing a commit's tree with its parent's
+ * tree, which is expensive for long histories. Commits are immutable and
+ * identified by the hash of their content, so the result of this computation
+ * never changes and can be cached forever. Only the blob IDs of the files are
+ * cached, not their contents, which are looked up in the git object database,
+ * which is itself addressed by content hash.
+ * <p>
+ * Likewise, the {@link Commit#meta()} resulting from interpreting a commit's
+ * entire history never changes, so it is cached as its {@link Meta#ddl()}
+ * script. Interpreting that script only requires parsing the commit's resulting
+ * schema, not every migration file of every commit up to it. Since the
+ * interpretation depends on the {@link Configuration#settings()}, these entries
+ * are stored in a subdirectory identified by a hash of the settings.
+ * <p>
+ * Since the files of a commit depend on the configured file patterns, entries
+ * are stored in a subdirectory identified by a hash of those patterns.
+ *
+ * @author Lukas Eder
+ */
+final class GitCommitCache {
+
+    private static final JooqLogger log     = JooqLogger.getLogger(GitCommitCache.class);
+    private static final int        VERSION = 1;
+
+    private final DSLContext        dsl;
+    private final Path              directory;
+    private final Path              metaDirectory;
+
+    GitCommitCache(DSLContext dsl, GitConfiguration git) {
+        this.dsl = dsl;
+        this.directory = git.cacheDirectory().toPath().resolve(hash(git.incrementFilePattern() + "\n" + git.schemaFilePattern()));
+        this.metaDirectory = directory.resolve("meta").resolve(hash(dsl.dialect() + "\n" + MiniJAXB.marshal(dsl.settings())));
+    }
+
+    private static final String hash(String string) {
+        try (ObjectInserter.Formatter f = new ObjectInserter.Formatter()) {
+            return f.idFor(Constants.OBJ_BLOB, string.getBytes(StandardCharsets.UTF_8)).name();
+        }
+    }
+
+    /**
+     * Get the cached entries of a commit, or <code>null</code> if the commit
+     * has not been cached yet, or if its cache entry is unreadable.
+     */
+    final List<Entry> get(RevCommit commit) {
+        Path path = directory.resolve(commit.getName());
+
+        try (InputStream is = Files.newInputStream(path);
+            DataInputStream in = new DataInputStream(is)
+        ) {
+            if (in.readInt() != VERSION)
+                return null;
+
+            int size = in.readInt();
+            List<Entry> result = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                ContentType type = ContentType.valueOf(in.readUTF());
+                String p = in.readUTF();
+                ObjectId blob = in.readBoolean() ? ObjectId.fromString(in.readUTF()) : null;
+
+                result.add(new Entry(p, blob, type));
+            }
+
+            return result;
+        }
+        catch (NoSuchFileException e) {
+            return null;
+        }
+        catch (IOException | IllegalArgumentException e) {
+            log.debug("Cannot read cached commit " + commit.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Cache the entries of a commit.
+     * <p>
+     * The cache is a best effort cache. Failures to write to it are logged, but
+     * otherwise ignored.
+     */
+    final void put(RevCommit commit, List<Entry> entries) {
+        Path path = directory.resolve(commit.getName());
+
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, commit.getName(), ".tmp");
+
+            try {
+                try (OutputStream os = Files.newOutputStream(temp);
+                    DataOutputStream out = new DataOutputStream(os)
+                ) {
+                    out.writeInt(VERSION);
+                    out.writeInt(entries.size());
+
+                    for (Entry entry : entries) {
+                        out.writeUTF(entry.type.name());
+                        out.writeUTF(entry.path);
+                        out.writeBoolean(entry.blob != null);
+
+                        if (entry.blob != null)
+                            out.writeUTF(entry.blob.name());
+                    }
+                }
+
+                // Concurrent writers produce the same content, so the last one wins
+                Files.move(temp, path, ATOMIC_MOVE, REPLACE_EXISTING);
+            }
+            finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        catch (IOException e) {
+            log.debug("Cannot cache commit " + commit.getName(), e);
+        }
+    }
+
+    /**
+     * Get the cached {@link Commit#meta()} of a commit, or <code>null</code> if
+     * the commit's meta has not been cached yet, or if its cache entry is
+     * unreadable.
+     */
+    final Meta getMeta(Commit commit) {
+        Path path = metaDirectory.resolve(commit.id() + ".sql");
+
+        try {
+            return dsl.meta(Source.of(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        }
+        catch (NoSuchFileException e) {
+            return null;
+        }
+        catch (IOException | DataAccessException e) {
+            log.debug("Cannot read cached meta of commit " + commit.id(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Cache the {@link Commit#meta()} of a commit.
+     * <p>
+     * The cache is a best effort cache. Failures to write to it are logged, but
+     * otherwise ignored.
+     */
+    final void putMeta(Commit commit, Meta meta) {
+        Path path = metaDirectory.resolve(commit.id() + ".sql");
+
+        try {
+            Files.createDirectories(metaDirectory);
+            Path temp = Files.createTempFile(metaDirectory, commit.id(), ".tmp");
+
+            try {
+                Files.write(temp, dsl.render(meta.ddl()).getBytes(StandardCharsets.UTF_8));
+
+                // Concurrent writers produce the same content, so the last one wins
+                Files.move(temp, path, ATOMIC_MOVE, REPLACE_EXISTING);
+            }
+            finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        catch (IOException | DataAccessException e) {
+            log.debug("Cannot cache meta of commit " + commit.id(), e);
+        }
+    }
+
+    /**
+     * A file that was added, modified, or (if {@link #blob} is
+     * <code>null</code>) deleted by a commit.
+     */
+    static final /* record */ class Entry { private final String path; private final ObjectId blob; private final ContentType type; public Entry(String path, ObjectId blob, ContentType type) { this.path = path; this.blob = blob; this.type = type; } public String path() { return path; } public ObjectId blob() { return blob; } public ContentType type() { return type; } @Override public boolean equals(Object o) { if (!(o instanceof Entry)) return false; Entry other = (Entry) o; if (!java.util.Objects.equals(this.path, other.path)) return false; if (!java.util.Objects.equals(this.blob, other.blob)) return false; if (!java.util.Objects.equals(this.type, other.type)) return false; return true; } @Override public int hashCode() { return java.util.Objects.hash(this.path, this.blob, this.type); } @Override public String toString() { return new StringBuilder("Entry[").append("path=").append(this.path).append(", blob=").append(this.blob).append(", type=").append(this.type).append("]").toString(); } }
+}
@@ -63,6 +63,7 @@ import org.jooq.DSLContext;
 import org.jooq.File;
 import org.jooq.FilePattern;
 import org.jooq.impl.Migrations;
+import org.jooq.migrations.jgit.GitCommitCache.Entry;
 import org.jooq.tools.JooqLogger;
 
 import org.eclipse.jgit.api.Git;
@@ -92,12 +93,14 @@ public final class GitCommitProvider implements CommitProvider {
     private final GitConfiguration  git;
     private final FilePattern       incrementFilePattern;
     private final FilePattern       schemaFilePattern;
+    private final GitCommitCache    cache;
 
     public GitCommitProvider(Configuration configuration, GitConfiguration git) {
         this.dsl = configuration.dsl();
         this.git = git;
         this.incrementFilePattern = new FilePattern().pattern(git.incrementFilePattern());
         this.schemaFilePattern = new FilePattern().pattern(git.schemaFilePattern());
+        this.cache = git.cacheDirectory() != null ? new GitCommitCache(dsl, git) : null;
     }
 
     @Override
@@ -137,7 +140,7 @@ public final class GitCommitProvider implements CommitProvider {
                     RevCommit revCommit = it.next();
 
                     if (revCommit.getParents() == null || revCommit.getParents().length == 0) {
-                        commits.add(init.commit(revCommit.getName(), revCommit.getFullMessage(), editFiles(r, revCommit)));
+                        commits.add(cached(init.commit(revCommit.getName(), revCommit.getFullMessage(), files(r, revCommit))));
                         it.remove();
                     }
                     else {
@@ -152,9 +155,9 @@ public final class GitCommitProvider implements CommitProvider {
                                 continue commitLoop;
 
                         if (parents.length == 1)
-                            commits.add(parents[0].commit(revCommit.getName(), revCommit.getFullMessage(), editFiles(r, revCommit)));
+                            commits.add(cached(parents[0].commit(revCommit.getName(), revCommit.getFullMessage(), files(r, revCommit))));
                         else if (parents.length == 2)
-                            commits.add(parents[0].merge(revCommit.getName(), revCommit.getFullMessage(), parents[1], editFiles(r, revCommit)));
+                            commits.add(cached(parents[0].merge(revCommit.getName(), revCommit.getFullMessage(), parents[1], files(r, revCommit))));
                         else
                             throw new UnsupportedOperationException("Merging more than two parents not yet supported");
 
@@ -176,6 +179,18 @@ public final class GitCommitProvider implements CommitProvider {
 
     private static final Comparator<RevCommit> COMMIT_COMPARATOR = (o1, o2) -> o1.getCommitTime() - o2.getCommitTime();
 
+    /**
+     * Serve a git commit's {@link Commit#meta()} from the cache, if available.
+     * The "uncommitted" pseudo commit isn't identified by content, so it is
+     * never cached.
+     */
+    private final Commit cached(Commit commit) {
+        if (cache != null)
+            Migrations.cacheMeta(commit, cache::getMeta, cache::putMeta);
+
+        return commit;
+    }
+
     private final Commit commit(Commit commit, Status status) {
         List<File> files = new ArrayList<>();
 
@@ -220,11 +235,36 @@ public final class GitCommitProvider implements CommitProvider {
         }
     }
 
-    private final List<File> editFiles(Repository repository, RevCommit revCommit) throws Exception {
-        if (revCommit.getParentCount() == 0)
-            return allFiles(repository, revCommit);
+    private final List<File> files(Repository repository, RevCommit revCommit) throws Exception {
+        List<Entry> entries = cache != null ? cache.get(revCommit) : null;
 
-        List<File> files = new ArrayList<>();
+        if (entries == null) {
+            entries = revCommit.getParentCount() == 0
+                ? allFiles(repository, revCommit)
+                : editFiles(repository, revCommit);
+
+            if (cache != null)
+                cache.put(revCommit, entries);
+        }
+        else if (log.isDebugEnabled())
+            log.debug("Cached commit", revCommit.getName());
+
+        List<File> files = new ArrayList<>(entries.size());
+
+        try (ObjectReader objectReader = repository.newObjectReader()) {
+            for (Entry entry : entries)
+                files.add(Migrations.file(
+                    entry.path(),
+                    entry.blob() != null ? read(objectReader, entry.blob()) : null,
+                    entry.type()
+                ));
+        }
+
+        return files;
+    }
+
+    private final List<Entry> editFiles(Repository repository, RevCommit revCommit) throws Exception {
+        List<Entry> files = new ArrayList<>();
         try (DiffFormatter formatter = new DiffFormatter(DisabledOutputStream.INSTANCE)) {
             formatter.setRepository(repository);
 
@@ -252,16 +292,16 @@ public final class GitCommitProvider implements CommitProvider {
                     case ADD:
                     case MODIFY:
                     case COPY:
-                        files.add(Migrations.file(newPath, read(repository, revCommit, newPath), newType));
+                        files.add(new Entry(newPath, entry.getNewId().toObjectId(), newType));
                         break;
 
                     case RENAME:
-                        files.add(Migrations.file(oldPath, null, oldType));
-                        files.add(Migrations.file(newPath, read(repository, revCommit, newPath), newType));
+                        files.add(new Entry(oldPath, null, oldType));
+                        files.add(new Entry(newPath, entry.getNewId().toObjectId(), newType));
                         break;
 
                     case DELETE:
-                        files.add(Migrations.file(oldPath, null, oldType));
+                        files.add(new Entry(oldPath, null, oldType));
                         break;
 
                     default:
@@ -279,8 +319,8 @@ public final class GitCommitProvider implements CommitProvider {
                null;
     }
 
-    private final List<File> allFiles(Repository repository, RevCommit revCommit) throws Exception {
-        List<File> files = new ArrayList<>();
+    private final List<Entry> allFiles(Repository repository, RevCommit revCommit) throws Exception {
+        List<Entry> files = new ArrayList<>();
 
         TreeWalk treeWalk = new TreeWalk(repository);
         treeWalk.addTree(revCommit.getTree());
@@ -294,25 +334,16 @@ public final class GitCommitProvider implements CommitProvider {
                 ContentType contentType = contentType(treeWalk.getPathString());
 
                 if (contentType != null)
-                    files.add(Migrations.file(
-                        treeWalk.getPathString(),
-                        read(repository, revCommit, treeWalk.getPathString()),
-                        contentType
-                    ));
+                    files.add(new Entry(treeWalk.getPathString(), treeWalk.getObjectId(0), contentType));
             }
         }
 
         return files;
     }
 
-    private final String read(Repository repository, RevCommit commit, String path) throws IOException {
-        try (TreeWalk treeWalk = TreeWalk.forPath(repository, path, commit.getTree())) {
-            ObjectId blobId = treeWalk.getObjectId(0);
-            try (ObjectReader objectReader = repository.newObjectReader()) {
-                ObjectLoader objectLoader = objectReader.open(blobId);
-                byte[] bytes = objectLoader.getBytes();
-                return new String(bytes, StandardCharsets.UTF_8);
-            }
-        }
+    private final String read(ObjectReader objectReader, ObjectId blobId) throws IOException {
+        ObjectLoader objectLoader = objectReader.open(blobId);
+        byte[] bytes = objectLoader.getBytes();
+        return new String(bytes, StandardCharsets.UTF_8);
     }
 }
@@ -63,6 +63,7 @@ public class GitConfiguration {
     private final String  scriptFilePattern;
     private final String  snapshotFilePattern;
     private final boolean includeUncommitted;
+    private final File    cacheDirectory;
 
     public GitConfiguration() {
         this(
@@ -71,7 +72,8 @@ public class GitConfiguration {
             null,
             null,
             null,
-            true
+            true,
+            null
         );
     }
 
@@ -81,7 +83,8 @@ public class GitConfiguration {
         String incrementFilePattern,
         String scriptFilePattern,
         String snapshotFilePattern,
-        boolean includeUncommitted
+        boolean includeUncommitted,
+        File cacheDirectory
     ) {
         this.repository = repository != null ? repository : new File(".");
         this.schemaFilePattern = defaultIfNull(schemaFilePattern, "migrations/schema/**");
@@ -89,6 +92,7 @@ public class GitConfiguration {
         this.scriptFilePattern = defaultIfNull(scriptFilePattern, "migrations/script/**");
         this.snapshotFilePattern = defaultIfNull(snapshotFilePattern, "migrations/snapshot/**");
         this.includeUncommitted = includeUncommitted;
+        this.cacheDirectory = cacheDirectory;
     }
 
     /**
@@ -102,7 +106,8 @@ public class GitConfiguration {
             incrementFilePattern,
             scriptFilePattern,
             snapshotFilePattern,
-            includeUncommitted
+            includeUncommitted,
+            cacheDirectory
         );
     }
 
@@ -126,7 +131,8 @@ public class GitConfiguration {
             incrementFilePattern,
             scriptFilePattern,
             snapshotFilePattern,
-            includeUncommitted
+            includeUncommitted,
+            cacheDirectory
         );
     }
 
@@ -151,7 +157,8 @@ public class GitConfiguration {
             newIncrementFilePattern,
             scriptFilePattern,
             snapshotFilePattern,
-            includeUncommitted
+            includeUncommitted,
+            cacheDirectory
         );
     }
 
@@ -176,7 +183,9 @@ public class GitConfiguration {
             incrementFilePattern,
             scriptFilePattern,
             snapshotFilePattern,
-            newIncludeUncommitted);
+            newIncludeUncommitted,
+            cacheDirectory
+        );
     }
 
     /**
@@ -187,4 +196,35 @@ public class GitConfiguration {
     public final boolean includeUncommitted() {
         return includeUncommitted;
     }
+
+    /**
+     * A local directory where the {@link GitCommitProvider} caches the files
+     * and the interpreted meta data of each commit it has read from the
+     * repository, or <code>null</code> if no such cache should be used.
+     * <p>
+     * Entries are addressed by git object IDs, i.e. by the hash of their
+     * content, so they never need to be invalidated. The directory can be
+     * safely deleted at any time.
+     */
+    @NotNull
+    public final GitConfiguration cacheDirectory(File newCacheDirectory) {
+        return new GitConfiguration(
+            repository,
+            schemaFilePattern,
+            incrementFilePattern,
+            scriptFilePattern,
+            snapshotFilePattern,
+            includeUncommitted,
+            newCacheDirectory
+        );
+    }
+
+    /**
+     * A local directory where the {@link GitCommitProvider} caches the files
+     * and the interpreted meta data of each commit it has read from the
+     * repository, or <code>null</code> if no such cache should be used.
+     */
+    public final File cacheDirectory() {
+        return cacheDirectory;
+    }
 }
@@ -378,6 +378,17 @@ public interface Configuration extends Serializable {
     @NotNull
     CacheProvider cacheProvider();
 
+    /**
+     * Get this configuration's underlying result cache provider.
+     * <p>
+     * If no explicit result cache provider was specified, query results are
+     * not cached.
+     *
+     * @see ResultCacheProvider
+     */
+    @NotNull
+    ResultCacheProvider resultCacheProvider();
+
     /**
      * Get this configuration's underlying transaction provider.
      * <p>
@@ -663,6 +674,19 @@ public interface Configuration extends Serializable {
     @NotNull
     Configuration set(CacheProvider newCacheProvider);
 
+    /**
+     * Change this configuration to hold a new result cache provider.
+     * <p>
+     * This method is not thread-safe and should not be used in globally
+     * available <code>Configuration</code> objects.
+     *
+     * @param newResultCacheProvider The new result cache provider to be
+     *            contained in the changed configuration.
+     * @return The changed configuration.
+     */
+    @NotNull
+    Configuration set(ResultCacheProvider newResultCacheProvider);
+
     /**
      * Change this configuration to hold a new executor.
      * <p>
@@ -1407,6 +1431,17 @@ public interface Configuration extends Serializable {
     @NotNull
     Configuration derive(CacheProvider newCacheProvider);
 
+    /**
+     * Create a derived configuration from this one, with a new result cache
+     * provider.
+     *
+     * @param newResultCacheProvider The new result cache provider to be
+     *            contained in the derived configuration.
+     * @return The derived configuration.
+     */
+    @NotNull
+    Configuration derive(ResultCacheProvider newResultCacheProvider);
+
     /**
      * Create a derived configuration from this one, with a new transaction
      * provider.
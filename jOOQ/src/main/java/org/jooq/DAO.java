@@ -59,6 +59,7 @@ import static org.jooq.SQLDialect.SQLITE;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
@@ -305,6 +306,11 @@ public interface DAO<R extends TableRecord<R>, P, T> {
 
     /**
      * Find a record of the underlying table by ID.
+     * <p>
+     * If {@link Settings#isDaoIdentityMap()} is active and this DAO is attached
+     * to the {@link Configuration} of a transaction, repeated lookups of the
+     * same ID within that transaction return the same record without querying
+     * the database again.
      *
      * @param id The ID of a record in the underlying table
      * @return A record of the underlying table given its ID, or
@@ -315,6 +321,33 @@ public interface DAO<R extends TableRecord<R>, P, T> {
     @Support
     P findById(T id) throws DataAccessException;
 
+    /**
+     * Find a record of the underlying table by ID, asynchronously.
+     * <p>
+     * Concurrent calls to this method are coalesced into a single query with
+     * a <code>WHERE pk IN (...)</code> predicate, which is executed on the
+     * {@link Configuration#executorProvider()} once the calls arriving within
+     * {@link Settings#getDaoLoaderWindow()} milliseconds have been collected.
+     * This avoids issuing one query per ID when many IDs of the same table are
+     * looked up independently, e.g. by GraphQL resolvers.
+     * <p>
+     * The connection of a transaction, or a single connection supplied to
+     * {@link org.jooq.impl.DSL#using(java.sql.Connection)}, must not be used
+     * by the executor concurrently with the caller. When the DAO is attached
+     * to such a connection, this method calls {@link #findById(Object)}
+     * synchronously instead, and returns a completed {@link CompletionStage}.
+     *
+     * @param id The ID of a record in the underlying table
+     * @return A {@link CompletionStage} that completes with a record of the
+     *         underlying table given its ID, or with <code>null</code> if no
+     *         record was found. It completes exceptionally with a
+     *         {@link DataAccessException} if something went wrong executing
+     *         the query.
+     */
+    @NotNull
+    @Support
+    CompletionStage<P> findByIdAsync(T id);
+
     /**
      * Find records by a given field and a set of values.
      *
@@ -8975,6 +8975,36 @@ public interface DSLContext extends Scope {
     @Support
     Batch batchDelete(Collection<? extends UpdatableRecord<?>> records);
 
+    /**
+     * Refresh a set of {@link UpdatableRecord}s from the database according
+     * to {@link UpdatableRecord#refresh()} semantics.
+     * <p>
+     * Rather than executing one query per record, records are fetched by
+     * their primary keys per table, in as few queries as the dialect's bind
+     * value limits allow. If any of the records no longer exists in the
+     * database, none of the records are refreshed.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws NoDataFoundException If any of the records does not exist
+     *             anymore in the database.
+     * @see UpdatableRecord#refresh()
+     */
+    @Support
+    void refresh(UpdatableRecord<?>... records) throws DataAccessException, NoDataFoundException;
+
+    /**
+     * Refresh a set of {@link UpdatableRecord}s from the database according
+     * to {@link UpdatableRecord#refresh()} semantics.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws NoDataFoundException If any of the records does not exist
+     *             anymore in the database.
+     * @see #refresh(UpdatableRecord...)
+     * @see UpdatableRecord#refresh()
+     */
+    @Support
+    void refresh(Collection<? extends UpdatableRecord<?>> records) throws DataAccessException, NoDataFoundException;
+
     // -------------------------------------------------------------------------
     // XXX DDL Statements from existing meta data
     // -------------------------------------------------------------------------
@@ -40,6 +40,7 @@ package org.jooq;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jetbrains.annotations.NotNull;
@@ -117,6 +118,33 @@ public interface DiagnosticsContext {
     @NotNull
     List<String> resultSetFetchedColumnNames();
 
+    /**
+     * The estimated number of bytes that were fetched into records, or
+     * <code>-1</code> if this is unknown.
+     */
+    long fetchedBytes();
+
+    /**
+     * The estimated number of bytes of the columns that were read from
+     * records, or <code>-1</code> if this is unknown.
+     */
+    long consumedBytes();
+
+    /**
+     * A column that is frequently used in predicates or join conditions, but
+     * that isn't supported by any index, or <code>null</code> if not
+     * applicable.
+     */
+    @Nullable
+    Field<?> unindexedField();
+
+    /**
+     * The statements that would benefit from an index on
+     * {@link #unindexedField()}, and the number of times they were executed.
+     */
+    @NotNull
+    Map<String, Integer> unindexedFieldStatements();
+
     /**
      * There had been an unnecessary {@link ResultSet#wasNull()} call to check
      * that a non-primitive type consumed previously was null, or the call was
@@ -73,6 +73,59 @@ public interface DiagnosticsListener {
      */
     void tooManyColumnsFetched(DiagnosticsContext ctx);
 
+    /**
+     * The fetched records contained columns whose values were never read by
+     * the application.
+     * <p>
+     * Unlike {@link #tooManyColumnsFetched(DiagnosticsContext)}, which is
+     * reported when a JDBC {@link ResultSet} column is not read into a record,
+     * this event is reported when columns are read into records (or POJOs
+     * produced from them), but the values are never accessed afterwards, e.g.
+     * when application code uses <code>selectFrom(TABLE)</code> and then only
+     * reads a few columns. For a sample of query executions, as specified in
+     * {@link org.jooq.conf.Settings#getDiagnosticsProjectionSampling()}, jOOQ
+     * tracks the columns that are read from the resulting records, aggregated
+     * per {@link DiagnosticsContext#normalisedStatement()}. This event is
+     * reported once per normalised statement, when most of the fetched bytes
+     * are estimated to belong to columns that were never read.
+     * <p>
+     * {@link DiagnosticsContext#resultSetFetchedColumnNames()},
+     * {@link DiagnosticsContext#resultSetConsumedColumnNames()},
+     * {@link DiagnosticsContext#fetchedBytes()}, and
+     * {@link DiagnosticsContext#consumedBytes()} will return the relevant
+     * aggregated values.
+     * <p>
+     * Typically, this problem can be remedied by projecting only the columns
+     * that are needed.
+     */
+    void unreadColumnsFetched(DiagnosticsContext ctx);
+
+    /**
+     * A column is frequently used in predicates or join conditions, but no
+     * index supports it.
+     * <p>
+     * If {@link org.jooq.conf.Settings#isDiagnosticsMissingIndexes()} is
+     * turned on, jOOQ inspects the <code>WHERE</code> and <code>JOIN</code>
+     * clauses of executed <code>SELECT</code>, <code>UPDATE</code>, and
+     * <code>DELETE</code> statements for equality and range predicates, and
+     * aggregates the columns they reference per table. Once a column has been
+     * used frequently, it is cross-checked against the leading columns of
+     * {@link Table#getIndexes()} and {@link Table#getKeys()}, which are looked
+     * up from {@link DSLContext#meta()} if the table doesn't provide any (e.g.
+     * because it wasn't generated). This event is reported once per column.
+     * <p>
+     * The {@link DSLContext#meta()} lookup runs asynchronously on the
+     * {@link Configuration#executorProvider()}, in which case this event is
+     * reported on one of its threads. As the lookup needs a connection of its
+     * own, it is skipped if jOOQ runs on a single JDBC connection or in a
+     * transaction.
+     * <p>
+     * {@link DiagnosticsContext#unindexedField()} and
+     * {@link DiagnosticsContext#unindexedFieldStatements()} will return the
+     * relevant column and the statements that would benefit from an index.
+     */
+    void missingIndex(DiagnosticsContext ctx);
+
     /**
      * The fetched JDBC {@link ResultSet} returned a value for a column, on
      * which {@link ResultSet#wasNull()} was called unnecessarily (more than
@@ -0,0 +1,147 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+/**
+ * The events that are emitted to an {@link ExecuteListener}.
+ *
+ * @see ExecuteListener#events()
+ * @author Lukas Eder
+ */
+public enum ExecuteEvent {
+
+    /**
+     * The {@link ExecuteListener#start(ExecuteContext)} event.
+     */
+    START,
+
+    /**
+     * The {@link ExecuteListener#renderStart(ExecuteContext)} event.
+     */
+    RENDER_START,
+
+    /**
+     * The {@link ExecuteListener#renderEnd(ExecuteContext)} event.
+     */
+    RENDER_END,
+
+    /**
+     * The {@link ExecuteListener#prepareStart(ExecuteContext)} event.
+     */
+    PREPARE_START,
+
+    /**
+     * The {@link ExecuteListener#prepareEnd(ExecuteContext)} event.
+     */
+    PREPARE_END,
+
+    /**
+     * The {@link ExecuteListener#bindStart(ExecuteContext)} event.
+     */
+    BIND_START,
+
+    /**
+     * The {@link ExecuteListener#bindEnd(ExecuteContext)} event.
+     */
+    BIND_END,
+
+    /**
+     * The {@link ExecuteListener#executeStart(ExecuteContext)} event.
+     */
+    EXECUTE_START,
+
+    /**
+     * The {@link ExecuteListener#executeEnd(ExecuteContext)} event.
+     */
+    EXECUTE_END,
+
+    /**
+     * The {@link ExecuteListener#outStart(ExecuteContext)} event.
+     */
+    OUT_START,
+
+    /**
+     * The {@link ExecuteListener#outEnd(ExecuteContext)} event.
+     */
+    OUT_END,
+
+    /**
+     * The {@link ExecuteListener#fetchStart(ExecuteContext)} event.
+     */
+    FETCH_START,
+
+    /**
+     * The {@link ExecuteListener#resultStart(ExecuteContext)} event.
+     */
+    RESULT_START,
+
+    /**
+     * The {@link ExecuteListener#recordStart(ExecuteContext)} event.
+     */
+    RECORD_START,
+
+    /**
+     * The {@link ExecuteListener#recordEnd(ExecuteContext)} event.
+     */
+    RECORD_END,
+
+    /**
+     * The {@link ExecuteListener#resultEnd(ExecuteContext)} event.
+     */
+    RESULT_END,
+
+    /**
+     * The {@link ExecuteListener#fetchEnd(ExecuteContext)} event.
+     */
+    FETCH_END,
+
+    /**
+     * The {@link ExecuteListener#end(ExecuteContext)} event.
+     */
+    END,
+
+    /**
+     * The {@link ExecuteListener#exception(ExecuteContext)} event.
+     */
+    EXCEPTION,
+
+    /**
+     * The {@link ExecuteListener#warning(ExecuteContext)} event.
+     */
+    WARNING
+}
@@ -43,7 +43,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
+import java.util.EnumSet;
 import java.util.EventListener;
+import java.util.Set;
 
 import org.jooq.conf.Settings;
 import org.jooq.conf.StatementType;
@@ -1182,6 +1184,26 @@ public interface ExecuteListener extends EventListener, Serializable {
      */
     void warning(ExecuteContext ctx);
 
+    /**
+     * The events that this listener consumes.
+     * <p>
+     * jOOQ may skip invoking this listener for all other events. This is
+     * especially useful to avoid the per-record overhead of
+     * {@link #recordStart(ExecuteContext)} and
+     * {@link #recordEnd(ExecuteContext)} when fetching large results. If none
+     * of the configured listeners consume any events, jOOQ skips event
+     * dispatching altogether.
+     * <p>
+     * This method is invoked once per execution, before the
+     * {@link #start(ExecuteContext)} event. By default, all events are
+     * consumed. {@link DefaultExecuteListener} subclasses consume only the
+     * events whose methods they override, and {@link CallbackExecuteListener}
+     * consumes only the events that it has handlers for.
+     */
+    default Set<ExecuteEvent> events() {
+        return EnumSet.allOf(ExecuteEvent.class);
+    }
+
     /**
      * Create an {@link ExecuteListener} with a {@link #start(ExecuteContext)}
      * implementation.
@@ -126,6 +126,23 @@ public interface ForeignKey<R extends Record, O extends Record> extends Key<R> {
     @NotNull
     Result<O> fetchParents(Collection<? extends R> records) throws DataAccessException;
 
+    /**
+     * Fetch parent records of a given set of record through this foreign key,
+     * and remember them in the given records.
+     * <p>
+     * This works like {@link #fetchParents(Collection)}, fetching parents in
+     * as few queries as the dialect's bind value limits allow. Subsequent
+     * calls to {@link #fetchParent(Record)} or
+     * {@link TableRecord#fetchParent(ForeignKey)} for any of the given records
+     * are served from the prefetched parents without executing any further
+     * queries, as long as the record's foreign key values have not changed.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #fetchParents(Collection)
+     */
+    @NotNull
+    Result<O> prefetchParents(Collection<? extends R> records) throws DataAccessException;
+
     /**
      * Fetch child records of a given record through this foreign key
      * <p>
@@ -167,6 +184,23 @@ public interface ForeignKey<R extends Record, O extends Record> extends Key<R> {
     @NotNull
     Result<R> fetchChildren(Collection<? extends O> records) throws DataAccessException;
 
+    /**
+     * Fetch child records of a given set of records through this foreign key,
+     * and remember them in the given records.
+     * <p>
+     * This works like {@link #fetchChildren(Collection)}, fetching children
+     * in as few queries as the dialect's bind value limits allow. Subsequent
+     * calls to {@link #fetchChildren(Record)} or
+     * {@link UpdatableRecord#fetchChildren(ForeignKey)} for any of the given
+     * records are served from the prefetched children without executing any
+     * further queries, as long as the record's key values have not changed.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #fetchChildren(Collection)
+     */
+    @NotNull
+    Result<R> prefetchChildren(Collection<? extends O> records) throws DataAccessException;
+
     /**
      * Get a table expression representing the parent of a record, given this
      * foreign key.
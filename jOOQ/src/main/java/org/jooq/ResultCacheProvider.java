@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.impl.DefaultResultCacheProvider;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A provider for a cache of query results.
+ * <p>
+ * When a {@link Configuration#resultCacheProvider()} is configured, every
+ * {@link ResultQuery} whose referenced tables and projected columns jOOQ knows
+ * of is looked up in the cache by its rendered SQL, projected columns, and bind
+ * values prior to execution. A cached
+ * {@link Result} is then served without acquiring a JDBC connection. Results
+ * are stored after being fetched eagerly (e.g. through
+ * {@link ResultQuery#fetch()}), in auto-commit mode.
+ * <p>
+ * Whenever the same {@link Configuration} executes an <code>INSERT</code>,
+ * <code>UPDATE</code>, <code>DELETE</code>, or <code>MERGE</code> statement,
+ * all cached results that reference the modified table are invalidated.
+ * Statements whose modified tables are unknown, such as DDL or plain SQL
+ * statements, invalidate all cached results. Reads whose results can't be
+ * cached, such as <code>SELECT .. FOR UPDATE</code>, don't invalidate
+ * anything. Modifications within a
+ * transaction are invalidated again when the transaction commits, as
+ * concurrent readers may cache the previously committed rows in the
+ * meantime. Modifications by other {@link Configuration} instances, other
+ * processes, triggers, or cascading foreign keys are not detected, so
+ * implementations should also expire entries after some time.
+ * <p>
+ * Implementations must be thread safe. See
+ * {@link DefaultResultCacheProvider} for a local, bounded, in-heap
+ * implementation.
+ *
+ * @author Lukas Eder
+ */
+public interface ResultCacheProvider {
+
+    /**
+     * Look up a cached result for a query, or return <code>null</code> if no
+     * valid result is cached.
+     * <p>
+     * A miss may be followed by a call to
+     * {@link #put(String, List, List, Collection, Result)} for the same query,
+     * once its result is fetched.
+     *
+     * @param sql The rendered SQL string of the query.
+     * @param columns A description of the query's projected columns. Queries
+     *            with the same SQL string may project columns of different
+     *            data types or with different converters, so a result may only
+     *            be reused for an equal description.
+     * @param bindValues The bind values of the query.
+     */
+    @Nullable
+    Result<?> get(String sql, List<?> columns, List<?> bindValues);
+
+    /**
+     * Store a detached result for a query.
+     *
+     * @param sql The rendered SQL string of the query.
+     * @param columns A description of the query's projected columns.
+     * @param bindValues The bind values of the query.
+     * @param tables The tables that are referenced by the query.
+     * @param result The detached result.
+     */
+    void put(String sql, List<?> columns, List<?> bindValues, Collection<? extends Table<?>> tables, Result<?> result);
+
+    /**
+     * Invalidate all cached results that reference any of the argument tables.
+     */
+    void invalidate(Collection<? extends Table<?>> tables);
+
+    /**
+     * Invalidate all cached results.
+     */
+    void invalidateAll();
+
+    /**
+     * Whether this provider caches anything at all, allowing jOOQ to skip
+     * computing cache keys for providers that don't.
+     */
+    default boolean enabled() {
+        return true;
+    }
+}
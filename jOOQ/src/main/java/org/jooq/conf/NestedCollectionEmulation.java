@@ -0,0 +1,41 @@
+
+package org.jooq.conf;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for NestedCollectionEmulation.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <pre>
+ * &lt;simpleType name="NestedCollectionEmulation"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="DEFAULT"/&gt;
+ *     &lt;enumeration value="JSON"/&gt;
+ *     &lt;enumeration value="JSONB"/&gt;
+ *     &lt;enumeration value="XML"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "NestedCollectionEmulation")
+@XmlEnum
+public enum NestedCollectionEmulation {
+
+    DEFAULT,
+    JSON,
+    JSONB,
+    XML;
+
+    public String value() {
+        return name();
+    }
+
+    public static NestedCollectionEmulation fromValue(String v) {
+        return valueOf(v);
+    }
+
+}
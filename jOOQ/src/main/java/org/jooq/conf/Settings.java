@@ -142,6 +142,8 @@ public class Settings
     @XmlElement(defaultValue = "DEFAULT")
     @XmlSchemaType(name = "string")
     protected InvocationOrder transactionListenerEndInvocationOrder = InvocationOrder.DEFAULT;
+    @XmlElement(defaultValue = "false")
+    protected Boolean transactionLazySavepoints = false;
     @XmlElement(defaultValue = "DEFAULT")
     @XmlSchemaType(name = "string")
     protected InvocationOrder migrationListenerStartInvocationOrder = InvocationOrder.DEFAULT;
@@ -176,6 +178,8 @@ public class Settings
     protected Boolean executeWithOptimisticLocking = false;
     @XmlElement(defaultValue = "false")
     protected Boolean executeWithOptimisticLockingExcludeUnversioned = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean executeWithOptimisticLockingUnversionedInWhereClause = false;
     @XmlElement(defaultValue = "true")
     protected Boolean attachRecords = true;
     @XmlElement(defaultValue = "true")
@@ -193,6 +197,12 @@ public class Settings
     protected Boolean cacheParsingConnection = true;
     @XmlElement(defaultValue = "8192")
     protected Integer cacheParsingConnectionLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheReflectionLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheRecordMappersLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheParsingConnectionNormalizeLiterals = false;
     @XmlElement(defaultValue = "true")
     protected Boolean cachePreparedStatementInLoader = true;
     @XmlElement(defaultValue = "THROW_ALL")
@@ -202,6 +212,10 @@ public class Settings
     protected Boolean fetchWarnings = true;
     @XmlElement(defaultValue = "0")
     protected Integer fetchServerOutputSize = 0;
+    @XmlElement(defaultValue = "0")
+    protected Integer diagnosticsProjectionSampling = 0;
+    @XmlElement(defaultValue = "false")
+    protected Boolean diagnosticsMissingIndexes = false;
     @XmlElement(defaultValue = "true")
     protected Boolean returnIdentityOnUpdatableRecord = true;
     @XmlElement(defaultValue = "false")
@@ -218,6 +232,10 @@ public class Settings
     protected Boolean mapConstructorParameterNames = false;
     @XmlElement(defaultValue = "true")
     protected Boolean mapConstructorParameterNamesInKotlin = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean daoIdentityMap = false;
+    @XmlElement(defaultValue = "0")
+    protected Integer daoLoaderWindow = 0;
     @XmlElement(defaultValue = "DEFAULT")
     @XmlSchemaType(name = "string")
     protected QueryPoolable queryPoolable = QueryPoolable.DEFAULT;
@@ -235,10 +253,15 @@ public class Settings
     protected Boolean inListPadding = false;
     @XmlElement(defaultValue = "2")
     protected Integer inListPadBase = 2;
+    @XmlElement(defaultValue = "false")
+    protected Boolean inListArrayBinding = false;
     @XmlElement(defaultValue = ";")
     protected String delimiter = ";";
     @XmlElement(defaultValue = "false")
     protected Boolean emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly = false;
+    @XmlElement(defaultValue = "DEFAULT")
+    @XmlSchemaType(name = "string")
+    protected NestedCollectionEmulation emulateMultiset = NestedCollectionEmulation.DEFAULT;
     @XmlElement(defaultValue = "LOG_DEBUG")
     @XmlSchemaType(name = "string")
     protected ExecuteWithoutWhere executeUpdateWithoutWhere = ExecuteWithoutWhere.LOG_DEBUG;
@@ -1335,6 +1358,32 @@ public class Settings
         this.transactionListenerEndInvocationOrder = value;
     }
 
+    /**
+     * Whether the DefaultTransactionProvider should defer creating the savepoint of a nested transaction until the first statement that may write data is executed within it.
+     * <p>
+     * Nested transactions that only read data then neither create nor release a savepoint. SELECT statements with locking clauses or with calls to sequences, stored functions, or plain SQL may write data. This requires all statements of the transaction to be executed through jOOQ. Dialects in which a failing statement aborts the whole transaction, such as POSTGRES, always create savepoints eagerly.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isTransactionLazySavepoints() {
+        return transactionLazySavepoints;
+    }
+
+    /**
+     * Sets the value of the transactionLazySavepoints property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setTransactionLazySavepoints(Boolean value) {
+        this.transactionLazySavepoints = value;
+    }
+
     /**
      * The order of invocation for [action]start() methods registered {@link org.jooq.MigrationListener}s.
      * 
@@ -1586,6 +1635,34 @@ public class Settings
         this.executeWithOptimisticLockingExcludeUnversioned = value;
     }
 
+    /**
+     * Whether optimistic locking of unversioned records should compare the original record values in the <code>WHERE</code> clause of the <code>UPDATE</code> or <code>DELETE</code> statement, rather than fetching the record with an additional <code>SELECT .. FOR UPDATE</code> statement.
+     * <p>
+     * Conflicts are then detected from the update count alone, in a single round trip, which also works with {@link org.jooq.DSLContext#batchStore(org.jooq.UpdatableRecord...)} and similar batch operations. LOB, JSON, XML, approximate numeric (FLOAT, REAL, DOUBLE), and other values that cannot be compared reliably are excluded from the comparison.
+     * <p>
+     * This flag has no effect when "executeWithOptimisticLocking" is turned off, or when "executeWithOptimisticLockingExcludeUnversioned" is turned on.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isExecuteWithOptimisticLockingUnversionedInWhereClause() {
+        return executeWithOptimisticLockingUnversionedInWhereClause;
+    }
+
+    /**
+     * Sets the value of the executeWithOptimisticLockingUnversionedInWhereClause property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setExecuteWithOptimisticLockingUnversionedInWhereClause(Boolean value) {
+        this.executeWithOptimisticLockingUnversionedInWhereClause = value;
+    }
+
     /**
      * Whether fetched records should be attached to the fetching configuration.
      * 
@@ -1765,6 +1842,64 @@ public class Settings
         this.cacheParsingConnectionLRUCacheSize = value;
     }
 
+    /**
+     * The default implementation of the reflection caches' LRU cache size, per {@link org.jooq.impl.CacheType}.
+     * 
+     */
+    public Integer getCacheReflectionLRUCacheSize() {
+        return cacheReflectionLRUCacheSize;
+    }
+
+    /**
+     * The default implementation of the reflection caches' LRU cache size, per {@link org.jooq.impl.CacheType}.
+     * 
+     */
+    public void setCacheReflectionLRUCacheSize(Integer value) {
+        this.cacheReflectionLRUCacheSize = value;
+    }
+
+    /**
+     * The default implementation of the record mapper cache's LRU cache size.
+     * 
+     */
+    public Integer getCacheRecordMappersLRUCacheSize() {
+        return cacheRecordMappersLRUCacheSize;
+    }
+
+    /**
+     * The default implementation of the record mapper cache's LRU cache size.
+     * 
+     */
+    public void setCacheRecordMappersLRUCacheSize(Integer value) {
+        this.cacheRecordMappersLRUCacheSize = value;
+    }
+
+    /**
+     * Whether the ParsingConnection should extract literals from comparison predicates, LIKE predicates, and IN lists into bind values prior to looking up cached translations.
+     * <p>
+     * This helps reduce cache misses for SQL strings that differ only in inlined literals. If {@link #isInListPadding()} is active, IN lists consisting only of bind values are padded prior to looking up cached translations as well. String literals are extracted only from LIKE predicates, as elsewhere, some dialects infer their type from the other operand, which a VARCHAR bind value would prevent.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheParsingConnectionNormalizeLiterals() {
+        return cacheParsingConnectionNormalizeLiterals;
+    }
+
+    /**
+     * Sets the value of the cacheParsingConnectionNormalizeLiterals property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheParsingConnectionNormalizeLiterals(Boolean value) {
+        this.cacheParsingConnectionNormalizeLiterals = value;
+    }
+
     /**
      * Whether JDBC {@link java.sql.PreparedStatement} instances should be cached in loader API.
      * 
@@ -1845,6 +1980,46 @@ public class Settings
         this.fetchServerOutputSize = value;
     }
 
+    /**
+     * Every how many query executions the columns that are read from fetched records should be tracked, for DiagnosticsListener#unreadColumnsFetched() to be reported. 0 turns off tracking.
+     * 
+     */
+    public Integer getDiagnosticsProjectionSampling() {
+        return diagnosticsProjectionSampling;
+    }
+
+    /**
+     * Every how many query executions the columns that are read from fetched records should be tracked, for DiagnosticsListener#unreadColumnsFetched() to be reported. 0 turns off tracking.
+     * 
+     */
+    public void setDiagnosticsProjectionSampling(Integer value) {
+        this.diagnosticsProjectionSampling = value;
+    }
+
+    /**
+     * Whether the columns used in predicates and join conditions of executed queries should be tracked, for DiagnosticsListener#missingIndex() to be reported.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isDiagnosticsMissingIndexes() {
+        return diagnosticsMissingIndexes;
+    }
+
+    /**
+     * Sets the value of the diagnosticsMissingIndexes property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setDiagnosticsMissingIndexes(Boolean value) {
+        this.diagnosticsMissingIndexes = value;
+    }
+
     /**
      * Whether calls to store(), insert() and update() should return the identity column.
      * 
@@ -2042,6 +2217,46 @@ public class Settings
         this.mapConstructorParameterNamesInKotlin = value;
     }
 
+    /**
+     * Whether a DAO attached to a transaction's Configuration should keep an identity map of the POJOs it has looked up by ID, returning the same POJO for repeated lookups of the same ID within the transaction.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isDaoIdentityMap() {
+        return daoIdentityMap;
+    }
+
+    /**
+     * Sets the value of the daoIdentityMap property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setDaoIdentityMap(Boolean value) {
+        this.daoIdentityMap = value;
+    }
+
+    /**
+     * The number of milliseconds during which concurrent DAO.findByIdAsync() calls are collected before being loaded in a single query. With 0, all calls are collected that are made before the loading task runs on the Configuration's ExecutorProvider.
+     * 
+     */
+    public Integer getDaoLoaderWindow() {
+        return daoLoaderWindow;
+    }
+
+    /**
+     * The number of milliseconds during which concurrent DAO.findByIdAsync() calls are collected before being loaded in a single query. With 0, all calls are collected that are made before the loading task runs on the Configuration's ExecutorProvider.
+     * 
+     */
+    public void setDaoLoaderWindow(Integer value) {
+        this.daoLoaderWindow = value;
+    }
+
     /**
      * The default JDBC poolable property that should be applied to all
      * jOOQ queries, for which no specific poolable flag was specified.
@@ -2194,6 +2409,32 @@ public class Settings
         this.inListPadBase = value;
     }
 
+    /**
+     * Whether IN lists consisting only of bind values should be bound as a single array, e.g. using <code>= ANY(?)</code>, in dialects that support it.
+     * <p>
+     * This keeps the SQL string constant regardless of the list size, which avoids excessive parsing and statement cache pollution. Dialects that don't support array binding continue to apply inListPadding, if active.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isInListArrayBinding() {
+        return inListArrayBinding;
+    }
+
+    /**
+     * Sets the value of the inListArrayBinding property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setInListArrayBinding(Boolean value) {
+        this.inListArrayBinding = value;
+    }
+
     /**
      * [#5826] The delimiter character to be used to delimit statements in batches.
      * 
@@ -2234,6 +2475,22 @@ public class Settings
         this.emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly = value;
     }
 
+    /**
+     * How MULTISET nested collections should be emulated in SQL.
+     * 
+     */
+    public NestedCollectionEmulation getEmulateMultiset() {
+        return emulateMultiset;
+    }
+
+    /**
+     * How MULTISET nested collections should be emulated in SQL.
+     * 
+     */
+    public void setEmulateMultiset(NestedCollectionEmulation value) {
+        this.emulateMultiset = value;
+    }
+
     /**
      * [#6771] Specifies whether UPDATE statements are allowed to be executed lacking a WHERE clause. This has no effect on rendering the statements SQL string.
      * 
@@ -3268,6 +3525,11 @@ public class Settings
         return this;
     }
 
+    public Settings withTransactionLazySavepoints(Boolean value) {
+        setTransactionLazySavepoints(value);
+        return this;
+    }
+
     /**
      * The order of invocation for [action]start() methods registered {@link org.jooq.MigrationListener}s.
      * 
@@ -3365,6 +3627,11 @@ public class Settings
         return this;
     }
 
+    public Settings withExecuteWithOptimisticLockingUnversionedInWhereClause(Boolean value) {
+        setExecuteWithOptimisticLockingUnversionedInWhereClause(value);
+        return this;
+    }
+
     public Settings withAttachRecords(Boolean value) {
         setAttachRecords(value);
         return this;
@@ -3413,6 +3680,29 @@ public class Settings
         return this;
     }
 
+    /**
+     * The default implementation of the reflection caches' LRU cache size, per {@link org.jooq.impl.CacheType}.
+     * 
+     */
+    public Settings withCacheReflectionLRUCacheSize(Integer value) {
+        setCacheReflectionLRUCacheSize(value);
+        return this;
+    }
+
+    /**
+     * The default implementation of the record mapper cache's LRU cache size.
+     * 
+     */
+    public Settings withCacheRecordMappersLRUCacheSize(Integer value) {
+        setCacheRecordMappersLRUCacheSize(value);
+        return this;
+    }
+
+    public Settings withCacheParsingConnectionNormalizeLiterals(Boolean value) {
+        setCacheParsingConnectionNormalizeLiterals(value);
+        return this;
+    }
+
     public Settings withCachePreparedStatementInLoader(Boolean value) {
         setCachePreparedStatementInLoader(value);
         return this;
@@ -3441,6 +3731,20 @@ public class Settings
         return this;
     }
 
+    /**
+     * Every how many query executions the columns that are read from fetched records should be tracked, for DiagnosticsListener#unreadColumnsFetched() to be reported. 0 turns off tracking.
+     * 
+     */
+    public Settings withDiagnosticsProjectionSampling(Integer value) {
+        setDiagnosticsProjectionSampling(value);
+        return this;
+    }
+
+    public Settings withDiagnosticsMissingIndexes(Boolean value) {
+        setDiagnosticsMissingIndexes(value);
+        return this;
+    }
+
     public Settings withReturnIdentityOnUpdatableRecord(Boolean value) {
         setReturnIdentityOnUpdatableRecord(value);
         return this;
@@ -3481,6 +3785,20 @@ public class Settings
         return this;
     }
 
+    public Settings withDaoIdentityMap(Boolean value) {
+        setDaoIdentityMap(value);
+        return this;
+    }
+
+    /**
+     * The number of milliseconds during which concurrent DAO.findByIdAsync() calls are collected before being loaded in a single query. With 0, all calls are collected that are made before the loading task runs on the Configuration's ExecutorProvider.
+     * 
+     */
+    public Settings withDaoLoaderWindow(Integer value) {
+        setDaoLoaderWindow(value);
+        return this;
+    }
+
     /**
      * The default JDBC poolable property that should be applied to all
      * jOOQ queries, for which no specific poolable flag was specified.
@@ -3549,6 +3867,11 @@ public class Settings
         return this;
     }
 
+    public Settings withInListArrayBinding(Boolean value) {
+        setInListArrayBinding(value);
+        return this;
+    }
+
     /**
      * [#5826] The delimiter character to be used to delimit statements in batches.
      * 
@@ -3563,6 +3886,15 @@ public class Settings
         return this;
     }
 
+    /**
+     * How MULTISET nested collections should be emulated in SQL.
+     * 
+     */
+    public Settings withEmulateMultiset(NestedCollectionEmulation value) {
+        setEmulateMultiset(value);
+        return this;
+    }
+
     /**
      * [#6771] Specifies whether UPDATE statements are allowed to be executed lacking a WHERE clause. This has no effect on rendering the statements SQL string.
      * 
@@ -3907,6 +4239,7 @@ public class Settings
         builder.append("inlineThreshold", inlineThreshold);
         builder.append("transactionListenerStartInvocationOrder", transactionListenerStartInvocationOrder);
         builder.append("transactionListenerEndInvocationOrder", transactionListenerEndInvocationOrder);
+        builder.append("transactionLazySavepoints", transactionLazySavepoints);
         builder.append("migrationListenerStartInvocationOrder", migrationListenerStartInvocationOrder);
         builder.append("migrationListenerEndInvocationOrder", migrationListenerEndInvocationOrder);
         builder.append("visitListenerStartInvocationOrder", visitListenerStartInvocationOrder);
@@ -3920,6 +4253,7 @@ public class Settings
         builder.append("updateRecordTimestamp", updateRecordTimestamp);
         builder.append("executeWithOptimisticLocking", executeWithOptimisticLocking);
         builder.append("executeWithOptimisticLockingExcludeUnversioned", executeWithOptimisticLockingExcludeUnversioned);
+        builder.append("executeWithOptimisticLockingUnversionedInWhereClause", executeWithOptimisticLockingUnversionedInWhereClause);
         builder.append("attachRecords", attachRecords);
         builder.append("insertUnchangedRecords", insertUnchangedRecords);
         builder.append("updateUnchangedRecords", updateUnchangedRecords);
@@ -3928,10 +4262,15 @@ public class Settings
         builder.append("cacheRecordMappers", cacheRecordMappers);
         builder.append("cacheParsingConnection", cacheParsingConnection);
         builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
+        builder.append("cacheReflectionLRUCacheSize", cacheReflectionLRUCacheSize);
+        builder.append("cacheRecordMappersLRUCacheSize", cacheRecordMappersLRUCacheSize);
+        builder.append("cacheParsingConnectionNormalizeLiterals", cacheParsingConnectionNormalizeLiterals);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
         builder.append("throwExceptions", throwExceptions);
         builder.append("fetchWarnings", fetchWarnings);
         builder.append("fetchServerOutputSize", fetchServerOutputSize);
+        builder.append("diagnosticsProjectionSampling", diagnosticsProjectionSampling);
+        builder.append("diagnosticsMissingIndexes", diagnosticsMissingIndexes);
         builder.append("returnIdentityOnUpdatableRecord", returnIdentityOnUpdatableRecord);
         builder.append("returnAllOnUpdatableRecord", returnAllOnUpdatableRecord);
         builder.append("returnRecordToPojo", returnRecordToPojo);
@@ -3940,6 +4279,8 @@ public class Settings
         builder.append("mapConstructorPropertiesParameterNames", mapConstructorPropertiesParameterNames);
         builder.append("mapConstructorParameterNames", mapConstructorParameterNames);
         builder.append("mapConstructorParameterNamesInKotlin", mapConstructorParameterNamesInKotlin);
+        builder.append("daoIdentityMap", daoIdentityMap);
+        builder.append("daoLoaderWindow", daoLoaderWindow);
         builder.append("queryPoolable", queryPoolable);
         builder.append("queryTimeout", queryTimeout);
         builder.append("maxRows", maxRows);
@@ -3948,8 +4289,10 @@ public class Settings
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
         builder.append("inListPadBase", inListPadBase);
+        builder.append("inListArrayBinding", inListArrayBinding);
         builder.append("delimiter", delimiter);
         builder.append("emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly", emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly);
+        builder.append("emulateMultiset", emulateMultiset);
         builder.append("executeUpdateWithoutWhere", executeUpdateWithoutWhere);
         builder.append("executeDeleteWithoutWhere", executeDeleteWithoutWhere);
         builder.append("interpreterDialect", interpreterDialect);
@@ -4382,6 +4725,15 @@ public class Settings
                 return false;
             }
         }
+        if (transactionLazySavepoints == null) {
+            if (other.transactionLazySavepoints!= null) {
+                return false;
+            }
+        } else {
+            if (!transactionLazySavepoints.equals(other.transactionLazySavepoints)) {
+                return false;
+            }
+        }
         if (migrationListenerStartInvocationOrder == null) {
             if (other.migrationListenerStartInvocationOrder!= null) {
                 return false;
@@ -4499,6 +4851,15 @@ public class Settings
                 return false;
             }
         }
+        if (executeWithOptimisticLockingUnversionedInWhereClause == null) {
+            if (other.executeWithOptimisticLockingUnversionedInWhereClause!= null) {
+                return false;
+            }
+        } else {
+            if (!executeWithOptimisticLockingUnversionedInWhereClause.equals(other.executeWithOptimisticLockingUnversionedInWhereClause)) {
+                return false;
+            }
+        }
         if (attachRecords == null) {
             if (other.attachRecords!= null) {
                 return false;
@@ -4571,6 +4932,33 @@ public class Settings
                 return false;
             }
         }
+        if (cacheReflectionLRUCacheSize == null) {
+            if (other.cacheReflectionLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheReflectionLRUCacheSize.equals(other.cacheReflectionLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (cacheRecordMappersLRUCacheSize == null) {
+            if (other.cacheRecordMappersLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRecordMappersLRUCacheSize.equals(other.cacheRecordMappersLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (cacheParsingConnectionNormalizeLiterals == null) {
+            if (other.cacheParsingConnectionNormalizeLiterals!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParsingConnectionNormalizeLiterals.equals(other.cacheParsingConnectionNormalizeLiterals)) {
+                return false;
+            }
+        }
         if (cachePreparedStatementInLoader == null) {
             if (other.cachePreparedStatementInLoader!= null) {
                 return false;
@@ -4607,6 +4995,24 @@ public class Settings
                 return false;
             }
         }
+        if (diagnosticsProjectionSampling == null) {
+            if (other.diagnosticsProjectionSampling!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsProjectionSampling.equals(other.diagnosticsProjectionSampling)) {
+                return false;
+            }
+        }
+        if (diagnosticsMissingIndexes == null) {
+            if (other.diagnosticsMissingIndexes!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsMissingIndexes.equals(other.diagnosticsMissingIndexes)) {
+                return false;
+            }
+        }
         if (returnIdentityOnUpdatableRecord == null) {
             if (other.returnIdentityOnUpdatableRecord!= null) {
                 return false;
@@ -4679,6 +5085,24 @@ public class Settings
                 return false;
             }
         }
+        if (daoIdentityMap == null) {
+            if (other.daoIdentityMap!= null) {
+                return false;
+            }
+        } else {
+            if (!daoIdentityMap.equals(other.daoIdentityMap)) {
+                return false;
+            }
+        }
+        if (daoLoaderWindow == null) {
+            if (other.daoLoaderWindow!= null) {
+                return false;
+            }
+        } else {
+            if (!daoLoaderWindow.equals(other.daoLoaderWindow)) {
+                return false;
+            }
+        }
         if (queryPoolable == null) {
             if (other.queryPoolable!= null) {
                 return false;
@@ -4751,6 +5175,15 @@ public class Settings
                 return false;
             }
         }
+        if (inListArrayBinding == null) {
+            if (other.inListArrayBinding!= null) {
+                return false;
+            }
+        } else {
+            if (!inListArrayBinding.equals(other.inListArrayBinding)) {
+                return false;
+            }
+        }
         if (delimiter == null) {
             if (other.delimiter!= null) {
                 return false;
@@ -4769,6 +5202,15 @@ public class Settings
                 return false;
             }
         }
+        if (emulateMultiset == null) {
+            if (other.emulateMultiset!= null) {
+                return false;
+            }
+        } else {
+            if (!emulateMultiset.equals(other.emulateMultiset)) {
+                return false;
+            }
+        }
         if (executeUpdateWithoutWhere == null) {
             if (other.executeUpdateWithoutWhere!= null) {
                 return false;
@@ -5115,6 +5557,7 @@ public class Settings
         result = ((prime*result)+((inlineThreshold == null)? 0 :inlineThreshold.hashCode()));
         result = ((prime*result)+((transactionListenerStartInvocationOrder == null)? 0 :transactionListenerStartInvocationOrder.hashCode()));
         result = ((prime*result)+((transactionListenerEndInvocationOrder == null)? 0 :transactionListenerEndInvocationOrder.hashCode()));
+        result = ((prime*result)+((transactionLazySavepoints == null)? 0 :transactionLazySavepoints.hashCode()));
         result = ((prime*result)+((migrationListenerStartInvocationOrder == null)? 0 :migrationListenerStartInvocationOrder.hashCode()));
         result = ((prime*result)+((migrationListenerEndInvocationOrder == null)? 0 :migrationListenerEndInvocationOrder.hashCode()));
         result = ((prime*result)+((visitListenerStartInvocationOrder == null)? 0 :visitListenerStartInvocationOrder.hashCode()));
@@ -5128,6 +5571,7 @@ public class Settings
         result = ((prime*result)+((updateRecordTimestamp == null)? 0 :updateRecordTimestamp.hashCode()));
         result = ((prime*result)+((executeWithOptimisticLocking == null)? 0 :executeWithOptimisticLocking.hashCode()));
         result = ((prime*result)+((executeWithOptimisticLockingExcludeUnversioned == null)? 0 :executeWithOptimisticLockingExcludeUnversioned.hashCode()));
+        result = ((prime*result)+((executeWithOptimisticLockingUnversionedInWhereClause == null)? 0 :executeWithOptimisticLockingUnversionedInWhereClause.hashCode()));
         result = ((prime*result)+((attachRecords == null)? 0 :attachRecords.hashCode()));
         result = ((prime*result)+((insertUnchangedRecords == null)? 0 :insertUnchangedRecords.hashCode()));
         result = ((prime*result)+((updateUnchangedRecords == null)? 0 :updateUnchangedRecords.hashCode()));
@@ -5136,10 +5580,15 @@ public class Settings
         result = ((prime*result)+((cacheRecordMappers == null)? 0 :cacheRecordMappers.hashCode()));
         result = ((prime*result)+((cacheParsingConnection == null)? 0 :cacheParsingConnection.hashCode()));
         result = ((prime*result)+((cacheParsingConnectionLRUCacheSize == null)? 0 :cacheParsingConnectionLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheReflectionLRUCacheSize == null)? 0 :cacheReflectionLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheRecordMappersLRUCacheSize == null)? 0 :cacheRecordMappersLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheParsingConnectionNormalizeLiterals == null)? 0 :cacheParsingConnectionNormalizeLiterals.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
         result = ((prime*result)+((fetchWarnings == null)? 0 :fetchWarnings.hashCode()));
         result = ((prime*result)+((fetchServerOutputSize == null)? 0 :fetchServerOutputSize.hashCode()));
+        result = ((prime*result)+((diagnosticsProjectionSampling == null)? 0 :diagnosticsProjectionSampling.hashCode()));
+        result = ((prime*result)+((diagnosticsMissingIndexes == null)? 0 :diagnosticsMissingIndexes.hashCode()));
         result = ((prime*result)+((returnIdentityOnUpdatableRecord == null)? 0 :returnIdentityOnUpdatableRecord.hashCode()));
         result = ((prime*result)+((returnAllOnUpdatableRecord == null)? 0 :returnAllOnUpdatableRecord.hashCode()));
         result = ((prime*result)+((returnRecordToPojo == null)? 0 :returnRecordToPojo.hashCode()));
@@ -5148,6 +5597,8 @@ public class Settings
         result = ((prime*result)+((mapConstructorPropertiesParameterNames == null)? 0 :mapConstructorPropertiesParameterNames.hashCode()));
         result = ((prime*result)+((mapConstructorParameterNames == null)? 0 :mapConstructorParameterNames.hashCode()));
         result = ((prime*result)+((mapConstructorParameterNamesInKotlin == null)? 0 :mapConstructorParameterNamesInKotlin.hashCode()));
+        result = ((prime*result)+((daoIdentityMap == null)? 0 :daoIdentityMap.hashCode()));
+        result = ((prime*result)+((daoLoaderWindow == null)? 0 :daoLoaderWindow.hashCode()));
         result = ((prime*result)+((queryPoolable == null)? 0 :queryPoolable.hashCode()));
         result = ((prime*result)+((queryTimeout == null)? 0 :queryTimeout.hashCode()));
         result = ((prime*result)+((maxRows == null)? 0 :maxRows.hashCode()));
@@ -5156,8 +5607,10 @@ public class Settings
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
         result = ((prime*result)+((inListPadBase == null)? 0 :inListPadBase.hashCode()));
+        result = ((prime*result)+((inListArrayBinding == null)? 0 :inListArrayBinding.hashCode()));
         result = ((prime*result)+((delimiter == null)? 0 :delimiter.hashCode()));
         result = ((prime*result)+((emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly == null)? 0 :emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly.hashCode()));
+        result = ((prime*result)+((emulateMultiset == null)? 0 :emulateMultiset.hashCode()));
         result = ((prime*result)+((executeUpdateWithoutWhere == null)? 0 :executeUpdateWithoutWhere.hashCode()));
         result = ((prime*result)+((executeDeleteWithoutWhere == null)? 0 :executeDeleteWithoutWhere.hashCode()));
         result = ((prime*result)+((interpreterDialect == null)? 0 :interpreterDialect.hashCode()));
@@ -75,6 +75,6 @@ abstract class AbstractBatch implements Batch {
 
     @Override
     public final CompletionStage<int[]> executeAsync(Executor executor) {
-        return ExecutorProviderCompletionStage.of(CompletableFuture.supplyAsync(blocking(this::execute), executor), () -> executor);
+        return ExecutorProviderCompletionStage.of(CompletableFuture.supplyAsync(blocking(Deadline.propagate(this::execute)), executor), () -> executor);
     }
 }
@@ -276,6 +276,11 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
         return table;
     }
 
+    @Override
+    final void invalidateCachedResults(Configuration c) {
+        ResultCaching.invalidate(c, table);
+    }
+
     final Table<?> table(Context<?> ctx) {
 
 
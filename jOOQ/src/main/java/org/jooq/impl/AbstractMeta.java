@@ -566,6 +566,14 @@ abstract class AbstractMeta extends AbstractScope implements Meta, Serializable
 
     @Override
     public final Meta apply(Queries migration) {
+        return apply0(migration);
+    }
+
+    /**
+     * Subclasses may override this to apply a migration more efficiently than
+     * by exporting and re-interpreting the entire schema.
+     */
+    Meta apply0(Queries migration) {
         return dsl().meta(ddl().concat(migration).queries());
     }
 
@@ -576,6 +584,15 @@ abstract class AbstractMeta extends AbstractScope implements Meta, Serializable
 
     @Override
     public final Queries migrateTo(Meta other, org.jooq.MigrationConfiguration c) {
+
+        // Interpreted meta snapshots know what has changed since their ancestors
+        if (other instanceof Interpreter.InterpreterMeta) {
+            Queries result = ((Interpreter.InterpreterMeta) other).migrateFrom(this, c);
+
+            if (result != null)
+                return result;
+        }
+
         return new Diff(configuration(), c, this, other).queries();
     }
 
@@ -55,6 +55,9 @@ import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.consumeExceptions;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_COUNT_BIND_VALUES;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_FORCE_STATIC_STATEMENT;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_READ_ONLY_QUERY;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_RENDERED_OPAQUE;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_RENDER_STATIC_STATEMENT;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -279,6 +282,9 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
 
                     // [#6903] Increment and set the new statement execution count on re-execution
                     ctx.withStatementExecutionCount(++statementExecutionCount);
+
+                    if (rendered.readOnly)
+                        ctx.data(DATA_READ_ONLY_QUERY, true);
                 }
 
                 // [#385] First time statement preparing
@@ -289,6 +295,16 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
                     listener.renderEnd(ctx);
                     rendered.sql = ctx.sql();
 
+                    // Results served from a ResultCacheProvider don't need a
+                    // connection, which is why they're looked up first
+                    int cached = cached(c);
+                    if (cached >= 0) {
+                        if (keepResultSet())
+                            Tools.safeClose(listener, ctx);
+
+                        return cached;
+                    }
+
                     // [#3234] Defer initialising of a connection until the prepare step
                     // This optimises unnecessary ConnectionProvider.acquire() calls when
                     // ControlFlowSignals are thrown
@@ -303,9 +319,8 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
                 }
 
                 // [#1856] [#4753] Set the query timeout onto the Statement
-                int t = SettingsTools.getQueryTimeout(timeout, ctx.settings());
-                if (t != 0)
-                    ctx.statement().setQueryTimeout(t);
+                // Deadlines may further restrict the timeout
+                Deadline.queryTimeout(ctx, SettingsTools.getQueryTimeout(timeout, ctx.settings()));
 
                 QueryPoolable p = SettingsTools.getQueryPoolable(poolable, ctx.settings());
                 if (p == QueryPoolable.TRUE)
@@ -324,12 +339,15 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
                     !TRUE.equals(ctx.data(DATA_FORCE_STATIC_STATEMENT))) {
 
                     listener.bindStart(ctx);
-                    if (rendered.bindValues != null)
+                    if (rendered.bindValues != null) {
+                        ctx.bindValues(rendered.bindValues);
                         using(c).bindContext(ctx.statement()).visit(rendered.bindValues);
+                    }
                     listener.bindEnd(ctx);
                 }
 
                 result = execute(ctx, listener);
+                invalidateCachedResults(c);
                 return result;
             }
 
@@ -375,7 +393,30 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
 
     @Override
     public final CompletionStage<Integer> executeAsync(Executor executor) {
-        return ExecutorProviderCompletionStage.of(CompletableFuture.supplyAsync(blocking(this::execute), executor), () -> executor);
+        return ExecutorProviderCompletionStage.of(CompletableFuture.supplyAsync(blocking(Deadline.propagate(this::execute)), executor), () -> executor);
+    }
+
+    /**
+     * Look up the result of this query in the
+     * {@link Configuration#resultCacheProvider()}, after rendering it.
+     *
+     * @return The number of cached rows, or <code>-1</code> if the query must
+     *         be executed.
+     */
+    int cached(Configuration c) {
+        return -1;
+    }
+
+    /**
+     * Invalidate the results in the {@link Configuration#resultCacheProvider()}
+     * that may have been affected by a successful execution of this query.
+     * <p>
+     * By default, a query may modify any table, e.g. when it is a DDL or plain
+     * SQL statement, so all cached results are invalidated. Subclasses may
+     * override this method.
+     */
+    void invalidateCachedResults(Configuration c) {
+        ResultCaching.invalidateAll(c);
     }
 
     /**
@@ -438,6 +479,18 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
         }
     }
 
+    /**
+     * Whether this query is known not to modify or lock any data, such that it
+     * may be executed on a read replica. Subclasses may override this method.
+     * <p>
+     * Plain SQL, sequences, and stored functions contained in the query may
+     * still have side effects, which is known only after rendering, see
+     * {@link Tools.BooleanDataKey#DATA_READ_ONLY_QUERY}.
+     */
+    boolean isReadOnly() {
+        return false;
+    }
+
     /**
      * Default implementation for executable check. Subclasses may override this
      * method.
@@ -457,6 +510,7 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
         if (ctx.type() == DDL) {
             ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
             render = new DefaultRenderContext(c);
+            render.data(DATA_RENDER_STATIC_STATEMENT, true);
             result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.skipUpdateCounts());
         }
         else if (executePreparedStatements(configuration().settings())) {
@@ -468,11 +522,13 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
             catch (DefaultRenderContext.ForceInlineSignal e) {
                 ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
                 render = new DefaultRenderContext(c);
+                render.data(DATA_RENDER_STATIC_STATEMENT, true);
                 result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.skipUpdateCounts());
             }
         }
         else {
             render = new DefaultRenderContext(c);
+            render.data(DATA_RENDER_STATIC_STATEMENT, true);
             result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.skipUpdateCounts());
         }
 
@@ -499,6 +555,12 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
 
 
 
+
+        // Plain SQL, sequences, and stored functions may have side effects
+        if (isReadOnly() && !TRUE.equals(render.data(DATA_RENDERED_OPAQUE))) {
+            result.readOnly = true;
+            ctx.data(DATA_READ_ONLY_QUERY, true);
+        }
 
         return result;
     }
@@ -124,6 +124,9 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     final BitSet                                changed;
     boolean                                     fetched;
 
+    // The columns read by the application, tracked by DiagnosticsProjectionListener
+    transient BitSet                            read;
+
     /**
      * @deprecated - 3.14.5 - [#8495] [#11058] - Re-use AbstractRow reference if possible
      */
@@ -344,7 +347,12 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final Object get(int index) {
-        return values[safeIndex(index)];
+        int i = safeIndex(index);
+
+        if (read != null)
+            read.set(i);
+
+        return values[i];
     }
 
     @Override
@@ -869,6 +877,9 @@ abstract class AbstractRecord extends AbstractStore implements Record {
                         if (sourceIndex >= 0) {
                             DataType<?> targetType = targetField.getDataType();
 
+                            if (read != null)
+                                read.set(sourceIndex);
+
                             t.values[targetIndex] = targetType.convert(values[sourceIndex]);
                             t.originals[targetIndex] = targetType.convert(originals[sourceIndex]);
                             t.changed.set(targetIndex, changed.get(sourceIndex));
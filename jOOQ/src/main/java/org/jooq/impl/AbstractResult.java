@@ -50,6 +50,9 @@ import static org.jooq.tools.StringUtils.abbreviate;
 import static org.jooq.tools.StringUtils.leftPad;
 import static org.jooq.tools.StringUtils.rightPad;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.Writer;
 import java.sql.Date;
@@ -57,6 +60,7 @@ import java.sql.Timestamp;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
@@ -765,6 +769,33 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             JSONValue.writeJSONString(DatatypeConverter.printBase64Binary((byte[]) value), writer);
         }
 
+        // Streamed LOBs are encoded on the fly, without materialising them
+        else if (value instanceof InputStream) {
+            writer.append('"');
+
+            try (OutputStream out = Base64.getEncoder().wrap(new OutputStream() {
+                @Override
+                public void write(int b) throws java.io.IOException {
+                    writer.write(b);
+                }
+            })) {
+                LobStreams.copy((InputStream) value, out);
+            }
+
+            writer.append('"');
+        }
+        else if (value instanceof Reader) {
+            char[] buffer = new char[8192];
+            writer.append('"');
+
+            try (Reader in = (Reader) value) {
+                for (int n; (n = in.read(buffer)) != -1;)
+                    writer.write(JSONValue.escape(new String(buffer, 0, n)));
+            }
+
+            writer.append('"');
+        }
+
         // [#6563] Arrays can be serialised natively in JSON
         else if (value instanceof Object[]) {
             Object[] array = (Object[]) value;
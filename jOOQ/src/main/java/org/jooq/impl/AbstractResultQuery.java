@@ -61,6 +61,7 @@ import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Result;
+import org.jooq.ResultCacheProvider;
 import org.jooq.ResultQuery;
 import org.jooq.Results;
 import org.jooq.SQLDialect;
@@ -258,6 +259,7 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery<R> im
             if (!lazy) {
                 result = cursor.fetch();
                 cursor = null;
+                cache(ctx);
             }
         }
 
@@ -275,6 +277,86 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery<R> im
         return lazy;
     }
 
+    /**
+     * Whether the result of this query may be stored in a
+     * {@link Configuration#resultCacheProvider()}. Subclasses may override
+     * this method.
+     */
+    boolean isCacheable() {
+        return !many && coerceFields == null;
+    }
+
+    private final boolean isCacheable(Configuration c, ResultCacheProvider cache) {
+        return cache.enabled()
+            && isCacheable()
+            && !keepStatement()
+            && SettingsTools.getMaxRows(maxRows, c.settings()) == 0;
+    }
+
+    /**
+     * The fields projected by this query, if they are known prior to its
+     * execution, or <code>null</code> if they are only known from the
+     * {@link ResultSetMetaData}, in case of which results aren't cached.
+     * Subclasses may override this method.
+     */
+    Field<?>[] getCacheableFields() {
+        return null;
+    }
+
+    /**
+     * Whether this query may modify any data, such that cached results must
+     * be invalidated after its execution. Subclasses may override this method.
+     */
+    boolean isModifying() {
+        return true;
+    }
+
+    @Override
+    final int cached(Configuration c) {
+        ResultCacheProvider cache = c.resultCacheProvider();
+        Field<?>[] fields;
+
+        if (isCacheable(c, cache) && (fields = getCacheableFields()) != null) {
+            Result<?> cached = cache.get(rendered.sql, ResultCaching.columns(fields), ResultCaching.bindValues(rendered));
+
+            if (cached != null) {
+                Result<R> copy = ResultCaching.copy(c, cached, fields, getRecordType());
+
+                if (lazy)
+                    cursor = new ResultAsCursor<>(copy);
+                else
+                    result = copy;
+
+                return copy.size();
+            }
+        }
+
+        return -1;
+    }
+
+    private final void cache(ExecuteContext ctx) throws SQLException {
+        Configuration c = ctx.configuration();
+        ResultCacheProvider cache = c.resultCacheProvider();
+
+        // Results read within a transaction may contain uncommitted data
+        Field<?>[] fields;
+        if (isCacheable(c, cache) && (fields = getCacheableFields()) != null && ctx.connection().getAutoCommit()) {
+            Set<Table<?>> tables = ResultCaching.tables(c, this);
+
+            if (tables != null)
+                cache.put(rendered.sql, ResultCaching.columns(fields), ResultCaching.bindValues(rendered), tables, ResultCaching.copy(null, result, fields, getRecordType()));
+        }
+    }
+
+    @Override
+    final void invalidateCachedResults(Configuration c) {
+
+        // Queries that may modify data, such as plain SQL or SELECT INTO, may
+        // modify any table. Other reads, such as SELECT .. FOR UPDATE, don't.
+        if (isModifying())
+            super.invalidateCachedResults(c);
+    }
+
     final Collection<? extends Field<?>> coerce() {
         return coerceFields;
     }
@@ -89,6 +89,7 @@ import static org.jooq.impl.Tools.EMPTY_NAME;
 import static org.jooq.impl.Tools.configurationOrThrow;
 import static org.jooq.impl.Tools.executeStatementAndGetFirstResultSet;
 import static org.jooq.impl.Tools.settings;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_RENDERED_OPAQUE;
 import static org.jooq.impl.Tools.DataKey.DATA_TOP_LEVEL_CTE;
 
 import java.sql.CallableStatement;
@@ -508,9 +509,7 @@ public abstract class AbstractRoutine<T> extends AbstractNamed implements Routin
             listener.prepareEnd(ctx);
 
             // [#9295] use query timeout from settings
-            int t = SettingsTools.getQueryTimeout(0, ctx.settings());
-            if (t != 0)
-                ctx.statement().setQueryTimeout(t);
+            Deadline.queryTimeout(ctx, SettingsTools.getQueryTimeout(0, ctx.settings()));
 
             listener.bindStart(ctx);
             using(configuration).bindContext(ctx.statement()).visit(this);
@@ -1713,7 +1712,7 @@ public abstract class AbstractRoutine<T> extends AbstractNamed implements Routin
     /**
      * The {@link Field} representation of this {@link Routine}
      */
-    private class RoutineField extends AbstractField<T> {
+    class RoutineField extends AbstractField<T> {
 
         @SuppressWarnings("unchecked")
         RoutineField() {
@@ -1806,6 +1805,7 @@ public abstract class AbstractRoutine<T> extends AbstractNamed implements Routin
         @SuppressWarnings({ "rawtypes", "unchecked" })
         @Override
         public void accept(Context<?> ctx) {
+            ctx.data(DATA_RENDERED_OPAQUE, true);
             SQLDialect family = ctx.family();
 
             String name;
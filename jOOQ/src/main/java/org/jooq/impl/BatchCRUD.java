@@ -37,14 +37,19 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_OMIT_RETURNING_CLAUSE;
 
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
@@ -54,6 +59,7 @@ import org.jooq.TableRecord;
 import org.jooq.UpdatableRecord;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.DataChangedException;
 
 /**
  * @author Lukas Eder
@@ -88,6 +94,7 @@ final class BatchCRUD extends AbstractBatch {
 
     private final int[] executePrepared() {
         Map<String, List<Query>> queries = new LinkedHashMap<>();
+        Map<String, List<TableRecord<?>>> queryRecords = new LinkedHashMap<>();
         QueryCollector collector = new QueryCollector();
 
         // Add the QueryCollector to intercept query execution after rendering
@@ -111,8 +118,10 @@ final class BatchCRUD extends AbstractBatch {
                 String sql = e.getSQL();
 
                 // Aggregate executable queries by identical SQL
-                if (query.isExecutable())
+                if (query.isExecutable()) {
                     queries.computeIfAbsent(sql, s -> new ArrayList<>()).add(query);
+                    queryRecords.computeIfAbsent(sql, s -> new ArrayList<>()).add(records[i]);
+                }
             }
             finally {
                 records[i].attach(previous);
@@ -123,6 +132,7 @@ final class BatchCRUD extends AbstractBatch {
         // SQL statement may have several queries with different bind values.
         // The order is preserved as much as possible
         List<Integer> result = new ArrayList<>();
+        List<TableRecord<?>> resultRecords = new ArrayList<>();
         queries.forEach((k, v) -> {
             BatchBindStep batch = dsl.batch(v.get(0));
 
@@ -132,18 +142,21 @@ final class BatchCRUD extends AbstractBatch {
             int[] array = batch.execute();
             for (int i : array)
                 result.add(i);
+
+            resultRecords.addAll(queryRecords.get(k));
         });
 
         int[] array = new int[result.size()];
         for (int i = 0; i < result.size(); i++)
             array[i] = result.get(i);
 
-        updateChangedFlag();
+        updateChangedFlag(array, resultRecords);
         return array;
     }
 
     private final int[] executeStatic() {
         List<Query> queries = new ArrayList<>();
+        List<TableRecord<?>> queryRecords = new ArrayList<>();
         QueryCollector collector = new QueryCollector();
         Configuration local = configuration.derive(collector);
 
@@ -157,8 +170,10 @@ final class BatchCRUD extends AbstractBatch {
             catch (QueryCollectorSignal e) {
                 Query query = e.getQuery();
 
-                if (query.isExecutable())
+                if (query.isExecutable()) {
                     queries.add(query);
+                    queryRecords.add(records[i]);
+                }
             }
             finally {
                 records[i].attach(previous);
@@ -167,7 +182,7 @@ final class BatchCRUD extends AbstractBatch {
 
         // Resulting statements can be batch executed in their requested order
         int[] result = dsl.batch(queries).execute();
-        updateChangedFlag();
+        updateChangedFlag(result, queryRecords);
         return result;
     }
 
@@ -191,11 +206,19 @@ final class BatchCRUD extends AbstractBatch {
         }
     }
 
-    private final void updateChangedFlag() {
+    private final void updateChangedFlag(int[] result, List<TableRecord<?>> resultRecords) {
+        Set<TableRecord<?>> conflicts = conflicts(result, resultRecords);
+
         // 1. Deleted records should be marked as changed, such that subsequent
         //    calls to store() will insert them again
         // 2. Stored records should be marked as unchanged
         for (TableRecord<?> record : records) {
+
+            // Records whose optimistic lock failed keep their flags, just like
+            // with UpdatableRecord.store() or delete()
+            if (conflicts.contains(record))
+                continue;
+
             record.changed(action == Action.DELETE);
 
             // [#3362] If new records (fetched = false) are batch-stored twice in a row, the second
@@ -203,6 +226,34 @@ final class BatchCRUD extends AbstractBatch {
             if (record instanceof AbstractRecord)
                 ((AbstractRecord) record).fetched = action != Action.DELETE;
         }
+
+        if (!conflicts.isEmpty())
+            throw new DataChangedException("Database record has been changed or doesn't exist any longer: " + conflicts.size() + " record(s)");
+    }
+
+    /**
+     * The records whose statements didn't affect any rows, if optimistic
+     * locking is performed in the <code>WHERE</code> clause.
+     * <p>
+     * In that mode, an update count of zero indicates that a record has been
+     * changed or deleted concurrently. Drivers that don't report individual
+     * update counts (e.g. {@link Statement#SUCCESS_NO_INFO}) can't be checked.
+     */
+    private final Set<TableRecord<?>> conflicts(int[] result, List<TableRecord<?>> resultRecords) {
+        Set<TableRecord<?>> conflicts = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        if (action == Action.INSERT
+            || action == Action.MERGE
+            || !TRUE.equals(configuration.settings().isExecuteWithOptimisticLocking())
+            || !TRUE.equals(configuration.settings().isExecuteWithOptimisticLockingUnversionedInWhereClause())
+            || result.length != resultRecords.size())
+            return conflicts;
+
+        for (int i = 0; i < result.length; i++)
+            if (result[i] == 0)
+                conflicts.add(resultRecords.get(i));
+
+        return conflicts;
     }
 
     /**
@@ -105,7 +105,7 @@ final class BatchMultiple extends AbstractBatch {
             for (int i = 0; i < queries.length; i++) {
                 ctx.sql(null);
                 listener.renderStart(ctx);
-                batchSQL[i] = DSL.using(configuration).renderInlined(queries[i]);
+                batchSQL[i] = Tools.renderStatic(configuration, queries[i]);
                 ctx.sql(batchSQL[i]);
                 listener.renderEnd(ctx);
             }
@@ -118,9 +118,7 @@ final class BatchMultiple extends AbstractBatch {
             }
 
             // [#9295] use query timeout from settings
-            int t = SettingsTools.getQueryTimeout(0, ctx.settings());
-            if (t != 0)
-                ctx.statement().setQueryTimeout(t);
+            Deadline.queryTimeout(ctx, SettingsTools.getQueryTimeout(0, ctx.settings()));
 
             listener.executeStart(ctx);
 
@@ -130,6 +128,10 @@ final class BatchMultiple extends AbstractBatch {
                 batchRows[i] = result[i];
 
             listener.executeEnd(ctx);
+
+            for (Query query : queries)
+                ResultCaching.invalidate(configuration, query);
+
             return result;
         }
 
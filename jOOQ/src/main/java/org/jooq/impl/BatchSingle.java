@@ -37,7 +37,6 @@
  */
 package org.jooq.impl;
 
-import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
 import static org.jooq.impl.Tools.fields;
 import static org.jooq.impl.Tools.map;
@@ -208,9 +207,7 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
             listener.prepareEnd(ctx);
 
             // [#9295] use query timeout from settings
-            int t = SettingsTools.getQueryTimeout(0, ctx.settings());
-            if (t != 0)
-                ctx.statement().setQueryTimeout(t);
+            Deadline.queryTimeout(ctx, SettingsTools.getQueryTimeout(0, ctx.settings()));
 
             for (Object[] bindValues : allBindValues) {
                 listener.bindStart(ctx);
@@ -236,6 +233,7 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
                 batchRows[i] = result[i];
 
             listener.executeEnd(ctx);
+            ResultCaching.invalidate(configuration, query);
             return result;
         }
 
@@ -274,7 +272,7 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
             for (int i = 0; i < bindValues.length; i++)
                 query.bind(i + 1, bindValues[i]);
 
-            queries.add(dsl.query(query.getSQL(INLINED)));
+            queries.add(dsl.query(Tools.renderStatic(configuration, query)));
         }
 
         return dsl.batch(queries).execute();
@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_RENDER_STATIC_STATEMENT;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.BindingGetSQLInputContext;
+import org.jooq.BindingGetStatementContext;
+import org.jooq.BindingRegisterContext;
+import org.jooq.BindingSQLContext;
+import org.jooq.BindingSetSQLOutputContext;
+import org.jooq.BindingSetStatementContext;
+import org.jooq.Converter;
+import org.jooq.ResourceManagingScope;
+import org.jooq.impl.LobStreams.BlobInputStream;
+
+/**
+ * A binding that streams binary values from and to {@link Blob} values at the
+ * JDBC level, without materialising them on the heap.
+ * <p>
+ * Fetched values are {@link InputStream} instances that wrap the JDBC
+ * {@link Blob} locator and open its binary stream only when read. The
+ * underlying LOB is usually valid only as long as the transaction or the
+ * {@link org.jooq.Cursor} it was fetched with, so streams should be consumed
+ * (and closed, to free the LOB) before that. Each fetched stream can only be
+ * consumed once, including by {@link org.jooq.Result#formatJSON()}, which
+ * encodes streams in base64 on the fly.
+ * <p>
+ * Bound values are passed to {@link java.sql.PreparedStatement#setBinaryStream(int, InputStream)},
+ * which lets the JDBC driver consume the stream. Values inlined into static
+ * statements are read fully, like <code>byte[]</code> values. Otherwise, e.g.
+ * when logging inlined SQL, a <code>[stream]</code> placeholder is rendered.
+ *
+ * @author Lukas Eder
+ */
+public class BlobStreamBinding implements Binding<byte[], InputStream> {
+
+    private static final Converter<byte[], InputStream> CONVERTER = Converter.ofNullable(
+        byte[].class,
+        InputStream.class,
+        ByteArrayInputStream::new,
+        LobStreams::bytes
+    );
+
+    @Override
+    public final Converter<byte[], InputStream> converter() {
+        return CONVERTER;
+    }
+
+    @Override
+    public final void sql(BindingSQLContext<InputStream> ctx) throws SQLException {
+        // The stream can only be read once, so it is read only when it is inlined
+        // into an executed static statement, and never for logging
+        if (ctx.render().paramType() == INLINED)
+            if (ctx.value() == null || TRUE.equals(ctx.render().data(DATA_RENDER_STATIC_STATEMENT)))
+                ctx.render().visit(DSL.inline(ctx.convert(converter()).value(), SQLDataType.BLOB));
+            else
+                ctx.render().sql("[stream]");
+        else
+            ctx.render().sql(ctx.variable());
+    }
+
+    @Override
+    public final void register(BindingRegisterContext<InputStream> ctx) throws SQLException {
+        ctx.statement().registerOutParameter(ctx.index(), Types.BLOB);
+    }
+
+    @Override
+    public final void set(BindingSetStatementContext<InputStream> ctx) throws SQLException {
+        if (ctx.value() == null)
+            ctx.statement().setNull(ctx.index(), Types.BLOB);
+        else
+            ctx.statement().setBinaryStream(ctx.index(), ctx.value());
+    }
+
+    @Override
+    public final void set(BindingSetSQLOutputContext<InputStream> ctx) throws SQLException {
+        ctx.output().writeBlob(ctx.value() == null ? null : newBlob(ctx, ctx.value()));
+    }
+
+    @Override
+    public final void get(BindingGetResultSetContext<InputStream> ctx) throws SQLException {
+        ctx.value(stream(ctx.resultSet().getBlob(ctx.index())));
+    }
+
+    @Override
+    public final void get(BindingGetStatementContext<InputStream> ctx) throws SQLException {
+        ctx.value(stream(ctx.statement().getBlob(ctx.index())));
+    }
+
+    @Override
+    public final void get(BindingGetSQLInputContext<InputStream> ctx) throws SQLException {
+        ctx.value(stream(ctx.input().readBlob()));
+    }
+
+    private static final InputStream stream(Blob blob) {
+        return blob == null ? null : new BlobInputStream(blob);
+    }
+
+    private static final Blob newBlob(ResourceManagingScope scope, InputStream in) throws SQLException {
+        Blob blob = BlobBinding.newBlob(scope, new byte[0]);
+
+        try (OutputStream out = blob.setBinaryStream(1)) {
+            LobStreams.copy(in, out);
+        }
+        catch (IOException e) {
+            throw new SQLException("Cannot write BLOB", e);
+        }
+
+        return blob;
+    }
+}
@@ -91,17 +91,18 @@ final class Cache {
 
         // The cache is guaranteed to be thread safe by the CacheProvider
         // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
-        // recursively, we have to revert to double checked locking nonetheless.
+        // recursively, the operation is run outside of the cache. In rare
+        // cases, this may run the operation twice for the same key, but
+        // the first value to be put in the cache wins.
         Map<Object, Object> cache = (Map<Object, Object>) cacheOrNull;
         Object k = key.get();
         Object v = cache.get(k);
         if (v == null) {
-            synchronized (cache) {
-                v = cache.get(k);
+            v = operation.get();
 
-                if (v == null)
-                    cache.put(k, (v = operation.get()) == null ? NULL : v);
-            }
+            Object previous = cache.putIfAbsent(k, v == null ? NULL : v);
+            if (previous != null)
+                v = previous;
         }
 
         return (V) (v == NULL ? null : v);
@@ -0,0 +1,167 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.jooq.CacheProvider;
+import org.jooq.Configuration;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A snapshot of the statistics of a {@link CacheType}'s cache.
+ * <p>
+ * Statistics are available only for caches produced by jOOQ's default
+ * {@link CacheProvider}, once they have been initialised by a first lookup.
+ * Custom {@link CacheProvider} implementations are expected to expose their
+ * own statistics.
+ *
+ * @author Lukas Eder
+ */
+public final class CacheStatistics {
+
+    private final CacheType type;
+    private final int       size;
+    private final int       maxSize;
+    private final long      hits;
+    private final long      misses;
+    private final long      evictions;
+
+    private CacheStatistics(CacheType type, LRUCache<?, ?> cache) {
+        this.type = type;
+        this.size = cache.size();
+        this.maxSize = cache.maxSize();
+        this.hits = cache.hits();
+        this.misses = cache.misses();
+        this.evictions = cache.evictions();
+    }
+
+    /**
+     * Get the statistics of a {@link Configuration}'s cache of a given
+     * {@link CacheType}, or <code>null</code> if no such statistics are
+     * available.
+     */
+    @Nullable
+    public static CacheStatistics of(Configuration configuration, CacheType type) {
+        Object cache = configuration.data(type);
+
+        if (cache instanceof LRUCache)
+            return new CacheStatistics(type, (LRUCache<?, ?>) cache);
+        else
+            return null;
+    }
+
+    /**
+     * Get the statistics of all of a {@link Configuration}'s caches for which
+     * statistics are available.
+     */
+    @NotNull
+    public static Map<CacheType, CacheStatistics> of(Configuration configuration) {
+        Map<CacheType, CacheStatistics> result = new EnumMap<>(CacheType.class);
+
+        for (CacheType type : CacheType.values()) {
+            CacheStatistics statistics = of(configuration, type);
+
+            if (statistics != null)
+                result.put(type, statistics);
+        }
+
+        return result;
+    }
+
+    /**
+     * The {@link CacheType} of the cache.
+     */
+    @NotNull
+    public final CacheType type() {
+        return type;
+    }
+
+    /**
+     * The number of values in the cache.
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * The maximum number of values in the cache.
+     */
+    public final int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * The number of lookups that produced a value.
+     */
+    public final long hits() {
+        return hits;
+    }
+
+    /**
+     * The number of lookups that didn't produce a value.
+     */
+    public final long misses() {
+        return misses;
+    }
+
+    /**
+     * The number of values that were evicted from the cache because it was
+     * full.
+     */
+    public final long evictions() {
+        return evictions;
+    }
+
+    /**
+     * The ratio of lookups that produced a value, or <code>0.0</code> if there
+     * were no lookups yet.
+     */
+    public final double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return type + " [size=" + size + ", maxSize=" + maxSize + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "]";
+    }
+}
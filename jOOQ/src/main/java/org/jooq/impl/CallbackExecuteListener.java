@@ -37,7 +37,11 @@
  */
 package org.jooq.impl;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.jooq.ExecuteContext;
+import org.jooq.ExecuteEvent;
 import org.jooq.ExecuteEventHandler;
 import org.jooq.ExecuteListener;
 
@@ -243,6 +247,39 @@ public final class CallbackExecuteListener implements ExecuteListener {
             onWarning.fire(ctx);
     }
 
+    @Override
+    public final Set<ExecuteEvent> events() {
+        Set<ExecuteEvent> result = EnumSet.noneOf(ExecuteEvent.class);
+
+        add(result, ExecuteEvent.START, onStart);
+        add(result, ExecuteEvent.RENDER_START, onRenderStart);
+        add(result, ExecuteEvent.RENDER_END, onRenderEnd);
+        add(result, ExecuteEvent.PREPARE_START, onPrepareStart);
+        add(result, ExecuteEvent.PREPARE_END, onPrepareEnd);
+        add(result, ExecuteEvent.BIND_START, onBindStart);
+        add(result, ExecuteEvent.BIND_END, onBindEnd);
+        add(result, ExecuteEvent.EXECUTE_START, onExecuteStart);
+        add(result, ExecuteEvent.EXECUTE_END, onExecuteEnd);
+        add(result, ExecuteEvent.OUT_START, onOutStart);
+        add(result, ExecuteEvent.OUT_END, onOutEnd);
+        add(result, ExecuteEvent.FETCH_START, onFetchStart);
+        add(result, ExecuteEvent.RESULT_START, onResultStart);
+        add(result, ExecuteEvent.RECORD_START, onRecordStart);
+        add(result, ExecuteEvent.RECORD_END, onRecordEnd);
+        add(result, ExecuteEvent.RESULT_END, onResultEnd);
+        add(result, ExecuteEvent.FETCH_END, onFetchEnd);
+        add(result, ExecuteEvent.END, onEnd);
+        add(result, ExecuteEvent.EXCEPTION, onException);
+        add(result, ExecuteEvent.WARNING, onWarning);
+
+        return result;
+    }
+
+    private static final void add(Set<ExecuteEvent> result, ExecuteEvent event, ExecuteEventHandler handler) {
+        if (handler != null)
+            result.add(event);
+    }
+
     public final CallbackExecuteListener onStart(ExecuteEventHandler newOnStart) {
         return new CallbackExecuteListener(
             newOnStart,
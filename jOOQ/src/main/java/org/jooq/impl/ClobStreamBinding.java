@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_RENDER_STATIC_STATEMENT;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.BindingGetSQLInputContext;
+import org.jooq.BindingGetStatementContext;
+import org.jooq.BindingRegisterContext;
+import org.jooq.BindingSQLContext;
+import org.jooq.BindingSetSQLOutputContext;
+import org.jooq.BindingSetStatementContext;
+import org.jooq.Converter;
+import org.jooq.ResourceManagingScope;
+import org.jooq.impl.LobStreams.ClobReader;
+
+/**
+ * A binding that streams character values from and to {@link Clob} values at
+ * the JDBC level, without materialising them on the heap.
+ * <p>
+ * Fetched values are {@link Reader} instances that wrap the JDBC {@link Clob}
+ * locator and open its character stream only when read. The underlying LOB is
+ * usually valid only as long as the transaction or the {@link org.jooq.Cursor}
+ * it was fetched with, so readers should be consumed (and closed, to free the
+ * LOB) before that. Each fetched reader can only be consumed once, including
+ * by {@link org.jooq.Result#formatJSON()}, which escapes readers on the fly.
+ * <p>
+ * Bound values are passed to
+ * {@link java.sql.PreparedStatement#setCharacterStream(int, Reader)}, which
+ * lets the JDBC driver consume the reader. Values inlined into static
+ * statements are read fully, like {@link String} values. Otherwise, e.g. when
+ * logging inlined SQL, a <code>[reader]</code> placeholder is rendered.
+ *
+ * @author Lukas Eder
+ */
+public class ClobStreamBinding implements Binding<String, Reader> {
+
+    private static final Converter<String, Reader> CONVERTER = Converter.ofNullable(
+        String.class,
+        Reader.class,
+        StringReader::new,
+        LobStreams::string
+    );
+
+    @Override
+    public final Converter<String, Reader> converter() {
+        return CONVERTER;
+    }
+
+    @Override
+    public final void sql(BindingSQLContext<Reader> ctx) throws SQLException {
+        // The reader can only be read once, so it is read only when it is inlined
+        // into an executed static statement, and never for logging
+        if (ctx.render().paramType() == INLINED)
+            if (ctx.value() == null || TRUE.equals(ctx.render().data(DATA_RENDER_STATIC_STATEMENT)))
+                ctx.render().visit(DSL.inline(ctx.convert(converter()).value(), SQLDataType.CLOB));
+            else
+                ctx.render().sql("[reader]");
+        else
+            ctx.render().sql(ctx.variable());
+    }
+
+    @Override
+    public final void register(BindingRegisterContext<Reader> ctx) throws SQLException {
+        ctx.statement().registerOutParameter(ctx.index(), Types.CLOB);
+    }
+
+    @Override
+    public final void set(BindingSetStatementContext<Reader> ctx) throws SQLException {
+        if (ctx.value() == null)
+            ctx.statement().setNull(ctx.index(), Types.CLOB);
+        else
+            ctx.statement().setCharacterStream(ctx.index(), ctx.value());
+    }
+
+    @Override
+    public final void set(BindingSetSQLOutputContext<Reader> ctx) throws SQLException {
+        ctx.output().writeClob(ctx.value() == null ? null : newClob(ctx, ctx.value()));
+    }
+
+    @Override
+    public final void get(BindingGetResultSetContext<Reader> ctx) throws SQLException {
+        ctx.value(reader(ctx.resultSet().getClob(ctx.index())));
+    }
+
+    @Override
+    public final void get(BindingGetStatementContext<Reader> ctx) throws SQLException {
+        ctx.value(reader(ctx.statement().getClob(ctx.index())));
+    }
+
+    @Override
+    public final void get(BindingGetSQLInputContext<Reader> ctx) throws SQLException {
+        ctx.value(reader(ctx.input().readClob()));
+    }
+
+    private static final Reader reader(Clob clob) {
+        return clob == null ? null : new ClobReader(clob);
+    }
+
+    private static final Clob newClob(ResourceManagingScope scope, Reader in) throws SQLException {
+        Clob clob = ClobBinding.newClob(scope, "");
+
+        try (Writer out = clob.setCharacterStream(1)) {
+            LobStreams.copy(in, out);
+        }
+        catch (IOException e) {
+            throw new SQLException("Cannot write CLOB", e);
+        }
+
+        return clob;
+    }
+}
@@ -57,6 +57,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.jooq.Commit;
 import org.jooq.Configuration;
@@ -79,6 +81,10 @@ final class CommitImpl extends AbstractNode<Commit> implements Commit {
     private final List<? extends Commit> parents;
     private final Map<String, File>      delta;
     private final Map<String, File>      files;
+    private Version                      version;
+    private Meta                         meta;
+    private Function<? super Commit, ? extends Meta> metaLookup;
+    private BiConsumer<? super Commit, ? super Meta> metaStore;
 
     CommitImpl(Configuration configuration, String id, String message, List<? extends Commit> parents, Collection<? extends File> delta) {
         super(id, message);
@@ -186,12 +192,40 @@ final class CommitImpl extends AbstractNode<Commit> implements Commit {
 
     @Override
     public final Version version() {
-        return root().migrateTo(this).to();
+
+        // Commits are immutable, so their versions can be cached. This avoids
+        // re-interpreting the entire history each time meta() is called.
+        if (version == null)
+            version = root().migrateTo(this).to();
+
+        return version;
+    }
+
+    /**
+     * Look up this commit's {@link #meta()} in an external cache, and store it
+     * there after interpreting it, if it wasn't found.
+     */
+    final void cacheMeta(Function<? super Commit, ? extends Meta> lookup, BiConsumer<? super Commit, ? super Meta> store) {
+        this.metaLookup = lookup;
+        this.metaStore = store;
     }
 
     @Override
     public final Meta meta() {
-        return version().meta();
+        if (meta == null) {
+            Meta m = metaLookup != null ? metaLookup.apply(this) : null;
+
+            if (m == null) {
+                m = version().meta();
+
+                if (metaStore != null)
+                    metaStore.accept(this, m);
+            }
+
+            meta = m;
+        }
+
+        return meta;
     }
 
     @Override
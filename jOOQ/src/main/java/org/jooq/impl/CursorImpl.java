@@ -38,6 +38,8 @@
 package org.jooq.impl;
 
 // ...
+import static org.jooq.ExecuteEvent.RECORD_END;
+import static org.jooq.ExecuteEvent.RECORD_START;
 import static org.jooq.impl.RowField.NO_NATIVE_SUPPORT;
 import static org.jooq.impl.Tools.embeddedFields;
 import static org.jooq.impl.Tools.embeddedRecordType;
@@ -96,6 +98,8 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
     private final boolean                                  keepResultSet;
     private final boolean                                  keepStatement;
     private final boolean                                  autoclosing;
+    private final boolean                                  recordStart;
+    private final boolean                                  recordEnd;
     private final int                                      maxRows;
     private final Supplier<? extends R>                    factory;
     private boolean                                        isClosed;
@@ -121,6 +125,8 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
         this.ctx = ctx;
         this.listener = (listener != null ? listener : ExecuteListeners.getAndStart(ctx));
+        this.recordStart = ExecuteListeners.consumes(this.listener, RECORD_START);
+        this.recordEnd = ExecuteListeners.consumes(this.listener, RECORD_END);
         this.factory = recordFactory(type, this.fields);
         this.keepStatement = keepStatement;
         this.keepResultSet = keepResultSet;
@@ -1383,7 +1389,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         /**
          * [#11099] Cache this instance for the entire cursor.
          */
-        private final CursorRecordInitialiser        initialiser    = new CursorRecordInitialiser(fields, 0);
+        private final CursorRecordInitialiser        initialiser    = new CursorRecordInitialiser(fields, 0, true);
 
         @SuppressWarnings("unchecked")
         private final RecordDelegate<AbstractRecord> recordDelegate = Tools.newRecord(true, (Supplier<AbstractRecord>) factory, ((DefaultExecuteContext) ctx).originalConfiguration());
@@ -1457,12 +1463,39 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
         private class CursorRecordInitialiser implements ThrowingFunction<AbstractRecord, AbstractRecord, SQLException> {
 
-            private final AbstractRow<?> initialiserFields;
-            private int                  offset;
+            private final AbstractRow<?>                                    initialiserFields;
+            private int                                                     offset;
+            private final ThrowingObjIntFunction<ResultSet, ?, SQLException>[] readers;
 
             CursorRecordInitialiser(AbstractRow<?> initialiserFields, int offset) {
+                this(initialiserFields, offset, false);
+            }
+
+            CursorRecordInitialiser(AbstractRow<?> initialiserFields, int offset, boolean specialise) {
                 this.initialiserFields = initialiserFields;
                 this.offset = offset;
+                this.readers = specialise ? readers(initialiserFields) : null;
+            }
+
+            /**
+             * Resolve specialised readers for top level columns once per
+             * cursor, rather than dispatching through the bindings for every
+             * value.
+             */
+            @SuppressWarnings("unchecked")
+            private final ThrowingObjIntFunction<ResultSet, ?, SQLException>[] readers(AbstractRow<?> row) {
+                int size = row.size();
+                ThrowingObjIntFunction<ResultSet, ?, SQLException>[] result = new ThrowingObjIntFunction[size];
+
+                for (int i = 0; i < size; i++) {
+                    Field<?> field = row.field(i);
+                    Field<?> f = field instanceof Coerce ? ((Coerce<?>) field).field : field;
+
+                    if (!(f instanceof RowField) && !f.getDataType().isEmbeddable())
+                        result[i] = DefaultBinding.reader(field.getBinding(), ctx.family());
+                }
+
+                return result;
             }
 
             CursorRecordInitialiser reset() {
@@ -1473,7 +1506,11 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
             @Override
             public AbstractRecord apply(AbstractRecord record) throws SQLException {
                 ctx.record(record);
-                listener.recordStart(ctx);
+
+                // Skip per-record dispatching if no one listens
+                if (recordStart)
+                    listener.recordStart(ctx);
+
                 int size = initialiserFields.size();
 
 
@@ -1504,7 +1541,9 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
                             record.intern0(i);
 
                 ctx.record(record);
-                listener.recordEnd(ctx);
+
+                if (recordEnd)
+                    listener.recordEnd(ctx);
 
                 return record;
             }
@@ -1516,6 +1555,16 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
             private final <T> void setValue(AbstractRecord record, Field<T> field, int index) throws SQLException {
                 try {
                     T value;
+                    ThrowingObjIntFunction<ResultSet, ?, SQLException> reader;
+
+                    if (readers != null && (reader = readers[index]) != null) {
+                        value = (T) reader.apply(rsContext.resultSet(), offset + index + 1);
+
+                        record.values[index] = value;
+                        record.originals[index] = value;
+                        return;
+                    }
+
                     AbstractRow<?> nested = null;
                     Class<? extends AbstractRecord> recordType = null;
 
@@ -45,13 +45,19 @@ import static org.jooq.RecordListener.onStoreEnd;
 import static org.jooq.impl.DSL.noCondition;
 import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.Tools.EMPTY_RECORD;
+import static org.jooq.impl.Tools.DataKey.DATA_DAO_IDENTITY_MAP;
+import static org.jooq.impl.Tools.DataKey.DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.jooq.Condition;
@@ -84,10 +90,11 @@ import org.jooq.conf.Settings;
  */
 public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO<R, P, T> {
 
-    private final Table<R>     table;
-    private final Class<P>     type;
-    private RecordMapper<R, P> mapper;
-    private Configuration      configuration;
+    private final Table<R>          table;
+    private final Class<P>          type;
+    private final DAOLoader<R, P, T> loader;
+    private RecordMapper<R, P>      mapper;
+    private Configuration           configuration;
 
     // -------------------------------------------------------------------------
     // XXX: Constructors and initialisation
@@ -100,6 +107,7 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
     protected DAOImpl(Table<R> table, Class<P> type, Configuration configuration) {
         this.table = table;
         this.type = type;
+        this.loader = new DAOLoader<>(this);
 
         setConfiguration(configuration);
     }
@@ -195,6 +203,7 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
 
     @Override
     public /* non-final */ void update(Collection<P> objects) {
+        evict(objects);
 
         // Execute a batch UPDATE
         if (objects.size() > 1)
@@ -225,6 +234,7 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
 
     @Override
     public /* non-final */ void merge(Collection<P> objects) {
+        evict(objects);
 
         // Execute a batch MERGE
         if (objects.size() > 1)
@@ -255,6 +265,7 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
 
     @Override
     public /* non-final */ void delete(Collection<P> objects) {
+        evict(objects);
 
         // Execute a batch DELETE
         if (objects.size() > 1)
@@ -282,8 +293,15 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
     public /* non-final */ void deleteById(Collection<T> ids) {
         Field<?>[] pk = pk();
 
-        if (pk != null)
+        if (pk != null) {
+            Map<List<Object>, Object> identityMap = identityMap();
+
+            if (identityMap != null)
+                for (T id : ids)
+                    identityMap.remove(DAOLoader.key(pk, id));
+
             ctx().delete(table).where(equal(pk, ids)).execute();
+        }
     }
 
     @Override
@@ -324,14 +342,53 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
     public /* non-final */ P findById(T id) {
         Field<?>[] pk = pk();
 
-        if (pk != null)
-            return ctx().selectFrom(table)
-                        .where(equal(pk, id))
-                        .fetchOne(mapper());
+        if (pk != null) {
+            Map<List<Object>, Object> identityMap = identityMap();
+
+            if (identityMap == null)
+                return ctx().selectFrom(table)
+                            .where(equal(pk, id))
+                            .fetchOne(mapper());
+
+            List<Object> key = DAOLoader.key(pk, id);
+            P result = type.cast(identityMap.get(key));
+
+            if (result == null) {
+                result = ctx().selectFrom(table)
+                              .where(equal(pk, id))
+                              .fetchOne(mapper());
+
+                if (result != null)
+                    identityMap.put(key, result);
+            }
+
+            return result;
+        }
 
         return null;
     }
 
+    @Override
+    public /* non-final */ CompletionStage<P> findByIdAsync(T id) {
+        Field<?>[] pk = pk();
+
+        if (pk != null && !DAOLoader.transactional(configuration()))
+            return loader.load(pk, id);
+
+        // A transaction's connection must not be used by the executor, so
+        // lookups within transactions are not coalesced
+        CompletableFuture<P> result = new CompletableFuture<>();
+
+        try {
+            result.complete(findById(id));
+        }
+        catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+
+        return ExecutorProviderCompletionStage.of(result, configuration().executorProvider());
+    }
+
     @Override
     public /* non-final */ <Z> List<P> fetchRange(Field<Z> field, Z lowerInclusive, Z upperInclusive) {
         return ctx()
@@ -436,6 +493,39 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
         }
     }
 
+    /**
+     * The identity map of this DAO's table, if it is active.
+     * <p>
+     * Identity maps are scoped to the {@link Configuration} of a transaction,
+     * such that no stale POJOs are returned once the transaction ends.
+     */
+    @SuppressWarnings("unchecked")
+    private /* non-final */ Map<List<Object>, Object> identityMap() {
+        Configuration c = configuration();
+
+        if (!TRUE.equals(c.settings().isDaoIdentityMap()) || c.data(DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION) == null)
+            return null;
+
+        Map<Table<?>, Map<List<Object>, Object>> maps = (Map<Table<?>, Map<List<Object>, Object>>)
+            c.data().computeIfAbsent(DATA_DAO_IDENTITY_MAP, k -> new ConcurrentHashMap<>());
+
+        return maps.computeIfAbsent(table, t -> new ConcurrentHashMap<>());
+    }
+
+    private /* non-final */ void evict(Collection<P> objects) {
+        Map<List<Object>, Object> identityMap = identityMap();
+        Field<?>[] pk = pk();
+
+        if (identityMap != null && pk != null) {
+            for (P object : objects) {
+                T id = getId(object);
+
+                if (id != null)
+                    identityMap.remove(DAOLoader.key(pk, id));
+            }
+        }
+    }
+
     private /* non-final */ Field<?>[] pk() {
         UniqueKey<?> key = table.getPrimaryKey();
         return key == null ? null : key.getFieldsArray();
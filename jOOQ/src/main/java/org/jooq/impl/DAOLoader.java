@@ -0,0 +1,209 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.blocking;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.TransactionProvider;
+import org.jooq.UpdatableRecord;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A loader that coalesces concurrent lookups of a {@link DAOImpl} by ID into
+ * a single query.
+ * <p>
+ * The first lookup that arrives when no other lookups are pending schedules a
+ * task on the DAO's {@link Configuration#executorProvider()}, which waits for
+ * {@link org.jooq.conf.Settings#getDaoLoaderWindow()} milliseconds, and then
+ * loads all IDs that have been requested in the meantime using
+ * <code>WHERE pk IN (...)</code> predicates. Each caller receives the POJO for
+ * its own ID, or <code>null</code>, if there is no such record.
+ * <p>
+ * The query runs on another thread than the callers, so it can't be run on a
+ * single connection, which must not be used concurrently, or on the
+ * connection of a transaction. Lookups of DAOs attached to such connections
+ * are not coalesced, see {@link #transactional(Configuration)}.
+ *
+ * @author Lukas Eder
+ */
+final class DAOLoader<R extends UpdatableRecord<R>, P, T> {
+
+    private final DAOImpl<R, P, T>       dao;
+    private Map<List<Object>, Pending<P>> pending;
+
+    DAOLoader(DAOImpl<R, P, T> dao) {
+        this.dao = dao;
+    }
+
+    final CompletionStage<P> load(Field<?>[] pk, T id) {
+        Configuration c = dao.configuration();
+        List<Object> key = key(pk, id);
+        Pending<P> p;
+        boolean dispatch;
+
+        synchronized (this) {
+            dispatch = pending == null;
+
+            if (dispatch)
+                pending = new LinkedHashMap<>();
+
+            p = pending.computeIfAbsent(key, k -> new Pending<>(id(pk, id)));
+        }
+
+        if (dispatch) {
+            Executor executor = c.executorProvider().provide();
+            CompletableFuture.supplyAsync(blocking(() -> dispatch(c, pk)), executor);
+        }
+
+        return ExecutorProviderCompletionStage.of(p.future, c.executorProvider());
+    }
+
+    private final Void dispatch(Configuration c, Field<?>[] pk) {
+        Integer window = dao.settings().getDaoLoaderWindow();
+        Map<List<Object>, Pending<P>> batch;
+
+        try {
+            if (window != null && window > 0)
+                Thread.sleep(window);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            batch = pending;
+            pending = null;
+        }
+
+        try {
+            List<Object[]> ids = new ArrayList<>(batch.size());
+            for (Pending<P> p : batch.values())
+                ids.add(p.id);
+
+            RecordMapper<R, P> mapper = dao.mapper();
+            for (R record : Tools.fetchByValues(c.dsl(), dao.getTable(), pk, ids)) {
+                Pending<P> p = batch.get(recordKey(pk, record));
+
+                if (p != null)
+                    p.future.complete(mapper.map(record));
+            }
+
+            for (Pending<P> p : batch.values())
+                p.future.complete(null);
+        }
+        catch (Throwable e) {
+            for (Pending<P> p : batch.values())
+                p.future.completeExceptionally(e instanceof DataAccessException ? e : new DataAccessException("Error while loading records by ID", e));
+        }
+
+        return null;
+    }
+
+    /**
+     * Whether a configuration is attached to a single connection, e.g. the
+     * connection of a transaction, which the loader must not use.
+     */
+    static final boolean transactional(Configuration c) {
+        TransactionProvider tp = c.transactionProvider();
+
+        // ThreadLocalTransactionProvider's connection is bound to the thread
+        // that started the transaction
+        if (tp instanceof ThreadLocalTransactionProvider)
+            return ((ThreadLocalTransactionProvider) tp).localTxConnection.get() != null;
+        else
+            return c.connectionProvider() instanceof DefaultConnectionProvider;
+    }
+
+    /**
+     * The values of an ID, converted to the types of the primary key.
+     */
+    static final Object[] id(Field<?>[] pk, Object id) {
+        if (pk.length == 1)
+            return new Object[] { pk[0].getDataType().convert(id) };
+
+        // [#2573] Composite key T types are of type Record[N]
+        Record record = (Record) id;
+        Object[] result = new Object[pk.length];
+
+        for (int i = 0; i < pk.length; i++)
+            result[i] = pk[i].getDataType().convert(record.get(i));
+
+        return result;
+    }
+
+    /**
+     * A hash key for an ID.
+     */
+    static final List<Object> key(Field<?>[] pk, Object id) {
+        return Tools.valuesKey(id(pk, id));
+    }
+
+    /**
+     * A hash key for the ID of a record.
+     */
+    static final List<Object> recordKey(Field<?>[] pk, Record record) {
+        Object[] result = new Object[pk.length];
+
+        for (int i = 0; i < pk.length; i++)
+            result[i] = record.get(pk[i]);
+
+        return Tools.valuesKey(result);
+    }
+
+    private static final class Pending<P> {
+        final Object[]             id;
+        final CompletableFuture<P> future;
+
+        Pending(Object[] id) {
+            this.id = id;
+            this.future = new CompletableFuture<>();
+        }
+    }
+}
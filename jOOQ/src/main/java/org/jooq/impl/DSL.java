@@ -15075,6 +15075,44 @@ public class DSL {
             return select.asField();
     }
 
+    /**
+     * Create a <code>MULTISET</code> nested collection from a (usually
+     * correlated) subquery.
+     * <p>
+     * This allows for fetching nested collections of records in a single
+     * query, without duplicating the parent rows as a flat <code>JOIN</code>
+     * would, and without running one additional query per parent row:
+     * <p>
+     * <code><pre>
+     * Result&lt;Record2&lt;String, Result&lt;Record1&lt;String&gt;&gt;&gt;&gt; result =
+     * create.select(
+     *           AUTHOR.NAME,
+     *           multiset(
+     *             select(BOOK.TITLE)
+     *             .from(BOOK)
+     *             .where(BOOK.AUTHOR_ID.eq(AUTHOR.ID))
+     *           ).as("books"))
+     *       .from(AUTHOR)
+     *       .fetch();
+     * </pre></code>
+     * <p>
+     * The nested collection can be mapped to a list of POJOs using
+     * {@link Field#convertFrom(java.util.function.Function)}, e.g.
+     * <code>multiset(...).convertFrom(r -&gt; r.into(Book.class))</code>.
+     * <p>
+     * The nested collection is aggregated into a JSON or XML document in SQL
+     * and decoded again in the client, depending on
+     * {@link org.jooq.conf.Settings#getEmulateMultiset()}. Nested collections
+     * can be nested themselves. The order of nested records is the one
+     * produced by the subquery, which the supported dialects preserve when
+     * aggregating, although this is not guaranteed by the SQL standard.
+     */
+    @NotNull
+    @Support({ H2, MARIADB, MYSQL, POSTGRES })
+    public static <R extends Record> Field<Result<R>> multiset(Select<R> select) {
+        return new Multiset<>(select);
+    }
+
     /**
      * Create a MySQL style <code>IF(condition, ifTrue, ifFalse)</code> function.
      */
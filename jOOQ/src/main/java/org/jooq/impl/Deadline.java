@@ -0,0 +1,217 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.Supplier;
+
+import org.jooq.ExecuteContext;
+import org.jooq.conf.Settings;
+import org.jooq.exception.QueryTimeoutException;
+import org.jooq.tools.JooqLogger;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A deadline for all queries that are executed by the current thread within a
+ * given scope.
+ * <p>
+ * Unlike {@link Settings#getQueryTimeout()}, which is a static number of
+ * seconds applied to each individual statement, a deadline is a point in time
+ * by which the caller needs to have its results, e.g. derived from the timeout
+ * of an incoming request. When a query is prepared within the scope of a
+ * deadline, its remaining budget is computed, and the query is:
+ * <ul>
+ * <li>Not executed at all, if the deadline has already expired.</li>
+ * <li>Given a {@link java.sql.Statement#setQueryTimeout(int)} that doesn't
+ * exceed the remaining budget.</li>
+ * <li>Cancelled using {@link java.sql.Statement#cancel()} from a shared
+ * scheduler thread, when the deadline expires while the query is still
+ * running, or while a lazy {@link org.jooq.Cursor} is still open.</li>
+ * </ul>
+ * In all of these cases, a {@link QueryTimeoutException} is thrown. The
+ * deadline is propagated to asynchronous executions, such as
+ * {@link org.jooq.ResultQuery#fetchAsync()}, and to reactive streams
+ * executions via R2DBC, where the subscription is cancelled when the deadline
+ * expires.
+ * <p>
+ * Deadlines can be nested, in case of which the earlier one applies.
+ * <p>
+ * Example: <code><pre>
+ * Result&lt;?&gt; result = Deadline.within(Duration.ofMillis(200), () -&gt;
+ *     ctx.selectFrom(BOOK).fetch());
+ * </pre></code>
+ *
+ * @author Lukas Eder
+ */
+public final class Deadline {
+
+    private static final JooqLogger        log      = JooqLogger.getLogger(Deadline.class);
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    /**
+     * Run a supplier with a deadline that expires after a timeout.
+     */
+    public static <T> T within(Duration timeout, Supplier<T> supplier) {
+        return until(System.nanoTime() + timeout.toNanos(), supplier);
+    }
+
+    /**
+     * Run a supplier with a deadline that expires at an instant.
+     */
+    public static <T> T until(Instant deadline, Supplier<T> supplier) {
+        return within(Duration.between(Instant.now(), deadline), supplier);
+    }
+
+    /**
+     * The time remaining until the current thread's deadline expires, or
+     * <code>null</code> if there is no deadline.
+     */
+    @Nullable
+    public static Duration remaining() {
+        Long deadline = DEADLINE.get();
+        return deadline == null ? null : Duration.ofNanos(deadline - System.nanoTime());
+    }
+
+    private static final <T> T until(long deadline, Supplier<T> supplier) {
+        Long previous = DEADLINE.get();
+
+        if (previous != null && previous - deadline < 0)
+            return supplier.get();
+
+        DEADLINE.set(deadline);
+        try {
+            return supplier.get();
+        }
+        finally {
+            if (previous == null)
+                DEADLINE.remove();
+            else
+                DEADLINE.set(previous);
+        }
+    }
+
+    /**
+     * The current thread's deadline in {@link System#nanoTime()} units, or
+     * <code>null</code> if there is no deadline.
+     */
+    static final Long current() {
+        return DEADLINE.get();
+    }
+
+    /**
+     * Wrap a supplier such that it runs with the current thread's deadline,
+     * when it is run asynchronously in another thread.
+     */
+    static final <T> Supplier<T> propagate(Supplier<T> supplier) {
+        Long deadline = DEADLINE.get();
+        return deadline == null ? supplier : () -> until(deadline, supplier);
+    }
+
+    /**
+     * Schedule a task to be run when a deadline expires.
+     */
+    static final ScheduledFuture<?> schedule(long deadline, Runnable task) {
+        return Scheduler.SCHEDULER.schedule(task, deadline - System.nanoTime(), NANOSECONDS);
+    }
+
+    /**
+     * Apply a query timeout in seconds (or <code>0</code> if there isn't any)
+     * and the current thread's deadline to an {@link ExecuteContext}'s
+     * prepared statement.
+     */
+    static final void queryTimeout(ExecuteContext ctx, int timeout) throws SQLException {
+        Long deadline = DEADLINE.get();
+
+        if (deadline != null) {
+            long remaining = deadline - System.nanoTime();
+
+            if (remaining <= 0)
+                throw new QueryTimeoutException("SQL [" + ctx.sql() + "]; Deadline expired before execution");
+
+            // JDBC timeouts have a resolution of seconds, the scheduled
+            // cancellation is more precise
+            int seconds = (int) Math.min(Integer.MAX_VALUE, NANOSECONDS.toSeconds(remaining - 1) + 1);
+            if (timeout == 0 || seconds < timeout)
+                timeout = seconds;
+
+            if (ctx instanceof DefaultExecuteContext) {
+                DefaultExecuteContext c = (DefaultExecuteContext) ctx;
+                PreparedStatement statement = ctx.statement();
+
+                c.deadline(Scheduler.SCHEDULER.schedule(() -> {
+                    c.deadlineExpired();
+
+                    try {
+                        statement.cancel();
+                    }
+                    catch (SQLException e) {
+                        log.debug("Error while cancelling statement", e);
+                    }
+                }, remaining, NANOSECONDS));
+            }
+        }
+
+        if (timeout != 0)
+            ctx.statement().setQueryTimeout(timeout);
+    }
+
+    private static final class Scheduler {
+        static final ScheduledThreadPoolExecutor SCHEDULER;
+
+        static {
+            SCHEDULER = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "jOOQ-deadline-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            // Most queries complete before their deadline
+            SCHEDULER.setRemoveOnCancelPolicy(true);
+        }
+    }
+
+    private Deadline() {}
+}
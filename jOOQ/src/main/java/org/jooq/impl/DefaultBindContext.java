@@ -41,6 +41,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import org.jooq.BindContext;
+import org.jooq.Binding;
 import org.jooq.Configuration;
 import org.jooq.Field;
 
@@ -59,9 +60,14 @@ final class DefaultBindContext extends AbstractBindContext {
         int nextIndex = nextIndex();
 
         try {
-            ((Field<Object>) field).getBinding().set(
-                new DefaultBindingSetStatementContext<>(configuration(), data(), stmt, nextIndex, value)
-            );
+            Binding<?, Object> binding = ((Field<Object>) field).getBinding();
+            ThrowingObjIntObjConsumer<PreparedStatement, Object, SQLException> writer;
+
+            // Common types are written without the overhead of a context
+            if (value != null && (writer = DefaultBinding.writer(binding, dialect())) != null)
+                writer.accept(stmt, nextIndex, value);
+            else
+                binding.set(new DefaultBindingSetStatementContext<>(configuration(), data(), stmt, nextIndex, value));
         }
         catch (Exception e) {
             throw new SQLException("Error while writing value at JDBC bind index: " + nextIndex ,e);
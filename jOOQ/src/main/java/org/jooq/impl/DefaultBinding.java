@@ -494,6 +494,49 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
         return theBinding;
     }
 
+    /**
+     * Get a specialised reader for a binding's non-converted values, bypassing
+     * the {@link BindingGetResultSetContext}, or <code>null</code> if the
+     * values must be read through {@link Binding#get(BindingGetResultSetContext)}.
+     * <p>
+     * Readers are resolved once per column and dialect, e.g. per cursor.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static final <U> ThrowingObjIntFunction<ResultSet, U, SQLException> reader(Binding<?, U> binding, SQLDialect family) {
+        AbstractBinding<?, U> b = abstractBinding(binding);
+
+        return b != null && b.converter instanceof IdentityConverter && !b.attachable
+            ? (ThrowingObjIntFunction) b.reader(family)
+            : null;
+    }
+
+    /**
+     * Get a specialised writer for a binding's non-null, non-converted values,
+     * bypassing the {@link BindingSetStatementContext}, or <code>null</code>
+     * if the values must be written through
+     * {@link Binding#set(BindingSetStatementContext)}.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static final <U> ThrowingObjIntObjConsumer<PreparedStatement, U, SQLException> writer(Binding<?, U> binding, SQLDialect dialect) {
+        AbstractBinding<?, U> b = abstractBinding(binding);
+
+        // Writers don't support trace logging of bind values
+        return b != null && b.converter instanceof IdentityConverter && !log.isTraceEnabled()
+            ? (ThrowingObjIntObjConsumer) b.writer(dialect)
+            : null;
+    }
+
+    private static final <U> AbstractBinding<?, U> abstractBinding(Binding<?, U> binding) {
+        if (binding instanceof AbstractBinding)
+            return (AbstractBinding<?, U>) binding;
+
+        // Subclasses of DefaultBinding may override any behaviour
+        else if (binding != null && binding.getClass() == DefaultBinding.class)
+            return ((DefaultBinding<?, U>) binding).delegate;
+        else
+            return null;
+    }
+
     static final Map<String, Class<?>> typeMap(Class<?> type, Configuration configuration) {
         return typeMap(type, configuration, new HashMap<>());
     }
@@ -975,6 +1018,24 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
             ctx.render().sql(ctx.variable());
         }
 
+        /**
+         * A specialised reader that is equivalent to
+         * {@link #get0(BindingGetResultSetContext)}, or <code>null</code> if
+         * there is none.
+         */
+        /* non-final */ ThrowingObjIntFunction<ResultSet, T, SQLException> reader(SQLDialect family) {
+            return null;
+        }
+
+        /**
+         * A specialised writer that is equivalent to
+         * {@link #set0(BindingSetStatementContext, Object)}, or
+         * <code>null</code> if there is none.
+         */
+        /* non-final */ ThrowingObjIntObjConsumer<PreparedStatement, T, SQLException> writer(SQLDialect dialect) {
+            return null;
+        }
+
         // abstract void register0(BindingRegisterContext<U> ctx) throws SQLException;
         abstract void set0(BindingSetStatementContext<U> ctx, T value) throws SQLException;
         abstract void set0(BindingSetSQLOutputContext<U> ctx, T value) throws SQLException;
@@ -1524,6 +1585,16 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
             return ctx.input().readBigDecimal();
         }
 
+        @Override
+        final ThrowingObjIntFunction<ResultSet, BigDecimal, SQLException> reader(SQLDialect family) {
+            return family == SQLDialect.SQLITE ? null : ResultSet::getBigDecimal;
+        }
+
+        @Override
+        final ThrowingObjIntObjConsumer<PreparedStatement, BigDecimal, SQLException> writer(SQLDialect dialect) {
+            return BIND_AS_STRING.contains(dialect) ? null : PreparedStatement::setBigDecimal;
+        }
+
         @Override
         final int sqltype(Statement statement, Configuration configuration) {
             return Types.DECIMAL;
@@ -1763,6 +1834,11 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
             return wasNull(ctx.input(), ctx.input().readBoolean());
         }
 
+        @Override
+        final ThrowingObjIntFunction<ResultSet, Boolean, SQLException> reader(SQLDialect family) {
+            return (rs, i) -> wasNull(rs, rs.getBoolean(i));
+        }
+
         @Override
         final int sqltype(Statement statement, Configuration configuration) throws SQLException {
             switch (configuration.family()) {
@@ -1829,6 +1905,16 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
             return wasNull(ctx.input(), ctx.input().readByte());
         }
 
+        @Override
+        final ThrowingObjIntFunction<ResultSet, Byte, SQLException> reader(SQLDialect family) {
+            return (rs, i) -> wasNull(rs, rs.getByte(i));
+        }
+
+        @Override
+        final ThrowingObjIntObjConsumer<PreparedStatement, Byte, SQLException> writer(SQLDialect dialect) {
+            return (s, i, v) -> s.setByte(i, v);
+        }
+
         @Override
         final int sqltype(Statement statement, Configuration configuration) {
 
@@ -2722,6 +2808,16 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
             return wasNull(ctx.input(), ctx.input().readInt());
         }
 
+        @Override
+        final ThrowingObjIntFunction<ResultSet, Integer, SQLException> reader(SQLDialect family) {
+            return (rs, i) -> wasNull(rs, rs.getInt(i));
+        }
+
+        @Override
+        final ThrowingObjIntObjConsumer<PreparedStatement, Integer, SQLException> writer(SQLDialect dialect) {
+            return (s, i, v) -> s.setInt(i, v);
+        }
+
         @Override
         final int sqltype(Statement statement, Configuration configuration) {
 
@@ -2785,6 +2881,16 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
             return wasNull(ctx.input(), ctx.input().readLong());
         }
 
+        @Override
+        final ThrowingObjIntFunction<ResultSet, Long, SQLException> reader(SQLDialect family) {
+            return (rs, i) -> wasNull(rs, rs.getLong(i));
+        }
+
+        @Override
+        final ThrowingObjIntObjConsumer<PreparedStatement, Long, SQLException> writer(SQLDialect dialect) {
+            return (s, i, v) -> s.setLong(i, v);
+        }
+
         @Override
         final int sqltype(Statement statement, Configuration configuration) {
 
@@ -3840,6 +3946,16 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
             return wasNull(ctx.input(), ctx.input().readShort());
         }
 
+        @Override
+        final ThrowingObjIntFunction<ResultSet, Short, SQLException> reader(SQLDialect family) {
+            return (rs, i) -> wasNull(rs, rs.getShort(i));
+        }
+
+        @Override
+        final ThrowingObjIntObjConsumer<PreparedStatement, Short, SQLException> writer(SQLDialect dialect) {
+            return (s, i, v) -> s.setShort(i, v);
+        }
+
         @Override
         final int sqltype(Statement statement, Configuration configuration) {
 
@@ -3918,6 +4034,16 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
             return ctx.input().readString();
         }
 
+        @Override
+        final ThrowingObjIntFunction<ResultSet, String, SQLException> reader(SQLDialect family) {
+            return ResultSet::getString;
+        }
+
+        @Override
+        final ThrowingObjIntObjConsumer<PreparedStatement, String, SQLException> writer(SQLDialect dialect) {
+            return PreparedStatement::setString;
+        }
+
         @Override
         final int sqltype(Statement statement, Configuration configuration) {
 
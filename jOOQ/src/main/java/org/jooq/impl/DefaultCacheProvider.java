@@ -37,19 +37,21 @@
  */
 package org.jooq.impl;
 
-import static java.util.Collections.synchronizedMap;
 import static org.jooq.impl.Tools.settings;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.jooq.CacheContext;
 import org.jooq.CacheProvider;
+import org.jooq.conf.Settings;
 
 /**
- * A default implementation producing a {@link ConcurrentHashMap} in most cases,
- * or a synchronized LRU cache where appropriate.
+ * A default implementation producing a bounded, lock free {@link LRUCache} for
+ * each {@link CacheType}.
+ * <p>
+ * The caches keep track of hits, misses, and evictions, which can be accessed
+ * through {@link CacheStatistics}.
  *
  * @author Lukas Eder
  */
@@ -57,15 +59,18 @@ final class DefaultCacheProvider implements CacheProvider {
 
     @Override
     public Map<Object, Object> provide(CacheContext ctx) {
-        switch (ctx.cacheType()) {
+        Settings settings = settings(ctx.configuration());
 
-            // TODO: Is there a better implementation than wrapping LinkedHashMap
-            // in synchronizedMap(), i.e. one that does not use a monitor?
-            case CACHE_PARSING_CONNECTION:
-                return synchronizedMap(new LRUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheParsingConnectionLRUCacheSize(), 8912)));
+        switch (ctx.cacheType().category) {
+            case PARSING_CONNECTION:
+                return new LRUCache<>(defaultIfNull(settings.getCacheParsingConnectionLRUCacheSize(), 8192));
 
+            case RECORD_MAPPER:
+                return new LRUCache<>(defaultIfNull(settings.getCacheRecordMappersLRUCacheSize(), 8192));
+
+            case REFLECTION:
             default:
-                return new ConcurrentHashMap<>();
+                return new LRUCache<>(defaultIfNull(settings.getCacheReflectionLRUCacheSize(), 8192));
         }
     }
 }
@@ -79,6 +79,7 @@ import org.jooq.RecordMapperProvider;
 import org.jooq.RecordType;
 import org.jooq.RecordUnmapper;
 import org.jooq.RecordUnmapperProvider;
+import org.jooq.ResultCacheProvider;
 import org.jooq.SQLDialect;
 import org.jooq.TransactionListener;
 import org.jooq.TransactionListenerProvider;
@@ -119,6 +120,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
     private transient CommitProvider                    commitProvider;
     private transient ExecutorProvider                  executorProvider;
     private transient CacheProvider                     cacheProvider;
+    private transient ResultCacheProvider               resultCacheProvider;
     private transient TransactionProvider               transactionProvider;
     private transient RecordMapperProvider              recordMapperProvider;
     private transient RecordUnmapperProvider            recordUnmapperProvider;
@@ -191,6 +193,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             null,
             null,
             null,
+            null,
 
 
 
@@ -219,6 +222,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             configuration.commitProvider,
             configuration.executorProvider,
             configuration.cacheProvider,
+            configuration.resultCacheProvider,
             configuration.transactionProvider,
             configuration.recordMapperProvider,
             configuration.recordUnmapperProvider,
@@ -258,6 +262,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
         CommitProvider commitProvider,
         ExecutorProvider executorProvider,
         CacheProvider cacheProvider,
+        ResultCacheProvider resultCacheProvider,
         TransactionProvider transactionProvider,
         RecordMapperProvider recordMapperProvider,
         RecordUnmapperProvider recordUnmapperProvider,
@@ -286,6 +291,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
         set(commitProvider);
         set(executorProvider);
         set(cacheProvider);
+        set(resultCacheProvider);
         set(transactionProvider);
         set(recordMapperProvider);
         set(recordUnmapperProvider);
@@ -349,6 +355,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -382,6 +389,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -415,6 +423,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -448,6 +457,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             newCommitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -486,6 +496,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             newExecutorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -519,6 +530,41 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             newCacheProvider,
+            resultCacheProvider,
+            transactionProvider,
+            recordMapperProvider,
+            recordUnmapperProvider,
+            recordListenerProviders,
+            executeListenerProviders,
+            migrationListenerProviders,
+            visitListenerProviders,
+            transactionListenerProviders,
+            diagnosticsListenerProviders,
+            unwrapperProvider,
+            charsetProvider,
+            converterProvider,
+
+
+
+            clock,
+            dialect,
+            settings,
+            data
+        );
+    }
+
+    @Override
+    public final Configuration derive(ResultCacheProvider newResultCacheProvider) {
+        return new DefaultConfiguration(
+            connectionProvider,
+            interpreterConnectionProvider,
+            systemConnectionProvider,
+            connectionFactory,
+            metaProvider,
+            commitProvider,
+            executorProvider,
+            cacheProvider,
+            newResultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -552,6 +598,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             newTransactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -590,6 +637,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             newRecordMapperProvider,
             recordUnmapperProvider,
@@ -628,6 +676,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             newRecordUnmapperProvider,
@@ -661,6 +710,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -694,6 +744,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -727,6 +778,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -760,6 +812,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -793,6 +846,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -826,6 +880,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -864,6 +919,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -897,6 +953,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -930,6 +987,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -999,6 +1057,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -1032,6 +1091,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -1065,6 +1125,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
             commitProvider,
             executorProvider,
             cacheProvider,
+            resultCacheProvider,
             transactionProvider,
             recordMapperProvider,
             recordUnmapperProvider,
@@ -1154,6 +1215,12 @@ public class DefaultConfiguration extends AbstractConfiguration {
         return this;
     }
 
+    @Override
+    public final Configuration set(ResultCacheProvider newResultCacheProvider) {
+        this.resultCacheProvider = newResultCacheProvider;
+        return this;
+    }
+
     @Override
     public final Configuration set(TransactionProvider newTransactionProvider) {
         if (newTransactionProvider != null) {
@@ -1395,6 +1462,13 @@ public class DefaultConfiguration extends AbstractConfiguration {
         set(newCacheProvider);
     }
 
+    /**
+     * @see #set(ResultCacheProvider)
+     */
+    public final void setResultCacheProvider(ResultCacheProvider newResultCacheProvider) {
+        set(newResultCacheProvider);
+    }
+
     /**
      * @see #set(TransactionProvider)
      */
@@ -1625,6 +1699,13 @@ public class DefaultConfiguration extends AbstractConfiguration {
              : new DefaultCacheProvider();
     }
 
+    @Override
+    public final ResultCacheProvider resultCacheProvider() {
+        return resultCacheProvider != null
+             ? resultCacheProvider
+             : new NoResultCacheProvider();
+    }
+
     @Override
     public final TransactionProvider transactionProvider() {
 
@@ -49,6 +49,7 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 // ...
 import org.jooq.Converter;
@@ -110,14 +111,24 @@ public final class DefaultConverterProvider implements ConverterProvider, Serial
         ) {
             return new AbstractConverter<T, U>(tType, uType) {
 
+                // Resolve conversions only once per Converter
+                private transient Function<Object, U> from;
+                private transient Function<Object, T> to;
+
                 @Override
                 public U from(T t) {
-                    return Convert.convert(t, uType);
+                    if (from == null)
+                        from = Convert.conversion(tType, uType);
+
+                    return from.apply(t);
                 }
 
                 @Override
                 public T to(U u) {
-                    return Convert.convert(u, tType);
+                    if (to == null)
+                        to = Convert.conversion(uType, tType);
+
+                    return to.apply(u);
                 }
             };
         }
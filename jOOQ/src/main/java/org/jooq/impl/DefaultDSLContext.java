@@ -622,7 +622,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
             throw new ConfigurationException("Cannot use TransactionalRunnable with ThreadLocalTransactionProvider");
 
         return ExecutorProviderCompletionStage.of(CompletableFuture.supplyAsync(
-            () -> { transaction(transactional); return null; }, executor),
+            Deadline.propagate(() -> { transaction(transactional); return null; }), executor),
             () -> executor
         );
     }
@@ -638,7 +638,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
             throw new ConfigurationException("Cannot use TransactionalCallable with ThreadLocalTransactionProvider");
 
         return ExecutorProviderCompletionStage.of(CompletableFuture.supplyAsync(
-            () -> transactionResult(transactional), executor),
+            Deadline.propagate(() -> transactionResult(transactional)), executor),
             () -> executor
         );
     }
@@ -2864,6 +2864,16 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return batchDelete(records.toArray(EMPTY_UPDATABLE_RECORD));
     }
 
+    @Override
+    public void refresh(UpdatableRecord<?>... records) {
+        refresh(Arrays.asList(records));
+    }
+
+    @Override
+    public void refresh(Collection<? extends UpdatableRecord<?>> records) {
+        UpdatableRecordImpl.refresh(this, records);
+    }
+
     // -------------------------------------------------------------------------
     // XXX DDL Statements from existing meta data
     // -------------------------------------------------------------------------
@@ -4614,7 +4624,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
     @Override
     public <R extends Record> CompletionStage<Result<R>> fetchAsync(Executor executor, ResultQuery<R> query) {
         return ExecutorProviderCompletionStage.of(
-            CompletableFuture.supplyAsync(blocking(() -> fetch(query))),
+            CompletableFuture.supplyAsync(blocking(Deadline.propagate(() -> fetch(query))), executor),
             () -> executor
         );
     }
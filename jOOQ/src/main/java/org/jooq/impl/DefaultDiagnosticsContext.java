@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 
 import java.sql.ResultSet;
@@ -46,9 +47,11 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jooq.DiagnosticsContext;
+import org.jooq.Field;
 import org.jooq.tools.JooqLogger;
 
 /**
@@ -73,6 +76,14 @@ final class DefaultDiagnosticsContext implements DiagnosticsContext {
     boolean                         resultSetMissingWasNullCall;
     int                             resultSetColumnIndex;
 
+    // Aggregated from records, rather than from a ResultSet
+    List<String>                    fetchedColumnNames;
+    List<String>                    consumedColumnNames;
+    long                            fetchedBytes = -1L;
+    long                            consumedBytes = -1L;
+    Field<?>                        unindexedField;
+    Map<String, Integer>            unindexedFieldStatements;
+
     DefaultDiagnosticsContext(String actualStatement) {
         this(actualStatement, actualStatement, Collections.singleton(actualStatement), Collections.singletonList(actualStatement));
     }
@@ -114,11 +125,17 @@ final class DefaultDiagnosticsContext implements DiagnosticsContext {
 
     @Override
     public final int resultSetConsumedColumnCount() {
+        if (consumedColumnNames != null)
+            return consumedColumnNames.size();
+
         return resultSet == null ? -1 : resultSetConsumedColumnCount;
     }
 
     @Override
     public final int resultSetFetchedColumnCount() {
+        if (fetchedColumnNames != null)
+            return fetchedColumnNames.size();
+
         return resultSet == null ? -1 : resultSetFetchedColumnCount;
     }
 
@@ -133,6 +150,11 @@ final class DefaultDiagnosticsContext implements DiagnosticsContext {
     }
 
     private final List<String> resultSetColumnNames(boolean fetched) {
+        if (fetched && fetchedColumnNames != null)
+            return Collections.unmodifiableList(fetchedColumnNames);
+        else if (!fetched && consumedColumnNames != null)
+            return Collections.unmodifiableList(consumedColumnNames);
+
         List<String> result = new ArrayList<>();
 
         if (resultSet != null) {
@@ -151,6 +173,26 @@ final class DefaultDiagnosticsContext implements DiagnosticsContext {
         return Collections.unmodifiableList(result);
     }
 
+    @Override
+    public final long fetchedBytes() {
+        return fetchedBytes;
+    }
+
+    @Override
+    public final long consumedBytes() {
+        return consumedBytes;
+    }
+
+    @Override
+    public final Field<?> unindexedField() {
+        return unindexedField;
+    }
+
+    @Override
+    public final Map<String, Integer> unindexedFieldStatements() {
+        return unindexedFieldStatements == null ? emptyMap() : Collections.unmodifiableMap(unindexedFieldStatements);
+    }
+
     @Override
     public final boolean resultSetUnnecessaryWasNullCall() {
         return resultSet == null ? false : resultSetUnnecessaryWasNullCall;
@@ -56,6 +56,12 @@ public class DefaultDiagnosticsListener implements DiagnosticsListener {
     @Override
     public void tooManyColumnsFetched(DiagnosticsContext ctx) {}
 
+    @Override
+    public void unreadColumnsFetched(DiagnosticsContext ctx) {}
+
+    @Override
+    public void missingIndex(DiagnosticsContext ctx) {}
+
     @Override
     public void unnecessaryWasNullCall(DiagnosticsContext ctx) {}
 
@@ -37,6 +37,7 @@
  */
 package org.jooq.impl;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.jooq.conf.SettingsTools.renderLocale;
 import static org.jooq.impl.Tools.EMPTY_INT;
 import static org.jooq.impl.Tools.EMPTY_QUERY;
@@ -52,12 +53,14 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLOutput;
+import java.sql.SQLTimeoutException;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
 
 import org.jooq.Configuration;
 import org.jooq.ConnectionProvider;
@@ -70,6 +73,7 @@ import org.jooq.ExecuteType;
 import org.jooq.Insert;
 import org.jooq.Merge;
 // ...
+import org.jooq.Param;
 import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Result;
@@ -78,6 +82,7 @@ import org.jooq.Routine;
 import org.jooq.SQLDialect;
 import org.jooq.Update;
 import org.jooq.conf.Settings;
+import org.jooq.exception.QueryTimeoutException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.JDBCUtils;
 
@@ -112,6 +117,7 @@ class DefaultExecuteContext implements ExecuteContext {
     private transient Connection                          connection;
     private transient SettingsEnabledConnection           wrappedConnection;
     private transient PreparedStatement                   statement;
+    private transient List<Param<?>>                      bindValues;
     private transient int                                 statementExecutionCount;
     private transient ResultSet                           resultSet;
     private transient Record                              record;
@@ -121,6 +127,8 @@ class DefaultExecuteContext implements ExecuteContext {
     private transient SQLException                        sqlException;
     private transient SQLWarning                          sqlWarning;
     private transient String[]                            serverOutput;
+    private transient ScheduledFuture<?>                  deadline;
+    private transient volatile boolean                    deadlineExpired;
 
     // ------------------------------------------------------------------------
     // XXX: Static utility methods for handling blob / clob lifecycle
@@ -251,7 +259,8 @@ class DefaultExecuteContext implements ExecuteContext {
     // XXX: Static utility methods for handling Configuration lifecycle
     // ------------------------------------------------------------------------
 
-    private static final ThreadLocal<Connection> LOCAL_CONNECTION = new ThreadLocal<>();
+    private static final ThreadLocal<Connection>     LOCAL_CONNECTION        = new ThreadLocal<>();
+    private static final ThreadLocal<ExecuteContext> LOCAL_ACQUIRING_CONTEXT = new ThreadLocal<>();
 
     /**
      * Get the registered connection.
@@ -264,6 +273,18 @@ class DefaultExecuteContext implements ExecuteContext {
         return LOCAL_CONNECTION.get();
     }
 
+    /**
+     * Get the {@link ExecuteContext} that is currently acquiring a connection
+     * from its {@link ConnectionProvider}, if any.
+     * <p>
+     * This allows for {@link ConnectionProvider#acquire()} implementations to
+     * look up what the connection is acquired for, e.g.
+     * {@link Tools.BooleanDataKey#DATA_READ_ONLY_QUERY}.
+     */
+    static final ExecuteContext localAcquiringContext() {
+        return LOCAL_ACQUIRING_CONTEXT.get();
+    }
+
     /**
      * Get the registered connection's "target connection" through
      * {@link Configuration#unwrapperProvider()} if applicable.
@@ -549,8 +570,20 @@ class DefaultExecuteContext implements ExecuteContext {
         // single method. It can thus be guaranteed, that every connection is
         // wrapped by a ConnectionProxy, transparently, in order to implement
         // Settings.getStatementType() correctly.
-        if (wrappedConnection == null && connectionProvider != null)
-            connection(connectionProvider, connectionProvider.acquire());
+        if (wrappedConnection == null && connectionProvider != null) {
+            ExecuteContext previous = LOCAL_ACQUIRING_CONTEXT.get();
+            LOCAL_ACQUIRING_CONTEXT.set(this);
+
+            try {
+                connection(connectionProvider, connectionProvider.acquire());
+            }
+            finally {
+                if (previous == null)
+                    LOCAL_ACQUIRING_CONTEXT.remove();
+                else
+                    LOCAL_ACQUIRING_CONTEXT.set(previous);
+            }
+        }
 
         return wrappedConnection;
     }
@@ -574,6 +607,38 @@ class DefaultExecuteContext implements ExecuteContext {
         return new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c), derivedConfiguration.settings(), this);
     }
 
+    /**
+     * The scheduled cancellation of the statement when the current
+     * {@link Deadline} expires.
+     */
+    final void deadline(ScheduledFuture<?> d) {
+        cancelDeadline();
+        this.deadline = d;
+    }
+
+    final void deadlineExpired() {
+        this.deadlineExpired = true;
+    }
+
+    final void cancelDeadline() {
+        if (deadline != null) {
+            deadline.cancel(false);
+            deadline = null;
+        }
+    }
+
+    /**
+     * The bind values that were bound to the {@link #statement()}, or
+     * <code>null</code> if no values were bound (yet).
+     */
+    final List<Param<?>> bindValues() {
+        return bindValues;
+    }
+
+    final void bindValues(List<Param<?>> b) {
+        this.bindValues = b;
+    }
+
     final void incrementStatementExecutionCount() {
         statementExecutionCount++;
     }
@@ -658,7 +723,14 @@ class DefaultExecuteContext implements ExecuteContext {
     @Override
     public final void sqlException(SQLException e) {
         this.sqlException = e;
-        exception(Tools.translate(sql(), e));
+
+        // The statement was cancelled by Deadline, or timed out in the JDBC
+        // driver, which most drivers report as a SQLTimeoutException. Other
+        // timeouts, e.g. a shorter Settings.queryTimeout, aren't deadlines.
+        if (deadlineExpired || e instanceof SQLTimeoutException && deadline != null && deadline.getDelay(NANOSECONDS) <= 0)
+            exception(new QueryTimeoutException("SQL [" + sql() + "]; Deadline expired", e));
+        else
+            exception(Tools.translate(sql(), e));
     }
 
     @Override
@@ -37,7 +37,12 @@
  */
 package org.jooq.impl;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.jooq.ExecuteContext;
+import org.jooq.ExecuteEvent;
 import org.jooq.ExecuteListener;
 
 /**
@@ -50,6 +55,40 @@ import org.jooq.ExecuteListener;
  */
 public class DefaultExecuteListener implements ExecuteListener {
 
+    /**
+     * The events whose methods are overridden by a subclass.
+     */
+    private static final ClassValue<Set<ExecuteEvent>> EVENTS = new ClassValue<Set<ExecuteEvent>>() {
+        @Override
+        protected Set<ExecuteEvent> computeValue(Class<?> type) {
+            Set<ExecuteEvent> result = EnumSet.noneOf(ExecuteEvent.class);
+
+            for (ExecuteEvent event : ExecuteEvent.values()) {
+                try {
+                    if (type.getMethod(method(event), ExecuteContext.class).getDeclaringClass() != DefaultExecuteListener.class)
+                        result.add(event);
+                }
+                catch (NoSuchMethodException e) {
+                    result.add(event);
+                }
+            }
+
+            return Collections.unmodifiableSet(result);
+        }
+
+        private String method(ExecuteEvent event) {
+            StringBuilder sb = new StringBuilder();
+
+            for (String s : event.name().toLowerCase().split("_"))
+                if (sb.length() == 0)
+                    sb.append(s);
+                else
+                    sb.append(Character.toUpperCase(s.charAt(0))).append(s.substring(1));
+
+            return sb.toString();
+        }
+    };
+
     @Override
     public void start(ExecuteContext ctx) {}
 
@@ -110,4 +149,14 @@ public class DefaultExecuteListener implements ExecuteListener {
     @Override
     public void warning(ExecuteContext ctx) {}
 
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Subclasses consume the events whose methods they override.
+     */
+    @Override
+    public Set<ExecuteEvent> events() {
+        return EVENTS.get(getClass());
+    }
 }
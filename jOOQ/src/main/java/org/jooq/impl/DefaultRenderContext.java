@@ -45,6 +45,7 @@ import static org.jooq.impl.Identifiers.QUOTES;
 import static org.jooq.impl.Identifiers.QUOTE_END_DELIMITER;
 import static org.jooq.impl.Identifiers.QUOTE_END_DELIMITER_ESCAPED;
 import static org.jooq.impl.Identifiers.QUOTE_START_DELIMITER;
+import static org.jooq.impl.Tools.maxBindValues;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_COUNT_BIND_VALUES;
 import static org.jooq.impl.Tools.DataKey.DATA_PREPEND_SQL;
 
@@ -678,50 +679,7 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
             if (!param.isInline()) {
                 bindValues.add(param);
-
-                Integer threshold = settings().getInlineThreshold();
-                if (threshold != null && threshold > 0) {
-                    checkForceInline(threshold);
-                }
-                else {
-                    switch (family()) {
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-                        // [#5701] Tests were conducted with PostgreSQL 9.5 and pgjdbc 9.4.1209
-                        case POSTGRES:
-                            checkForceInline(32767);
-                            break;
-
-                        case SQLITE:
-                            checkForceInline(999);
-                            break;
-
-                        default:
-                            break;
-                    }
-                }
+                checkForceInline(maxBindValues(configuration()));
             }
         }
     }
@@ -990,6 +948,7 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
         String                  sql;
         QueryPartList<Param<?>> bindValues;
         int                     skipUpdateCounts;
+        boolean                 readOnly;
 
         Rendered(String sql, QueryPartList<Param<?>> bindValues, int skipUpdateCounts) {
             this.sql = sql;
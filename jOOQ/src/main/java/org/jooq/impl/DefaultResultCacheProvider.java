@@ -0,0 +1,199 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.Result;
+import org.jooq.ResultCacheProvider;
+import org.jooq.Table;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A default implementation for {@link ResultCacheProvider}, which caches
+ * results in heap memory.
+ * <p>
+ * The cache is bounded by a maximum number of results, evicting the least
+ * recently used ones, and results expire after a time to live. Invalidations
+ * are tracked per table using a monotonic version: a result is only stored if
+ * none of its tables have been invalidated since its query missed the cache,
+ * and cached results are discarded lazily when they are looked up after one of
+ * their tables has been invalidated.
+ *
+ * @author Lukas Eder
+ */
+public class DefaultResultCacheProvider implements ResultCacheProvider {
+
+    private final LRUCache<List<Object>, CachedResult> results;
+    private final LRUCache<List<Object>, Long>         misses;
+    private final Map<Table<?>, Long>                  invalidated;
+    private final AtomicLong                           version;
+    private final AtomicLong                           hits;
+    private final AtomicLong                           lookupMisses;
+    private final long                                 timeToLive;
+    private volatile long                              invalidatedAll;
+
+    /**
+     * Create a new cache.
+     *
+     * @param maxSize The maximum number of cached results.
+     * @param timeToLive The time after which a cached result expires, or
+     *            <code>null</code> if results should never expire.
+     */
+    public DefaultResultCacheProvider(int maxSize, Duration timeToLive) {
+        this.results = new LRUCache<>(maxSize);
+        this.misses = new LRUCache<>(maxSize);
+        this.invalidated = new ConcurrentHashMap<>();
+        this.version = new AtomicLong();
+        this.hits = new AtomicLong();
+        this.lookupMisses = new AtomicLong();
+        this.timeToLive = timeToLive == null ? Long.MAX_VALUE : timeToLive.toNanos();
+    }
+
+    @Nullable
+    @Override
+    public Result<?> get(String sql, List<?> columns, List<?> bindValues) {
+        List<Object> key = key(sql, columns, bindValues);
+        CachedResult cached = results.get(key);
+
+        if (cached != null) {
+            if (System.nanoTime() - cached.created < timeToLive && !invalidated(cached.tables, cached.version)) {
+                hits.incrementAndGet();
+                return cached.result;
+            }
+
+            results.remove(key, cached);
+        }
+
+        lookupMisses.incrementAndGet();
+        misses.put(key, version.get());
+        return null;
+    }
+
+    @Override
+    public void put(String sql, List<?> columns, List<?> bindValues, Collection<? extends Table<?>> tables, Result<?> result) {
+        List<Object> key = key(sql, columns, bindValues);
+        Long missed = misses.remove(key);
+
+        // Results are only stored if no concurrent modification could have
+        // been missed between the lookup and the fetch
+        if (missed != null && !invalidated(tables, missed))
+            results.put(key, new CachedResult(result, new ArrayList<>(tables), missed, System.nanoTime()));
+    }
+
+    @Override
+    public void invalidate(Collection<? extends Table<?>> tables) {
+        long v = version.incrementAndGet();
+
+        for (Table<?> table : tables)
+            invalidated.merge(table, v, Math::max);
+    }
+
+    @Override
+    public void invalidateAll() {
+        invalidatedAll = version.incrementAndGet();
+        results.clear();
+    }
+
+    /**
+     * The number of currently cached results.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * The number of lookups that were served from this cache.
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * The number of lookups that couldn't be served from this cache.
+     */
+    public long misses() {
+        return lookupMisses.get();
+    }
+
+    private final boolean invalidated(Collection<? extends Table<?>> tables, long v) {
+        if (invalidatedAll > v)
+            return true;
+
+        for (Table<?> table : tables) {
+            Long i = invalidated.get(table);
+
+            if (i != null && i > v)
+                return true;
+        }
+
+        return false;
+    }
+
+    private static final List<Object> key(String sql, List<?> columns, List<?> bindValues) {
+        Object[] array = new Object[bindValues.size() + 2];
+        array[0] = sql;
+        array[1] = columns;
+
+        for (int i = 0; i < bindValues.size(); i++)
+            array[i + 2] = bindValues.get(i);
+
+        return Tools.valuesKey(array);
+    }
+
+    private static final class CachedResult {
+        final Result<?>         result;
+        final List<Table<?>>    tables;
+        final long              version;
+        final long              created;
+
+        CachedResult(Result<?> result, List<Table<?>> tables, long version, long created) {
+            this.result = result;
+            this.tables = tables;
+            this.version = version;
+            this.created = created;
+        }
+    }
+}
@@ -38,7 +38,9 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.TRUE;
+import static org.jooq.SQLDialect.POSTGRES;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_DEFAULT_TRANSACTION_PROVIDER_AUTOCOMMIT;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_READ_ONLY_QUERY;
 import static org.jooq.impl.Tools.DataKey.DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION;
 import static org.jooq.impl.Tools.DataKey.DATA_DEFAULT_TRANSACTION_PROVIDER_SAVEPOINTS;
 
@@ -47,9 +49,14 @@ import java.sql.SQLException;
 import java.sql.Savepoint;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
 
 import org.jooq.Configuration;
 import org.jooq.ConnectionProvider;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.SQLDialect;
 import org.jooq.TransactionContext;
 import org.jooq.TransactionProvider;
 import org.jooq.exception.DataAccessException;
@@ -66,6 +73,14 @@ import org.jooq.exception.DataAccessException;
  * supported by the underlying JDBC driver, and if {@link #nested()} is
  * <code>true</code>. To deactivate nested transactions, use
  * {@link #DefaultTransactionProvider(ConnectionProvider, boolean)}.
+ * <p>
+ * If {@link org.jooq.conf.Settings#isTransactionLazySavepoints()} is active,
+ * the savepoint of a nested transaction is created only before its first
+ * statement that may write data, saving the round trips for nested
+ * transactions that only read. <code>SELECT</code> statements with locking
+ * clauses, or with plain SQL, sequences, or stored functions count as writes.
+ * In {@link SQLDialect#POSTGRES}, where a failing statement aborts the whole
+ * transaction, savepoints are always created eagerly.
  *
  * @author Lukas Eder
  */
@@ -83,6 +98,8 @@ public class DefaultTransactionProvider implements TransactionProvider {
      */
     private static final Savepoint IGNORED_SAVEPOINT     = new DefaultSavepoint();
 
+    private static final Set<SQLDialect> NO_SUPPORT_LAZY_SAVEPOINTS = SQLDialect.supportedBy(POSTGRES);
+
     private final ConnectionProvider connectionProvider;
     private final boolean            nested;
 
@@ -167,15 +184,58 @@ public class DefaultTransactionProvider implements TransactionProvider {
             case CUBRID:
                 return UNSUPPORTED_SAVEPOINT;
             default:
-                return connection(configuration).setSavepoint();
+                // A failing statement aborts the whole transaction in some
+                // dialects, unless there is a savepoint to roll back to
+                if (TRUE.equals(configuration.settings().isTransactionLazySavepoints())
+                        && !NO_SUPPORT_LAZY_SAVEPOINTS.contains(configuration.dialect()))
+                    return new LazySavepoint();
+                else
+                    return connection(configuration).setSavepoint();
         }
     }
 
+    /**
+     * A listener that creates the pending {@link LazySavepoint}s of the
+     * current transaction before the first write, or <code>null</code> if
+     * there are no pending savepoints.
+     */
+    static final ExecuteListener lazySavepointListener(Configuration configuration) {
+        if (!TRUE.equals(configuration.settings().isTransactionLazySavepoints()))
+            return null;
+
+        @SuppressWarnings("unchecked")
+        Deque<Savepoint> savepoints = (Deque<Savepoint>) configuration.data(DATA_DEFAULT_TRANSACTION_PROVIDER_SAVEPOINTS);
+        if (savepoints == null || !(savepoints.peek() instanceof LazySavepoint) || ((LazySavepoint) savepoints.peek()).delegate != null)
+            return null;
+
+        return new DefaultExecuteListener() {
+            @Override
+            public void executeStart(ExecuteContext ctx) {
+                if (TRUE.equals(ctx.data(DATA_READ_ONLY_QUERY)))
+                    return;
+
+                // Savepoints of enclosing transactions must be created first,
+                // in order to roll back the right statements
+                DefaultConnectionProvider connection = (DefaultConnectionProvider) configuration.data(DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION);
+                for (Iterator<Savepoint> it = savepoints.descendingIterator(); it.hasNext();) {
+                    Savepoint savepoint = it.next();
+
+                    if (savepoint instanceof LazySavepoint && ((LazySavepoint) savepoint).delegate == null)
+                        ((LazySavepoint) savepoint).delegate = connection.setSavepoint();
+                }
+            }
+        };
+    }
+
     @Override
     public final void commit(TransactionContext ctx) {
         Deque<Savepoint> savepoints = savepoints(ctx.configuration());
         Savepoint savepoint = savepoints.pop();
 
+        // Lazy savepoints that haven't been created don't need to be released
+        if (savepoint instanceof LazySavepoint)
+            savepoint = ((LazySavepoint) savepoint).delegate;
+
         // [#3489] Explicitly release savepoints prior to commit
         if (savepoint != null && savepoint != UNSUPPORTED_SAVEPOINT && savepoint != IGNORED_SAVEPOINT)
             try {
@@ -207,7 +267,16 @@ public class DefaultTransactionProvider implements TransactionProvider {
             savepoint = savepoints.pop();
 
         try {
-            if (savepoint == null || savepoint == UNSUPPORTED_SAVEPOINT) {
+
+            // Nothing was written since a lazy savepoint was requested, so
+            // there is nothing to roll back
+            if (savepoint instanceof LazySavepoint) {
+                Savepoint delegate = ((LazySavepoint) savepoint).delegate;
+
+                if (delegate != null)
+                    connection(ctx.configuration()).rollback(delegate);
+            }
+            else if (savepoint == null || savepoint == UNSUPPORTED_SAVEPOINT) {
                 connection(ctx.configuration()).rollback();
             }
 
@@ -254,6 +323,15 @@ public class DefaultTransactionProvider implements TransactionProvider {
         }
     }
 
+    /**
+     * A {@link Savepoint} of a nested transaction that is created only when
+     * the transaction first writes, see
+     * {@link org.jooq.conf.Settings#isTransactionLazySavepoints()}.
+     */
+    private static class LazySavepoint extends DefaultSavepoint {
+        Savepoint delegate;
+    }
+
     private static class DefaultSavepoint implements Savepoint {
         @Override
         public int getSavepointId() throws SQLException {
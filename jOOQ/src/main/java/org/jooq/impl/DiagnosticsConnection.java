@@ -56,6 +56,7 @@ import org.jooq.Configuration;
 import org.jooq.Parser;
 import org.jooq.Queries;
 import org.jooq.RenderContext;
+import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.tools.jdbc.DefaultConnection;
 
@@ -80,18 +81,23 @@ final class DiagnosticsConnection extends DefaultConnection {
         super(configuration.connectionProvider().acquire());
 
         this.configuration = configuration;
-        this.normalisingRenderer = configuration.derive(
-            SettingsTools.clone(configuration.settings())
+        this.normalisingRenderer = configuration.derive(normalisingSettings(configuration.settings())).dsl().renderContext();
+        this.parser = configuration.dsl().parser();
+        this.listeners = DiagnosticsListeners.get(configuration);
+    }
+
+    /**
+     * The settings used to render normalised statements.
+     */
+    static final Settings normalisingSettings(Settings settings) {
+        return SettingsTools.clone(settings)
 
             // Forcing all inline parameters to be indexed helps find opportunities to use bind variables
             .withParamType(FORCE_INDEXED)
 
             // Padding IN lists shows duplicates that arise from arbitrary-length dynamic IN lists
             .withInListPadding(true)
-            .withInListPadBase(16)
-        ).dsl().renderContext();
-        this.parser = configuration.dsl().parser();
-        this.listeners = DiagnosticsListeners.get(configuration);
+            .withInListPadBase(16);
     }
 
     @Override
@@ -0,0 +1,369 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static org.jooq.impl.Tools.abstractDMLQuery;
+import static org.jooq.impl.Tools.blocking;
+import static org.jooq.impl.Tools.selectQueryImpl;
+import static org.jooq.impl.Tools.unalias;
+import static org.jooq.impl.Tools.DataKey.DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.DiagnosticsListener;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.Field;
+import org.jooq.Index;
+import org.jooq.Name;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.conf.Settings;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * An {@link ExecuteListener} that aggregates the columns used in predicates
+ * and join conditions of executed queries per table, and reports frequently
+ * used columns that aren't supported by any index.
+ *
+ * @see DiagnosticsListener#missingIndex(org.jooq.DiagnosticsContext)
+ * @see Settings#isDiagnosticsMissingIndexes()
+ * @author Lukas Eder
+ */
+final class DiagnosticsIndexListener extends DefaultExecuteListener {
+
+    private static final JooqLogger                      log            = JooqLogger.getLogger(DiagnosticsIndexListener.class);
+    private static final DiagnosticsIndexListener        INSTANCE       = new DiagnosticsIndexListener();
+
+    static final int                                     LRU_SIZE       = 500;
+    static final int                                     MIN_EXECUTIONS = 10;
+    static final int                                     MAX_STATEMENTS = 20;
+    static final LRUCache<Name, TableStatistics>         STATISTICS     = new LRUCache<>(LRU_SIZE);
+
+    /**
+     * Return the listener if missing index diagnostics are turned on, or
+     * <code>null</code> otherwise.
+     */
+    static final ExecuteListener get(Configuration configuration) {
+        if (!TRUE.equals(configuration.settings().isDiagnosticsMissingIndexes())
+                || configuration.diagnosticsListenerProviders().length == 0)
+            return null;
+        else
+            return INSTANCE;
+    }
+
+    @Override
+    public final void end(ExecuteContext ctx) {
+        if (ctx.exception() != null || ctx.query() == null || ctx.sql() == null)
+            return;
+
+        Predicates predicates = new Predicates();
+        predicates.query(ctx.query());
+
+        for (Entry<Table<?>, Set<String>> e : predicates.columns.entrySet()) {
+            TableStatistics statistics = STATISTICS.computeIfAbsent(e.getKey().getQualifiedName(), k -> new TableStatistics(e.getKey()));
+
+            for (String column : e.getValue()) {
+                DefaultDiagnosticsContext diagnostics = statistics.add(ctx.sql(), column);
+
+                // The indexes may have to be looked up from the database,
+                // which must not block the executing thread
+                if (diagnostics != null) {
+                    Configuration configuration = ctx.configuration();
+
+                    statistics.indexed(ctx).thenAccept(indexed -> {
+                        if (indexed != null && !indexed.contains(column))
+                            DiagnosticsListeners.get(configuration).missingIndex(diagnostics);
+                    });
+                }
+            }
+        }
+    }
+
+    /**
+     * The columns referenced by equality and range predicates, per table.
+     */
+    private static final class Predicates {
+        final Map<Name, Table<?>>        scope   = new HashMap<>();
+        final Set<Table<?>>              tables  = new LinkedHashSet<>();
+        final List<Condition>            joins   = new ArrayList<>();
+        final Map<Table<?>, Set<String>> columns = new LinkedHashMap<>();
+
+        final void query(Query query) {
+            SelectQueryImpl<?> select = selectQueryImpl(query);
+
+            if (select != null) {
+                from(select.getFrom());
+                where(select.getWhere());
+                return;
+            }
+
+            AbstractDMLQuery<?> dml = abstractDMLQuery(query);
+
+            if (dml instanceof UpdateQueryImpl) {
+                from(dml.table());
+                from(((UpdateQueryImpl<?>) dml).getFrom());
+                where(((UpdateQueryImpl<?>) dml).getWhere());
+            }
+            else if (dml instanceof DeleteQueryImpl) {
+                from(dml.table());
+                where(((DeleteQueryImpl<?>) dml).getWhere());
+            }
+        }
+
+        private final void from(Iterable<? extends Table<?>> list) {
+            for (Table<?> t : list)
+                from(t);
+        }
+
+        private final void from(Table<?> t) {
+            if (t instanceof JoinTable) {
+                JoinTable join = (JoinTable) t;
+
+                from(join.lhs);
+                from(join.rhs);
+                joins.add(join.condition.getWhere());
+            }
+            else {
+                Table<?> u = unalias(t);
+
+                // Only actual tables have indexes, not derived tables,
+                // table valued functions, or plain SQL tables
+                if (u instanceof TableImpl && !(u instanceof JoinTable)) {
+                    scope.put(t.getUnqualifiedName(), u);
+                    scope.putIfAbsent(u.getUnqualifiedName(), u);
+                    tables.add(u);
+                }
+            }
+        }
+
+        private final void where(Condition where) {
+
+            // Join conditions are resolved once all tables are in scope
+            for (Condition join : joins)
+                condition(join);
+
+            condition(where);
+        }
+
+        private final void condition(Condition c) {
+            if (c instanceof ConditionProviderImpl)
+                condition(((ConditionProviderImpl) c).getWhere());
+            else if (c instanceof CombinedCondition)
+                for (Condition x : ((CombinedCondition) c).conditions)
+                    condition(x);
+            else if (c instanceof CompareCondition) {
+                CompareCondition compare = (CompareCondition) c;
+
+                switch (compare.comparator) {
+                    case EQUALS:
+                    case LESS:
+                    case LESS_OR_EQUAL:
+                    case GREATER:
+                    case GREATER_OR_EQUAL:
+                        column(compare.field1);
+                        column(compare.field2);
+                        break;
+                }
+            }
+            else if (c instanceof BetweenCondition)
+                column(((BetweenCondition<?>) c).field);
+            else if (c instanceof InCondition && ((InCondition<?>) c).comparator == org.jooq.Comparator.IN)
+                column(((InCondition<?>) c).field);
+        }
+
+        private final void column(Field<?> f) {
+            Table<?> t = table(f);
+
+            if (t != null)
+                columns.computeIfAbsent(t, k -> new LinkedHashSet<>()).add(f.getName());
+        }
+
+        private final Table<?> table(Field<?> f) {
+            if (f instanceof TableField) {
+                Table<?> t = ((TableField<?, ?>) f).getTable();
+
+                if (t != null) {
+                    Table<?> u = scope.get(t.getUnqualifiedName());
+                    return u != null ? u : tables.contains(unalias(t)) ? unalias(t) : null;
+                }
+            }
+
+            // Bind values can't be supported by indexes
+            else if (f instanceof Param)
+                return null;
+
+            // Fields created from names, e.g. DSL.field(Name), and other
+            // fields, whose names may reference a column
+            Name name = f.getQualifiedName();
+            Table<?> t = name.qualified()
+                ? scope.get(name.qualifier().unqualifiedName())
+                : tables.size() == 1
+                ? tables.iterator().next()
+                : null;
+
+            // Other expressions can't be supported by ordinary indexes
+            if (t == null || !(f instanceof TableField) && t.field(name.last()) == null)
+                return null;
+            else
+                return t;
+        }
+    }
+
+    private static final class TableStatistics {
+        final Table<?>                       table;
+        final Map<String, ColumnStatistics>  columns = new HashMap<>();
+        CompletableFuture<Set<String>>       indexed;
+
+        TableStatistics(Table<?> table) {
+            this.table = table;
+        }
+
+        /**
+         * Count an execution, and return the diagnostics to report if the
+         * column is used frequently enough to be checked for an index.
+         */
+        synchronized DefaultDiagnosticsContext add(String sql, String column) {
+            ColumnStatistics c = columns.computeIfAbsent(column, k -> new ColumnStatistics());
+            c.executions++;
+
+            if (c.statements.size() < MAX_STATEMENTS || c.statements.containsKey(sql))
+                c.statements.merge(sql, 1, Integer::sum);
+
+            if (c.evaluated || c.executions < MIN_EXECUTIONS)
+                return null;
+
+            c.evaluated = true;
+            String statement = null;
+            int max = 0;
+            for (Entry<String, Integer> e : c.statements.entrySet()) {
+                if (e.getValue() > max) {
+                    max = e.getValue();
+                    statement = e.getKey();
+                }
+            }
+
+            Field<?> field = table.field(column);
+            DefaultDiagnosticsContext result = new DefaultDiagnosticsContext(statement, statement, null, null);
+            result.unindexedField = field != null ? field : DSL.field(table.getQualifiedName().append(column));
+            result.unindexedFieldStatements = new LinkedHashMap<>(c.statements);
+            return result;
+        }
+
+        /**
+         * The leading columns of the table's indexes and keys, or
+         * <code>null</code> if they're unknown.
+         */
+        synchronized CompletableFuture<Set<String>> indexed(ExecuteContext ctx) {
+            if (indexed == null)
+                indexed = lookup(ctx);
+
+            return indexed;
+        }
+
+        private final CompletableFuture<Set<String>> lookup(ExecuteContext ctx) {
+            if (!table.getIndexes().isEmpty() || !table.getKeys().isEmpty())
+                return CompletableFuture.completedFuture(indexed(table));
+
+            // The meta lookup runs asynchronously on a connection of its own,
+            // which can't be done with a single JDBC connection
+            Configuration configuration = ctx instanceof DefaultExecuteContext
+                ? ((DefaultExecuteContext) ctx).originalConfiguration()
+                : ctx.configuration();
+
+            if (configuration.data(DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION) != null
+                    || configuration.connectionProvider() instanceof DefaultConnectionProvider)
+                return CompletableFuture.completedFuture(null);
+
+            Configuration c = configuration
+
+                // Meta lookups must not be captured by this or other listeners
+                .derive(new ExecuteListenerProvider[0]);
+            Executor executor = configuration.executorProvider().provide();
+
+            return CompletableFuture.supplyAsync(blocking(() -> {
+                try {
+                    List<Table<?>> tables = c.dsl().meta().getTables(table.getQualifiedName());
+                    return tables.isEmpty() ? null : indexed(tables.get(0));
+                }
+                catch (DataAccessException e) {
+                    log.debug("Cannot look up indexes", e);
+                    return null;
+                }
+            }), executor);
+        }
+
+        private static final Set<String> indexed(Table<?> t) {
+            Set<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+            for (Index index : t.getIndexes())
+                if (!index.getFields().isEmpty())
+                    result.add(index.getFields().get(0).getName());
+
+            for (UniqueKey<?> key : t.getKeys())
+                if (!key.getFields().isEmpty())
+                    result.add(key.getFields().get(0).getName());
+
+            return result;
+        }
+    }
+
+    private static final class ColumnStatistics {
+        final Map<String, Integer> statements = new LinkedHashMap<>();
+        int                        executions;
+        boolean                    evaluated;
+    }
+}
@@ -71,6 +71,18 @@ final class DiagnosticsListeners implements DiagnosticsListener {
             listener.tooManyColumnsFetched(ctx);
     }
 
+    @Override
+    public final void unreadColumnsFetched(DiagnosticsContext ctx) {
+        for (DiagnosticsListener listener : listeners)
+            listener.unreadColumnsFetched(ctx);
+    }
+
+    @Override
+    public final void missingIndex(DiagnosticsContext ctx) {
+        for (DiagnosticsListener listener : listeners)
+            listener.missingIndex(ctx);
+    }
+
     @Override
     public final void unnecessaryWasNullCall(DiagnosticsContext ctx) {
         for (DiagnosticsListener listener : listeners)
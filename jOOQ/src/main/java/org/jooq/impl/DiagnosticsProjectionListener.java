@@ -0,0 +1,232 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jooq.Configuration;
+import org.jooq.DiagnosticsListener;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.conf.Settings;
+
+/**
+ * An {@link ExecuteListener} that tracks which columns of the fetched records
+ * are read by the application, for a sample of executions.
+ * <p>
+ * The records of a sampled execution share a {@link BitSet} that is updated
+ * whenever a value is read. As records may be read long after the execution
+ * has ended, a sample is only aggregated into the statistics of its normalised
+ * statement once the next sample of the same statement ends.
+ *
+ * @see DiagnosticsListener#unreadColumnsFetched(org.jooq.DiagnosticsContext)
+ * @see Settings#getDiagnosticsProjectionSampling()
+ * @author Lukas Eder
+ */
+final class DiagnosticsProjectionListener extends DefaultExecuteListener {
+
+    static final int                              LRU_SIZE    = 500;
+    static final int                              MIN_SAMPLES = 2;
+    static final LRUCache<String, Statistics>     STATISTICS  = new LRUCache<>(LRU_SIZE);
+
+    private Sample                                sample;
+
+    /**
+     * Return a listener if the current execution is sampled, or
+     * <code>null</code> otherwise.
+     */
+    static final ExecuteListener get(Configuration configuration) {
+        Integer sampling = configuration.settings().getDiagnosticsProjectionSampling();
+
+        if (sampling == null
+                || sampling <= 0
+                || configuration.diagnosticsListenerProviders().length == 0
+                || ThreadLocalRandom.current().nextInt(sampling) != 0)
+            return null;
+        else
+            return new DiagnosticsProjectionListener();
+    }
+
+    @Override
+    public final void recordEnd(ExecuteContext ctx) {
+        Record r = ctx.record();
+
+        if (!(r instanceof AbstractRecord))
+            return;
+
+        AbstractRecord record = (AbstractRecord) r;
+
+        // Only the first result of a statement is tracked
+        if (sample == null)
+            sample = new Sample(record.fields);
+        else if (sample.row != record.fields)
+            return;
+
+        record.read = sample.read;
+        for (int i = 0; i < sample.bytes.length; i++)
+            sample.bytes[i] += bytes(record.values[i]);
+    }
+
+    @Override
+    public final void end(ExecuteContext ctx) {
+        if (sample == null || ctx.sql() == null)
+            return;
+
+        String normalised = normalise(ctx);
+        DefaultDiagnosticsContext diagnostics = STATISTICS
+            .computeIfAbsent(normalised, k -> new Statistics())
+            .add(ctx.sql(), normalised, sample);
+
+        if (diagnostics != null)
+            DiagnosticsListeners.get(ctx.configuration()).unreadColumnsFetched(diagnostics);
+    }
+
+    private static final String normalise(ExecuteContext ctx) {
+        try {
+            return ctx.configuration()
+                      .derive(DiagnosticsConnection.normalisingSettings(ctx.settings()))
+                      .dsl()
+                      .render(ctx.dsl().parser().parse(ctx.sql()));
+        }
+        catch (ParserException ignore) {
+            return ctx.sql();
+        }
+    }
+
+    /**
+     * A rough estimate of the number of bytes that a value occupies when
+     * transferred over the wire.
+     */
+    static final long bytes(Object value) {
+        if (value == null)
+            return 0L;
+        else if (value instanceof String)
+            return ((String) value).length();
+        else if (value instanceof byte[])
+            return ((byte[]) value).length;
+        else if (value instanceof BigDecimal)
+            return ((BigDecimal) value).unscaledValue().bitLength() / 8 + 1;
+        else if (value instanceof BigInteger)
+            return ((BigInteger) value).bitLength() / 8 + 1;
+        else if (value instanceof Boolean || value instanceof Byte)
+            return 1L;
+        else if (value instanceof Short)
+            return 2L;
+        else if (value instanceof Integer || value instanceof Float)
+            return 4L;
+        else
+            return 8L;
+    }
+
+    private static final class Sample {
+        final AbstractRow<?> row;
+        final BitSet         read;
+        final long[]         bytes;
+
+        Sample(AbstractRow<?> row) {
+            this.row = row;
+            this.read = new BitSet(row.size());
+            this.bytes = new long[row.size()];
+        }
+    }
+
+    private static final class Statistics {
+        Sample   pending;
+        String[] names;
+        BitSet   read;
+        long[]   bytes;
+        int      samples;
+        boolean  reported;
+
+        synchronized DefaultDiagnosticsContext add(String sql, String normalised, Sample sample) {
+            Sample previous = pending;
+            pending = sample;
+
+            if (previous == null || reported)
+                return null;
+
+            String[] n = Tools.map(previous.row.fields(), Field::getName, String[]::new);
+            if (!Arrays.equals(names, n)) {
+                names = n;
+                read = new BitSet(n.length);
+                bytes = new long[n.length];
+                samples = 0;
+            }
+
+            read.or(previous.read);
+            for (int i = 0; i < bytes.length; i++)
+                bytes[i] += previous.bytes[i];
+
+            if (++samples < MIN_SAMPLES)
+                return null;
+
+            long fetched = 0L;
+            long consumed = 0L;
+            List<String> consumedNames = new ArrayList<>();
+
+            for (int i = 0; i < bytes.length; i++) {
+                fetched += bytes[i];
+
+                if (read.get(i)) {
+                    consumed += bytes[i];
+                    consumedNames.add(names[i]);
+                }
+            }
+
+            // Report only if most of the fetched bytes were never read
+            if (fetched == 0L || consumed * 2 >= fetched)
+                return null;
+
+            reported = true;
+            DefaultDiagnosticsContext result = new DefaultDiagnosticsContext(sql, normalised, null, null);
+            result.fetchedColumnNames = Arrays.asList(names.clone());
+            result.consumedColumnNames = consumedNames;
+            result.fetchedBytes = fetched;
+            result.consumedBytes = consumed;
+            return result;
+        }
+    }
+}
@@ -60,12 +60,15 @@ import static org.jooq.tools.StringUtils.defaultString;
 import static org.jooq.tools.StringUtils.isEmpty;
 
 import java.math.BigDecimal;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jooq.AlterSequenceFlagsStep;
@@ -90,6 +93,8 @@ import org.jooq.Query;
 import org.jooq.SQLDialect;
 import org.jooq.Schema;
 import org.jooq.Sequence;
+import org.jooq.SortField;
+import org.jooq.SortOrder;
 import org.jooq.Table;
 import org.jooq.TableOptions.TableType;
 import org.jooq.UniqueKey;
@@ -110,6 +115,7 @@ final class Diff {
     private final Meta                   meta1;
     private final Meta                   meta2;
     private final DDL                    ddl;
+    private final Map<Table<?>, Shape>   shapes;
 
     Diff(Configuration configuration, MigrationConfiguration migrateConf, Meta meta1, Meta meta2) {
         this.migrateConf = migrateConf;
@@ -118,6 +124,7 @@ final class Diff {
         this.meta1 = meta1;
         this.meta2 = meta2;
         this.ddl = new DDL(ctx, exportConf);
+        this.shapes = new IdentityHashMap<>();
     }
 
     final Queries queries() {
@@ -283,7 +290,10 @@ final class Diff {
                 replaceView(r, t1, t2);
                 return;
             }
-            else {
+
+            // Structurally identical tables cannot produce any column, key,
+            // check or index difference, so there's no need to descend into them
+            else if (!shape(t1).equals(shape(t2))) {
 
                 // TODO: The order of dropping / adding these objects might be incorrect
                 //       as there could be inter-dependencies.
@@ -317,6 +327,98 @@ final class Diff {
         return append(result, l1, l2, null, createTable(), dropTable(), MERGE_TABLE);
     }
 
+    private final Shape shape(Table<?> t) {
+        return shapes.computeIfAbsent(t, Shape::new);
+    }
+
+    /**
+     * The structure of a table, as far as {@link #MERGE_TABLE} is concerned.
+     * <p>
+     * Two tables whose shapes are equal produce no column, key, check or index
+     * differences. Shapes are compared by their precomputed hash code first,
+     * and element by element only if the hash codes match. Objects are
+     * recorded in declaration order, so tables that differ only in the order
+     * of their keys, checks or indexes are still merged the long way.
+     */
+    private static final class Shape {
+        private final List<Object> parts;
+        private final int          hash;
+
+        Shape(Table<?> t) {
+            parts = new ArrayList<>();
+
+            for (Field<?> f : t.fields()) {
+                DataType<?> type = f.getDataType();
+
+                add(f.getQualifiedName(), type.getTypeName(), type.getType(), type.nullable(), type.defaulted());
+
+                if (type.defaulted())
+                    parts.add(String.valueOf(type.defaultValue()));
+
+                add(type.lengthDefined(), type.length(), type.precisionDefined(), type.precision(), type.scaleDefined(), type.scale());
+            }
+
+            UniqueKey<?> pk = t.getPrimaryKey();
+            parts.add(PRIMARY_KEY);
+            if (pk != null)
+                key(pk);
+
+            parts.add(UNIQUE);
+            for (UniqueKey<?> uk : t.getKeys())
+                if (!uk.isPrimary())
+                    key(uk);
+
+            parts.add(FOREIGN_KEY);
+            for (ForeignKey<?, ?> fk : t.getReferences()) {
+                key(fk);
+
+                if (fk.getKey() != null)
+                    key(fk.getKey());
+            }
+
+            parts.add(CHECK);
+            for (Check<?> c : t.getChecks())
+                add(c.getQualifiedName(), c.condition().toString());
+
+            parts.add(Index.class);
+            for (Index i : t.getIndexes()) {
+                add(i.getQualifiedName(), i.getUnique(), String.valueOf(i.getWhere()), i.getFields().size());
+
+                for (SortField<?> s : i.getFields())
+                    add(s.getName(), s.getOrder() == SortOrder.DESC);
+            }
+
+            hash = parts.hashCode();
+        }
+
+        private final void key(Key<?> key) {
+            add(key.getQualifiedName(), key.getFields().size());
+
+            for (Field<?> f : key.getFields())
+                parts.add(f.getQualifiedName());
+        }
+
+        private final void add(Object... objects) {
+            parts.addAll(Arrays.asList(objects));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Shape))
+                return false;
+
+            Shape other = (Shape) obj;
+            return hash == other.hash && parts.equals(other.parts);
+        }
+    }
+
     private final List<UniqueKey<?>> removePrimary(List<? extends UniqueKey<?>> list) {
         List<UniqueKey<?>> result = new ArrayList<>();
 
@@ -710,8 +812,27 @@ final class Diff {
     }
 
     private static final <N extends Named> Iterator<N> sorted(List<N> list, Comparator<? super N> comp) {
-        List<N> result = new ArrayList<>(list);
-        result.sort(comp);
+        List<N> result;
+
+        // Named::getQualifiedName may be expensive to compute, so index the
+        // objects by their names once, rather than on every comparison
+        if (comp == NAMED_COMP && list.size() > 1) {
+            List<Map.Entry<Name, N>> entries = new ArrayList<>(list.size());
+
+            for (N n : list)
+                entries.add(new SimpleImmutableEntry<>(n.getQualifiedName(), n));
+
+            entries.sort(Map.Entry.comparingByKey());
+            result = new ArrayList<>(entries.size());
+
+            for (Map.Entry<Name, N> e : entries)
+                result.add(e.getValue());
+        }
+        else {
+            result = new ArrayList<>(list);
+            result.sort(comp);
+        }
+
         return result.iterator();
     }
 
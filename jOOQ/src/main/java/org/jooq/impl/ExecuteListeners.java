@@ -38,13 +38,39 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
+import static org.jooq.ExecuteEvent.BIND_END;
+import static org.jooq.ExecuteEvent.BIND_START;
+import static org.jooq.ExecuteEvent.END;
+import static org.jooq.ExecuteEvent.EXCEPTION;
+import static org.jooq.ExecuteEvent.EXECUTE_END;
+import static org.jooq.ExecuteEvent.EXECUTE_START;
+import static org.jooq.ExecuteEvent.FETCH_END;
+import static org.jooq.ExecuteEvent.FETCH_START;
+import static org.jooq.ExecuteEvent.OUT_END;
+import static org.jooq.ExecuteEvent.OUT_START;
+import static org.jooq.ExecuteEvent.PREPARE_END;
+import static org.jooq.ExecuteEvent.PREPARE_START;
+import static org.jooq.ExecuteEvent.RECORD_END;
+import static org.jooq.ExecuteEvent.RECORD_START;
+import static org.jooq.ExecuteEvent.RENDER_END;
+import static org.jooq.ExecuteEvent.RENDER_START;
+import static org.jooq.ExecuteEvent.RESULT_END;
+import static org.jooq.ExecuteEvent.RESULT_START;
+import static org.jooq.ExecuteEvent.START;
+import static org.jooq.ExecuteEvent.WARNING;
 import static org.jooq.conf.InvocationOrder.REVERSE;
 import static org.jooq.impl.Tools.EMPTY_EXECUTE_LISTENER;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jooq.ExecuteContext;
+import org.jooq.ExecuteEvent;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteListenerProvider;
 import org.jooq.conf.Settings;
@@ -61,8 +87,20 @@ import org.jooq.tools.LoggerListener;
 final class ExecuteListeners implements ExecuteListener {
     private static final ExecuteListener EMPTY_LISTENER         = new DefaultExecuteListener();
     private static final JooqLogger      LOGGER_LISTENER_LOGGER = JooqLogger.getLogger(LoggerListener.class);
+    private static final ExecuteEvent[]  EVENTS                 = ExecuteEvent.values();
+    private static final Set<ExecuteEvent> END_EVENTS           = EnumSet.of(RENDER_END, PREPARE_END, BIND_END, EXECUTE_END, OUT_END, RECORD_END, RESULT_END, FETCH_END, END);
+    private static final int[][]         NO_DISPATCH            = {};
 
-    private final ExecuteListener[][]    listeners;
+    // Dispatch tables only depend on the events consumed by each listener and
+    // on the invocation order, not on the listener instances, which are
+    // usually created afresh for each execution
+    private static final Map<Object, int[][]> DISPATCH          = new ConcurrentHashMap<>();
+
+    private final ExecuteListener[]      listeners;
+
+    // The indexes of the listeners consuming each event, in invocation order,
+    // indexed by ExecuteEvent.ordinal()
+    private final int[][]                dispatch;
 
     // In some setups, these two events may get mixed up chronologically by the
     // Cursor. Postpone fetchEnd event until after resultEnd event, if there is
@@ -74,12 +112,17 @@ final class ExecuteListeners implements ExecuteListener {
      * Initialise the provided {@link ExecuteListener} set and return a wrapper.
      */
     static ExecuteListener get(ExecuteContext ctx) {
-        ExecuteListener[][] listeners = listeners(ctx);
+        ExecuteListener[] listeners = listeners(ctx);
 
         if (listeners == null)
             return EMPTY_LISTENER;
+
+        int[][] dispatch = dispatch(ctx.settings(), listeners);
+
+        if (dispatch == NO_DISPATCH)
+            return EMPTY_LISTENER;
         else
-            return new ExecuteListeners(listeners);
+            return new ExecuteListeners(listeners, dispatch);
     }
 
     /**
@@ -97,7 +140,7 @@ final class ExecuteListeners implements ExecuteListener {
     /**
      * Provide delegate listeners from an <code>ExecuteContext</code>
      */
-    private static final ExecuteListener[][] listeners(ExecuteContext ctx) {
+    private static final ExecuteListener[] listeners(ExecuteContext ctx) {
         List<ExecuteListener> list = null;
 
         // jOOQ-internal listeners are added first, so their results are available to user-defined listeners
@@ -107,6 +150,21 @@ final class ExecuteListeners implements ExecuteListener {
         if (SettingsTools.getFetchServerOutputSize(0, ctx.settings()) > 0)
             (list = init(list)).add(new FetchServerOutputListener());
 
+        // Nested transactions may defer creating their savepoint until they write
+        ExecuteListener savepoints = DefaultTransactionProvider.lazySavepointListener(ctx.configuration());
+        if (savepoints != null)
+            (list = init(list)).add(savepoints);
+
+        // Sampled executions track the columns that are read from fetched records
+        ExecuteListener projection = DiagnosticsProjectionListener.get(ctx.configuration());
+        if (projection != null)
+            (list = init(list)).add(projection);
+
+        // Predicates of executed queries are checked for missing indexes
+        ExecuteListener indexes = DiagnosticsIndexListener.get(ctx.configuration());
+        if (indexes != null)
+            (list = init(list)).add(indexes);
+
         // [#6051] The previously used StopWatchListener is no longer included by default
         if (!FALSE.equals(ctx.settings().isExecuteLogging())) {
 
@@ -125,63 +183,125 @@ final class ExecuteListeners implements ExecuteListener {
         if (list == null)
             return null;
 
-        ExecuteListener[] def = list.toArray(EMPTY_EXECUTE_LISTENER);
-        ExecuteListener[] rev = null;
+        return list.toArray(EMPTY_EXECUTE_LISTENER);
+    }
+
+    /**
+     * Look up or compute the dispatch table for a set of listeners.
+     * <p>
+     * Listeners may declare the events they consume, such that events nobody
+     * consumes (especially per-record events) can be skipped altogether.
+     */
+    private static final int[][] dispatch(Settings settings, ExecuteListener[] listeners) {
+        boolean startReverse = settings.getExecuteListenerStartInvocationOrder() == REVERSE;
+        boolean endReverse = settings.getExecuteListenerEndInvocationOrder() == REVERSE;
+
+        List<Set<ExecuteEvent>> events = new ArrayList<>(listeners.length);
+        for (ExecuteListener listener : listeners)
+            events.add(listener.events());
+
+        int[][] result = DISPATCH.get(Cache.key(Cache.key(startReverse, endReverse), events));
+
+        if (result == null) {
+
+            // Don't let listeners modify cache keys after the fact
+            List<Set<ExecuteEvent>> copy = new ArrayList<>(events.size());
+            for (Set<ExecuteEvent> e : events) {
+                Set<ExecuteEvent> c = EnumSet.noneOf(ExecuteEvent.class);
+                c.addAll(e);
+                copy.add(c);
+            }
 
-        return new ExecuteListener[][] {
-            ctx.settings().getExecuteListenerStartInvocationOrder() != REVERSE ? def : (                     rev = Tools.reverse(def.clone())),
-            ctx.settings().getExecuteListenerEndInvocationOrder()   != REVERSE ? def : (rev != null ? rev : (rev = Tools.reverse(def.clone())))
-        };
+            result = dispatch0(startReverse, endReverse, copy);
+            DISPATCH.putIfAbsent(Cache.key(Cache.key(startReverse, endReverse), copy), result);
+        }
+
+        return result;
+    }
+
+    private static final int[][] dispatch0(boolean startReverse, boolean endReverse, List<Set<ExecuteEvent>> events) {
+        int[][] result = new int[EVENTS.length][];
+        boolean empty = true;
+
+        for (ExecuteEvent event : EVENTS) {
+            boolean reverse = END_EVENTS.contains(event) ? endReverse : startReverse;
+            int[] consumers = new int[events.size()];
+            int size = 0;
+
+            for (int i = 0; i < consumers.length; i++) {
+                int j = reverse ? consumers.length - 1 - i : i;
+
+                if (events.get(j).contains(event))
+                    consumers[size++] = j;
+            }
+
+            result[event.ordinal()] = size == consumers.length ? consumers : Arrays.copyOf(consumers, size);
+            empty &= size == 0;
+        }
+
+        return empty ? NO_DISPATCH : result;
+    }
+
+    /**
+     * Whether an {@link ExecuteListener} consumes an event, such that callers
+     * can avoid preparing the {@link ExecuteContext} for it.
+     */
+    static final boolean consumes(ExecuteListener listener, ExecuteEvent event) {
+        if (listener instanceof ExecuteListeners)
+            return ((ExecuteListeners) listener).dispatch[event.ordinal()].length > 0;
+        else
+            return listener.events().contains(event);
     }
 
     private static final List<ExecuteListener> init(List<ExecuteListener> result) {
         return result == null ? new ArrayList<>() : result;
     }
 
-    private ExecuteListeners(ExecuteListener[][] listeners) {
+    private ExecuteListeners(ExecuteListener[] listeners, int[][] dispatch) {
         this.listeners = listeners;
+        this.dispatch = dispatch;
     }
 
     @Override
     public final void start(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.start(ctx);
+        for (int i : dispatch[START.ordinal()])
+            listeners[i].start(ctx);
     }
 
     @Override
     public final void renderStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.renderStart(ctx);
+        for (int i : dispatch[RENDER_START.ordinal()])
+            listeners[i].renderStart(ctx);
     }
 
     @Override
     public final void renderEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.renderEnd(ctx);
+        for (int i : dispatch[RENDER_END.ordinal()])
+            listeners[i].renderEnd(ctx);
     }
 
     @Override
     public final void prepareStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.prepareStart(ctx);
+        for (int i : dispatch[PREPARE_START.ordinal()])
+            listeners[i].prepareStart(ctx);
     }
 
     @Override
     public final void prepareEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.prepareEnd(ctx);
+        for (int i : dispatch[PREPARE_END.ordinal()])
+            listeners[i].prepareEnd(ctx);
     }
 
     @Override
     public final void bindStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.bindStart(ctx);
+        for (int i : dispatch[BIND_START.ordinal()])
+            listeners[i].bindStart(ctx);
     }
 
     @Override
     public final void bindEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.bindEnd(ctx);
+        for (int i : dispatch[BIND_END.ordinal()])
+            listeners[i].bindEnd(ctx);
     }
 
     @Override
@@ -189,60 +309,60 @@ final class ExecuteListeners implements ExecuteListener {
         if (ctx instanceof DefaultExecuteContext)
             ((DefaultExecuteContext) ctx).incrementStatementExecutionCount();
 
-        for (ExecuteListener listener : listeners[0])
-            listener.executeStart(ctx);
+        for (int i : dispatch[EXECUTE_START.ordinal()])
+            listeners[i].executeStart(ctx);
     }
 
     @Override
     public final void executeEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.executeEnd(ctx);
+        for (int i : dispatch[EXECUTE_END.ordinal()])
+            listeners[i].executeEnd(ctx);
     }
 
     @Override
     public final void fetchStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.fetchStart(ctx);
+        for (int i : dispatch[FETCH_START.ordinal()])
+            listeners[i].fetchStart(ctx);
     }
 
     @Override
     public final void outStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.outStart(ctx);
+        for (int i : dispatch[OUT_START.ordinal()])
+            listeners[i].outStart(ctx);
     }
 
     @Override
     public final void outEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.outEnd(ctx);
+        for (int i : dispatch[OUT_END.ordinal()])
+            listeners[i].outEnd(ctx);
     }
 
     @Override
     public final void resultStart(ExecuteContext ctx) {
         resultStart = true;
 
-        for (ExecuteListener listener : listeners[0])
-            listener.resultStart(ctx);
+        for (int i : dispatch[RESULT_START.ordinal()])
+            listeners[i].resultStart(ctx);
     }
 
     @Override
     public final void recordStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.recordStart(ctx);
+        for (int i : dispatch[RECORD_START.ordinal()])
+            listeners[i].recordStart(ctx);
     }
 
     @Override
     public final void recordEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.recordEnd(ctx);
+        for (int i : dispatch[RECORD_END.ordinal()])
+            listeners[i].recordEnd(ctx);
     }
 
     @Override
     public final void resultEnd(ExecuteContext ctx) {
         resultStart = false;
 
-        for (ExecuteListener listener : listeners[1])
-            listener.resultEnd(ctx);
+        for (int i : dispatch[RESULT_END.ordinal()])
+            listeners[i].resultEnd(ctx);
 
         if (fetchEnd)
             fetchEnd(ctx);
@@ -253,25 +373,25 @@ final class ExecuteListeners implements ExecuteListener {
         if (resultStart)
             fetchEnd = true;
         else
-            for (ExecuteListener listener : listeners[1])
-                listener.fetchEnd(ctx);
+            for (int i : dispatch[FETCH_END.ordinal()])
+                listeners[i].fetchEnd(ctx);
     }
 
     @Override
     public final void end(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.end(ctx);
+        for (int i : dispatch[END.ordinal()])
+            listeners[i].end(ctx);
     }
 
     @Override
     public final void exception(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.exception(ctx);
+        for (int i : dispatch[EXCEPTION.ordinal()])
+            listeners[i].exception(ctx);
     }
 
     @Override
     public final void warning(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.warning(ctx);
+        for (int i : dispatch[WARNING.ordinal()])
+            listeners[i].warning(ctx);
     }
 }
@@ -127,6 +127,14 @@ interface ThrowingObjIntFunction<T, R, E extends Throwable> {
     R apply(T t, int i) throws E;
 }
 
+/**
+ * A checked exception throwing {@link ObjIntObjConsumer}.
+ */
+@FunctionalInterface
+interface ThrowingObjIntObjConsumer<T, U, E extends Throwable> {
+    void accept(T t, int i, U u) throws E;
+}
+
 /**
  * A missing primitive type {@link Consumer} for booleans.
  */
@@ -63,6 +63,27 @@ final class FetchCount extends AbstractResultQuery<Record1<Integer>> {
         this.query = query;
     }
 
+    @Override
+    final boolean isReadOnly() {
+        AbstractResultQuery<?> q = Tools.abstractResultQuery(query);
+        return q != null && q.isReadOnly();
+    }
+
+    @Override
+    final boolean isCacheable() {
+        return super.isCacheable() && isReadOnly();
+    }
+
+    @Override
+    final Field<?>[] getCacheableFields() {
+        return count;
+    }
+
+    @Override
+    final boolean isModifying() {
+        return false;
+    }
+
     @Override
     public final void accept(Context<?> ctx) {
         ctx.visit(select(count).from(new AliasedSelect<>(query, true).as("t")));
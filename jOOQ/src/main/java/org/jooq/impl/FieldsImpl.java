@@ -47,7 +47,10 @@ import java.sql.SQLWarning;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.jooq.Context;
@@ -72,7 +75,15 @@ import org.jooq.tools.JooqLogger;
 final class FieldsImpl<R extends Record> extends AbstractQueryPart implements RecordType<R> {
 
     private static final JooqLogger log              = JooqLogger.getLogger(FieldsImpl.class);
+
+    /**
+     * The number of fields from which on lookups use a {@link FieldIndex}
+     * rather than linear scans.
+     */
+    private static final int        INDEX_THRESHOLD  = 8;
+
     Field<?>[]                      fields;
+    private transient FieldIndex    index;
 
     FieldsImpl(SelectField<?>... fields) {
         this.fields = Tools.map(fields, toField(), Field<?>[]::new);
@@ -101,20 +112,44 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         if (field == null)
             return result.resultNull();
 
+        FieldIndex x = index();
+        String fieldName = field.getName();
+
         // [#4540] Try finding a match by identity
-        for (int i = 0; i < fields.length; i++) {
-            Field<?> f = fields[i];
+        if (x != null) {
+            Integer i = x.identity.get(field);
 
-            if (f == field)
-                return result.result(f, i);
+            if (i != null)
+                return result.result(fields[i], i);
+        }
+        else {
+            for (int i = 0; i < fields.length; i++) {
+                Field<?> f = fields[i];
+
+                if (f == field)
+                    return result.result(f, i);
+            }
         }
 
         // [#1802] Try finding an exact match (e.g. exact matching qualified name)
-        for (int i = 0; i < fields.length; i++) {
-            Field<?> f = fields[i];
+        //         Only fields whose equality is known to imply equal names
+        //         (unlike e.g. Param, which is compared by value) can be
+        //         looked up by name. All others need a full scan.
+        if (x != null && x.named && field instanceof AbstractNamed) {
+            for (int i : x.indexes(fieldName)) {
+                Field<?> f = fields[i];
+
+                if (f.equals(field))
+                    return result.result(f, i);
+            }
+        }
+        else {
+            for (int i = 0; i < fields.length; i++) {
+                Field<?> f = fields[i];
 
-            if (f.equals(field))
-                return result.result(f, i);
+                if (f.equals(field))
+                    return result.result(f, i);
+            }
         }
 
         // [#4283] table / column matches are better than only column matches
@@ -123,9 +158,10 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         int indexMatch = -1;
 
         String tableName = tableName(field);
-        String fieldName = field.getName();
+        int[] candidates = x != null ? x.indexes(fieldName) : null;
 
-        for (int i = 0; i < fields.length; i++) {
+        for (int j = 0, n = candidates != null ? candidates.length : fields.length; j < n; j++) {
+            int i = candidates != null ? candidates[j] : j;
             Field<?> f = fields[i];
             String fName = f.getName();
 
@@ -160,6 +196,24 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         return result.result(columnMatch, indexMatch);
     }
 
+    /**
+     * The {@link FieldIndex} for the current {@link #fields}, or
+     * <code>null</code> if there are too few fields to make indexing
+     * worthwhile.
+     */
+    private final FieldIndex index() {
+        if (fields.length < INDEX_THRESHOLD)
+            return null;
+
+        // The index is immutable, so it can be safely published without
+        // synchronisation. Concurrent initialisations produce equal indexes.
+        FieldIndex x = index;
+        if (x == null || x.fields != fields)
+            index = x = new FieldIndex(fields);
+
+        return x;
+    }
+
     private final String tableName(Field<?> field) {
         if (field instanceof TableField) {
             Table<?> table = ((TableField<?, ?>) field).getTable();
@@ -183,7 +237,11 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         Field<?> columnMatch = null;
         int indexMatch = -1;
 
-        for (int i = 0; i < fields.length; i++) {
+        FieldIndex x = index();
+        int[] candidates = x != null ? x.indexes(fieldName) : null;
+
+        for (int j = 0, n = candidates != null ? candidates.length : fields.length; j < n; j++) {
+            int i = candidates != null ? candidates[j] : j;
             Field<?> f = fields[i];
 
             if (f.getName().equals(fieldName)) {
@@ -432,6 +490,64 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
 
 
 
+
+    // -------------------------------------------------------------------------
+    // XXX: Field lookup index
+    // -------------------------------------------------------------------------
+
+    /**
+     * Hash indexes over a <code>Field[]</code> array, which replace the linear
+     * scans of field lookups for wide records.
+     * <p>
+     * The index doesn't change lookup semantics. It merely restricts the
+     * candidates of each lookup step to those that can possibly match,
+     * preserving their order.
+     */
+    private static final class FieldIndex {
+        private static final int[]          NO_INDEXES = {};
+
+        final Field<?>[]                    fields;
+        final Map<Field<?>, Integer>        identity;
+        final Map<String, int[]>            names;
+
+        /**
+         * Whether all fields are {@link TableFieldImpl} or {@link FieldAlias},
+         * whose equality with any {@link AbstractNamed} implies equal names.
+         * Other fields, such as {@link AbstractParam}, {@link ConvertedVal} or
+         * {@link FieldProxy}, may be equal to fields of other names.
+         */
+        final boolean                       named;
+
+        FieldIndex(Field<?>[] fields) {
+            Map<Field<?>, Integer> i1 = new IdentityHashMap<>();
+            Map<String, int[]> i2 = new HashMap<>();
+            boolean n = true;
+
+            for (int i = 0; i < fields.length; i++) {
+                Field<?> f = fields[i];
+
+                i1.putIfAbsent(f, i);
+                i2.merge(f.getName(), new int[] { i }, FieldIndex::concat);
+                n &= f instanceof TableFieldImpl || f instanceof FieldAlias;
+            }
+
+            this.fields = fields;
+            this.identity = i1;
+            this.names = i2;
+            this.named = n;
+        }
+
+        final int[] indexes(String name) {
+            int[] result = names.get(name);
+            return result != null ? result : NO_INDEXES;
+        }
+
+        private static final int[] concat(int[] i1, int[] i2) {
+            int[] result = Arrays.copyOf(i1, i1.length + i2.length);
+            System.arraycopy(i2, 0, result, i1.length, i2.length);
+            return result;
+        }
+    }
 
     // -------------------------------------------------------------------------
     // XXX: [#8040] An abstraction over two possible return types.
@@ -402,6 +402,17 @@ final class FilteredMeta extends AbstractMeta {
                 if (pk != null)
                     if (primaryKeyFilter == null || primaryKeyFilter.test(pk))
                         primaryKey = key(pk);
+
+                // The referencing tables add their foreign keys to the keys'
+                // references, once their references are initialised
+                for (UniqueKey<R> uk : delegate.getKeys()) {
+                    for (ForeignKey<?, R> fk : uk.getReferences()) {
+                        Table<?> t = lookupTable(fk.getTable());
+
+                        if (t != null)
+                            t.getReferences();
+                    }
+                }
             }
         }
 
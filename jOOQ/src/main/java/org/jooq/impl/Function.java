@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 import static org.jooq.impl.DSL.unquotedName;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_RENDERED_OPAQUE;
 
 import org.jooq.Context;
 import org.jooq.DataType;
@@ -63,6 +64,7 @@ final class Function<T> extends AbstractField<T> {
 
     @Override
     public final void accept(Context<?> ctx) {
+        ctx.data(DATA_RENDERED_OPAQUE, true);
         ctx.visit(getQualifiedName()).sql('(').visit(arguments).sql(')');
     }
 
@@ -59,6 +59,7 @@ import static org.jooq.SQLDialect.DERBY;
 // ...
 import static org.jooq.SQLDialect.FIREBIRD;
 // ...
+import static org.jooq.SQLDialect.H2;
 import static org.jooq.SQLDialect.HSQLDB;
 // ...
 // ...
@@ -75,13 +76,19 @@ import static org.jooq.SQLDialect.POSTGRES;
 // ...
 // ...
 import static org.jooq.conf.ParamType.INDEXED;
+import static org.jooq.impl.DSL.all;
+import static org.jooq.impl.DSL.any;
 import static org.jooq.impl.DSL.falseCondition;
 import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.table;
 import static org.jooq.impl.DSL.trueCondition;
+import static org.jooq.impl.DSL.val;
 import static org.jooq.impl.Keywords.K_AND;
 import static org.jooq.impl.Keywords.K_OR;
 import static org.jooq.impl.Tools.embeddedFields;
 import static org.jooq.impl.Tools.map;
+import static org.jooq.tools.Convert.convertArray;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.util.AbstractList;
@@ -92,8 +99,12 @@ import org.jooq.Clause;
 import org.jooq.Comparator;
 import org.jooq.Context;
 import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.Record1;
 import org.jooq.RowN;
 import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.Table;
 
 /**
  * @author Lukas Eder
@@ -105,6 +116,7 @@ final class InCondition<T> extends AbstractCondition {
     private static final Clause[]        CLAUSES_IN_NOT         = { CONDITION, CONDITION_NOT_IN };
     private static final Set<SQLDialect> REQUIRES_IN_LIMIT      = SQLDialect.supportedBy(FIREBIRD);
     private static final Set<SQLDialect> NO_SUPPORT_EMPTY_LISTS = SQLDialect.supportedBy(CUBRID, DERBY, FIREBIRD, HSQLDB, MARIADB, MYSQL, POSTGRES);
+    private static final Set<SQLDialect> SUPPORT_ARRAY_BINDING  = SQLDialect.supportedBy(H2, HSQLDB, POSTGRES);
 
     final Field<T>                       field;
     final List<? extends Field<?>>       values;
@@ -136,6 +148,7 @@ final class InCondition<T> extends AbstractCondition {
         return map(values, v -> row(embeddedFields(v)), RowN[]::new);
     }
 
+    @SuppressWarnings("unchecked")
     private final void accept0(Context<?> ctx) {
         if (values.size() == 0 && NO_SUPPORT_EMPTY_LISTS.contains(ctx.dialect())) {
             if (comparator == IN)
@@ -143,6 +156,20 @@ final class InCondition<T> extends AbstractCondition {
             else
                 ctx.visit(trueCondition());
         }
+        else if (arrayBinding(ctx)) {
+            Object[] array = map(values, v -> ((Param<?>) v).getValue(), Object[]::new);
+            Param<T[]> param = val((T[]) convertArray(array, field.getType()), field.getDataType().getArrayDataType());
+
+            // [#9224] PostgreSQL binds arrays natively to quantified comparison
+            //         predicates, other dialects can unnest them in a subquery
+            if (ctx.family() == POSTGRES)
+                ctx.visit(comparator == IN ? field.eq(any(param)) : field.ne(all(param)));
+            else {
+                Table<?> t = table(param);
+                Select<Record1<T>> select = select((Field<T>) t.field(0)).from(t);
+                ctx.visit(comparator == IN ? field.in(select) : field.notIn(select));
+            }
+        }
         else if (values.size() > IN_LIMIT) {
             // [#798] Oracle and some other dialects can only hold 1000 values
             // in an IN (...) clause
@@ -190,6 +217,25 @@ final class InCondition<T> extends AbstractCondition {
         }
     }
 
+    /**
+     * Whether the values can be bound as a single array, which keeps the SQL
+     * string constant regardless of the number of values.
+     */
+    private final boolean arrayBinding(Context<?> ctx) {
+        if (ctx.paramType() != INDEXED
+            || !TRUE.equals(ctx.settings().isInListArrayBinding())
+            || !SUPPORT_ARRAY_BINDING.contains(ctx.dialect())
+            || field.getDataType() instanceof ConvertedDataType
+            || field.getDataType().isArray())
+            return false;
+
+        for (Field<?> value : values)
+            if (!(value instanceof Param) || ((Param<?>) value).isInline())
+                return false;
+
+        return true;
+    }
+
     static <T> List<T> padded(Context<?> ctx, List<T> list) {
         return ctx.paramType() == INDEXED && TRUE.equals(ctx.settings().isInListPadding())
             ? new PaddedList<>(list, REQUIRES_IN_LIMIT.contains(ctx.dialect())
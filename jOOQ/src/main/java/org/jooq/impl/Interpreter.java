@@ -63,8 +63,8 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -87,11 +87,13 @@ import org.jooq.ForeignKey;
 import org.jooq.Index;
 import org.jooq.Insert;
 import org.jooq.Merge;
+import org.jooq.MigrationConfiguration;
 import org.jooq.Meta;
 import org.jooq.Name;
 import org.jooq.Named;
 import org.jooq.Nullability;
 import org.jooq.OrderField;
+import org.jooq.Queries;
 import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Schema;
@@ -116,27 +118,37 @@ import org.jooq.tools.JooqLogger;
 @SuppressWarnings({ "rawtypes", "unchecked" })
 final class Interpreter {
 
-    private static final JooqLogger                              log                    = JooqLogger.getLogger(Interpreter.class);
+    private static final JooqLogger                                 log                    = JooqLogger.getLogger(Interpreter.class);
 
-    private final Configuration                                  configuration;
-    private final InterpreterNameLookupCaseSensitivity           caseSensitivity;
-    private final Locale                                         locale;
-    private final Map<Name, MutableCatalog>                      catalogs               = new LinkedHashMap<>();
-    private final MutableCatalog                                 defaultCatalog;
-    private final MutableSchema                                  defaultSchema;
-    private MutableSchema                                        currentSchema;
-    private boolean                                              delayForeignKeyDeclarations;
-    private final Deque<DelayedForeignKey>                       delayedForeignKeyDeclarations;
+    private final Configuration                                     configuration;
+    private final InterpreterNameLookupCaseSensitivity              caseSensitivity;
+    private final Locale                                            locale;
+    private final Map<Name, MutableCatalog>                         catalogs               = new LinkedHashMap<>();
+    private MutableCatalog                                          defaultCatalog;
+    private MutableSchema                                           defaultSchema;
+    private MutableSchema                                           currentSchema;
+    private boolean                                                 delayForeignKeyDeclarations;
+    private final Deque<DelayedForeignKey>                          delayedForeignKeyDeclarations;
 
     // Caches
-    private final Map<Name, MutableCatalog.InterpretedCatalog>   interpretedCatalogs    = new HashMap<>();
-    private final Map<Name, MutableSchema.InterpretedSchema>     interpretedSchemas     = new HashMap<>();
-    private final Map<Name, MutableTable.InterpretedTable>       interpretedTables      = new HashMap<>();
-    private final Map<Name, UniqueKeyImpl<Record>>               interpretedUniqueKeys  = new HashMap<>();
-    private final Map<Name, ReferenceImpl<Record, ?>>            interpretedForeignKeys = new HashMap<>();
-    private final Map<Name, Index>                               interpretedIndexes     = new HashMap<>();
-    private final Map<Name, MutableDomain.InterpretedDomain>     interpretedDomains     = new HashMap<>();
-    private final Map<Name, MutableSequence.InterpretedSequence> interpretedSequences   = new HashMap<>();
+    private final Map<MutableCatalog, InterpretedCatalog>           interpretedCatalogs    = new IdentityHashMap<>();
+    private final Map<MutableSchema, InterpretedSchema>             interpretedSchemas     = new IdentityHashMap<>();
+    private final Map<MutableTable, InterpretedTable>               interpretedTables      = new IdentityHashMap<>();
+    private final Map<MutableUniqueKey, UniqueKeyImpl<Record>>      interpretedUniqueKeys  = new IdentityHashMap<>();
+    private final Map<MutableForeignKey, ReferenceImpl<Record, ?>>  interpretedForeignKeys = new IdentityHashMap<>();
+    private final Map<MutableIndex, Index>                          interpretedIndexes     = new IdentityHashMap<>();
+    private final Map<MutableDomain, InterpretedDomain>             interpretedDomains     = new IdentityHashMap<>();
+    private final Map<MutableSequence, InterpretedSequence>         interpretedSequences   = new IdentityHashMap<>();
+    private boolean                                                 cachesInvalid;
+
+    // Copy-on-write
+    private final Interpreter                                       origin;
+    private final int                                               generation;
+    private final Map<MutableNamed, MutableNamed>                   copies                 = new IdentityHashMap<>();
+
+    // Change tracking
+    private final Meta                                              base;
+    private Set<Name>                                               touched                = new HashSet<>();
 
     Interpreter(Configuration configuration) {
         this.configuration = configuration;
@@ -147,18 +159,137 @@ final class Interpreter {
         this.defaultCatalog = new MutableCatalog(NO_NAME);
         this.catalogs.put(defaultCatalog.name(), defaultCatalog);
         this.defaultSchema = new MutableSchema(NO_NAME, defaultCatalog);
+        this.origin = null;
+        this.generation = 0;
+        this.base = null;
+    }
+
+    /**
+     * Create an independent copy of another interpreter's state.
+     * <p>
+     * The copy initially shares the whole data model with the other
+     * interpreter, which must not change anymore. Catalogs, schemas, tables,
+     * domains, and sequences are copied on write, i.e. only once this
+     * interpreter modifies them (see {@link #writable(MutableTable)}), so the
+     * cost of the copy is linear in the size of the change being applied, not
+     * in the size of the whole schema. In particular, the copy does not have to
+     * export and re-interpret the <code>DDL</code> of the other interpreter.
+     * <p>
+     * Shared objects may still reference the objects that this interpreter
+     * has replaced by copies, e.g. a shared foreign key may reference a copied
+     * table's primary key. Such references are resolved via
+     * {@link #current(MutableNamed)}.
+     * <p>
+     * Changes applied to the copy are tracked, such that a
+     * {@link Meta#migrateTo(Meta)} call between the base {@link Meta} and the
+     * copy's {@link Meta} only has to look at the changed objects.
+     */
+    private Interpreter(Interpreter copy, Meta base) {
+        this.configuration = copy.configuration;
+        this.delayForeignKeyDeclarations = copy.delayForeignKeyDeclarations;
+
+        // The other interpreter's delayed foreign keys have been applied by meta()
+        this.delayedForeignKeyDeclarations = new ArrayDeque<>();
+        this.caseSensitivity = copy.caseSensitivity;
+        this.locale = copy.locale;
+        this.catalogs.putAll(copy.catalogs);
+        this.defaultCatalog = copy.defaultCatalog;
+        this.defaultSchema = copy.defaultSchema;
+        this.currentSchema = copy.currentSchema;
+        this.origin = copy;
+        this.generation = copy.generation + 1;
+        this.base = base;
     }
 
     final Meta meta() {
         applyDelayedForeignKeys();
 
-        return new AbstractMeta(configuration) {
+        return new InterpreterMeta(touched == null ? null : new HashSet<>(touched));
+    }
 
-            @Override
-            final List<Catalog> getCatalogs0() throws DataAccessException {
-                return map(catalogs.values(), c -> c.interpretedCatalog());
+    /**
+     * A {@link Meta} implementation backed by this interpreter's data model.
+     * <p>
+     * Applying migrations to this {@link Meta} continues interpretation on a
+     * copy of the interpreter, rather than exporting and re-interpreting the
+     * whole schema.
+     */
+    final class InterpreterMeta extends AbstractMeta {
+
+        /**
+         * The names of the objects that have changed since {@link #base}, or
+         * <code>null</code> if this is not known.
+         */
+        private final Set<Name> changed;
+
+        InterpreterMeta(Set<Name> changed) {
+            super(Interpreter.this.configuration);
+
+            this.changed = changed;
+        }
+
+        @Override
+        final List<Catalog> getCatalogs0() throws DataAccessException {
+            validateCaches();
+            return map(catalogs.values(), c -> interpretedCatalog(c));
+        }
+
+        @Override
+        final Meta apply0(Queries migration) {
+            Interpreter copy = new Interpreter(Interpreter.this, this);
+
+            for (Query query : migration)
+                copy.accept(query);
+
+            return copy.meta();
+        }
+
+        /**
+         * Produce a migration from an ancestor {@link Meta} to this
+         * {@link Meta}, if this {@link Meta} was derived from the ancestor via
+         * {@link Meta#apply(Queries)}, or <code>null</code> if the migration
+         * has to be computed from the complete schemas.
+         */
+        final Queries migrateFrom(Meta ancestor, MigrationConfiguration c) {
+            Set<Name> names = new HashSet<>();
+
+            for (InterpreterMeta m = this;;) {
+                if (m.changed == null)
+                    return null;
+
+                names.addAll(m.changed);
+                Meta b = m.base();
+
+                if (b == ancestor)
+                    break;
+                else if (b instanceof InterpreterMeta)
+                    m = (InterpreterMeta) b;
+                else
+                    return null;
             }
-        };
+
+            return new Diff(configuration(), c, changed(ancestor, names), changed(this, names)).queries();
+        }
+
+        private final Meta base() {
+            return base;
+        }
+
+        private final Meta changed(Meta meta, Set<Name> names) {
+            return meta
+                .filterSchemas(s -> names.contains(s instanceof InterpretedSchema
+                    ? ((InterpretedSchema) s).mutable().qualifiedName()
+                    : s.getQualifiedName()))
+                .filterTables(t -> names.contains(t instanceof InterpretedTable
+                    ? ((InterpretedTable) t).mutable().qualifiedName()
+                    : t.getQualifiedName()))
+                .filterSequences(q -> names.contains(q instanceof InterpretedSequence
+                    ? ((InterpretedSequence) q).mutable().qualifiedName()
+                    : q.getQualifiedName()))
+
+                // Changes to domains always invalidate the change tracking
+                .filterDomains(d -> false);
+        }
     }
 
     // -------------------------------------------------------------------------
@@ -166,11 +297,19 @@ final class Interpreter {
     // -------------------------------------------------------------------------
 
     final void accept(Query query) {
-        invalidateCaches();
+        cachesInvalid = true;
 
         if (log.isDebugEnabled())
             log.debug(query);
 
+        // Objects may be renamed or dropped, so they are tracked both before
+        // and after the interpretation
+        touch(query);
+        accept1(query);
+        touch(query);
+    }
+
+    private final void accept1(Query query) {
         if (query instanceof CreateSchemaImpl)
             accept0((CreateSchemaImpl) query);
         else if (query instanceof AlterSchemaImpl)
@@ -243,14 +382,281 @@ final class Interpreter {
             throw unsupportedQuery(query);
     }
 
-    private final void invalidateCaches() {
-        interpretedCatalogs.clear();
-        interpretedSchemas.clear();
-        interpretedTables.clear();
-        interpretedUniqueKeys.clear();
-        interpretedForeignKeys.clear();
-        interpretedIndexes.clear();
-        interpretedSequences.clear();
+    private final void validateCaches() {
+        if (cachesInvalid) {
+            interpretedCatalogs.clear();
+            interpretedSchemas.clear();
+            interpretedTables.clear();
+            interpretedUniqueKeys.clear();
+            interpretedForeignKeys.clear();
+            interpretedIndexes.clear();
+            interpretedDomains.clear();
+            interpretedSequences.clear();
+            cachesInvalid = false;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Change tracking
+    // -------------------------------------------------------------------------
+
+    /**
+     * Keep track of the objects that are affected by a query.
+     */
+    private final void touch(Query query) {
+        if (touched == null)
+            return;
+
+        if (query instanceof CreateTableImpl)
+            touch(((CreateTableImpl) query).$table());
+        else if (query instanceof AlterTableImpl) {
+            touch(((AlterTableImpl) query).$table());
+            touch(((AlterTableImpl) query).$table(), ((AlterTableImpl) query).$renameTo());
+        }
+        else if (query instanceof DropTableImpl)
+            touch(((DropTableImpl) query).$table());
+        else if (query instanceof TruncateImpl)
+            touch(((TruncateImpl<?>) query).$table());
+
+        else if (query instanceof CreateViewImpl)
+            touch(((CreateViewImpl<?>) query).$view());
+        else if (query instanceof AlterViewImpl) {
+            touch(((AlterViewImpl) query).$view());
+            touch(((AlterViewImpl) query).$view(), ((AlterViewImpl) query).$renameTo());
+        }
+        else if (query instanceof DropViewImpl)
+            touch(((DropViewImpl) query).$view());
+
+        else if (query instanceof CreateSequenceImpl)
+            touch(((CreateSequenceImpl) query).$sequence());
+        else if (query instanceof AlterSequenceImpl) {
+            touch(((AlterSequenceImpl<?>) query).$sequence());
+            touch(((AlterSequenceImpl<?>) query).$sequence(), ((AlterSequenceImpl<?>) query).$renameTo());
+        }
+        else if (query instanceof DropSequenceImpl)
+            touch(((DropSequenceImpl) query).$sequence());
+
+        else if (query instanceof CreateIndexImpl)
+            touch(((CreateIndexImpl) query).$table());
+        else if (query instanceof AlterIndexImpl) {
+            AlterIndexImpl q = (AlterIndexImpl) query;
+            touch(q.$index(), q.$on());
+            touch(q.$renameTo(), q.$on());
+        }
+        else if (query instanceof DropIndexImpl)
+            touch(((DropIndexImpl) query).$index(), ((DropIndexImpl) query).$on());
+
+        else if (query instanceof CommentOnImpl) {
+            CommentOnImpl q = (CommentOnImpl) query;
+
+            if (q.$table() != null)
+                touch(q.$table());
+            else if (q.$field() != null && q.$field().getQualifiedName().qualified())
+                touch(DSL.table(q.$field().getQualifiedName().qualifier()));
+        }
+
+        // These queries do not modify any objects, or only modify them via
+        // addForeignKey0(), which keeps track of changes itself
+        else if (query instanceof SetSchema
+              || query instanceof SetCommand
+              || query instanceof Select
+              || query instanceof Update
+              || query instanceof Insert
+              || query instanceof Delete
+              || query instanceof Merge)
+            ;
+
+        // Schema and domain changes may affect any number of objects
+        else
+            touched = null;
+    }
+
+    private final void touch(Table<?> table) {
+        touch(table, table);
+    }
+
+    /**
+     * Keep track of a table in the schema of another table, e.g. of the
+     * target of a rename, which stays in the renamed table's schema.
+     */
+    private final void touch(Table<?> table, Named named) {
+        if (table != null && named != null) {
+            MutableSchema schema = getSchema(table.getSchema());
+
+            if (schema != null)
+                touch(schema.table(named));
+        }
+    }
+
+    private final void touch(Sequence<?> sequence) {
+        touch(sequence, sequence);
+    }
+
+    private final void touch(Sequence<?> sequence, Named named) {
+        if (sequence != null && named != null) {
+            MutableSchema schema = getSchema(sequence.getSchema());
+
+            if (schema != null)
+                touch(schema, schema.sequence(named));
+        }
+    }
+
+    private final void touch(Index index, Table<?> table) {
+        if (index != null) {
+            Table<?> t = table != null ? table : index.getTable();
+
+            if (t != null && getSchema(t.getSchema()) == null)
+                return;
+
+            MutableIndex mi = index(index, t, true, false);
+
+            if (mi != null)
+                touch(mi.table);
+        }
+    }
+
+    private final void touch(MutableTable table) {
+        if (touched != null && table != null) {
+            touch(table.schema, table);
+
+            // Constraints referencing or referenced by this table may change
+            for (MutableForeignKey fk : table.foreignKeys) {
+                MutableTable referenced = current(fk.referencedKey).table;
+                touch(referenced.schema, referenced);
+            }
+
+            for (MutableForeignKey fk : table.referencingKeys()) {
+                MutableTable referencing = current(fk).table;
+                touch(referencing.schema, referencing);
+            }
+        }
+    }
+
+    private final void touch(MutableSchema schema, MutableNamed named) {
+        if (touched != null && named != null) {
+            touched.add(schema.qualifiedName());
+            touched.add(named.qualifiedName());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Copy-on-write
+    // -------------------------------------------------------------------------
+
+    /**
+     * The current version of an object, which may have been replaced by a copy
+     * in this interpreter, or in any interpreter between the object's owner
+     * and this interpreter.
+     */
+    private final <M extends MutableNamed> M current(M named) {
+        if (named.owner().generation >= generation)
+            return named;
+
+        M result = origin.current(named);
+        M copy = (M) copies.get(result);
+        return copy != null ? copy : result;
+    }
+
+    /**
+     * Get a version of a catalog that may be modified by this interpreter,
+     * copying it if it is shared with another interpreter.
+     */
+    private final MutableCatalog writable(MutableCatalog catalog) {
+        MutableCatalog c = current(catalog);
+
+        if (c.owner() == this)
+            return c;
+
+        MutableCatalog result = new MutableCatalog(c);
+        catalogs.replaceAll((n, x) -> x == c ? result : x);
+
+        if (defaultCatalog == c)
+            defaultCatalog = result;
+
+        return result;
+    }
+
+    /**
+     * Get a version of a schema that may be modified by this interpreter,
+     * copying it and its catalog if they are shared with another interpreter.
+     * <p>
+     * The copy shares its tables, domains, and sequences.
+     */
+    private final MutableSchema writable(MutableSchema schema) {
+        MutableSchema s = current(schema);
+
+        if (s.owner() == this)
+            return s;
+
+        MutableCatalog catalog = writable(s.catalog);
+        MutableSchema result = new MutableSchema(s, catalog);
+        replace(catalog.schemas, s, result);
+
+        if (defaultSchema == s)
+            defaultSchema = result;
+        if (currentSchema == s)
+            currentSchema = result;
+
+        return result;
+    }
+
+    /**
+     * Get a version of a table that may be modified by this interpreter,
+     * copying it and its schema if they are shared with another interpreter.
+     * <p>
+     * The copy contains copies of the table's fields, constraints, and
+     * indexes.
+     */
+    private final MutableTable writable(MutableTable table) {
+        MutableTable t = current(table);
+
+        if (t.owner() == this)
+            return t;
+
+        MutableSchema schema = writable(t.schema);
+        MutableTable result = new MutableTable(t, schema);
+        replace(schema.tables, t, result);
+        return result;
+    }
+
+    /**
+     * Get a version of a domain that may be modified by this interpreter,
+     * copying it and its schema if they are shared with another interpreter.
+     */
+    private final MutableDomain writable(MutableDomain domain) {
+        MutableDomain d = current(domain);
+
+        if (d.owner() == this)
+            return d;
+
+        MutableSchema schema = writable(d.schema);
+        MutableDomain result = new MutableDomain(d, schema);
+        replace(schema.domains, d, result);
+        return result;
+    }
+
+    /**
+     * Get a version of a sequence that may be modified by this interpreter,
+     * copying it and its schema if they are shared with another interpreter.
+     */
+    private final MutableSequence writable(MutableSequence sequence) {
+        MutableSequence q = current(sequence);
+
+        if (q.owner() == this)
+            return q;
+
+        MutableSchema schema = writable(q.schema);
+        MutableSequence result = new MutableSequence(q, schema);
+        replace(schema.sequences, q, result);
+        return result;
+    }
+
+    private static final <M extends MutableNamed> void replace(List<M> list, M named, M copy) {
+        int index = list.indexOf(named);
+
+        // The default schema may have been dropped from its catalog
+        if (index >= 0)
+            list.set(index, copy);
     }
 
     private final void accept0(CreateSchemaImpl query) {
@@ -282,7 +688,18 @@ final class Interpreter {
             if (getSchema(renameTo, false) != null)
                 throw alreadyExists(renameTo);
 
-            oldSchema.name((UnqualifiedName) renameTo.getUnqualifiedName());
+            MutableSchema newSchema = writable(oldSchema);
+            newSchema.name((UnqualifiedName) renameTo.getUnqualifiedName());
+
+            // Shared objects still derive their qualified names from the old
+            // schema, so they have to be copied as well
+            for (MutableTable table : new ArrayList<>(newSchema.tables))
+                writable(table);
+            for (MutableDomain domain : new ArrayList<>(newSchema.domains))
+                writable(domain);
+            for (MutableSequence sequence : new ArrayList<>(newSchema.sequences))
+                writable(sequence);
+
             return;
         }
         else
@@ -300,8 +717,10 @@ final class Interpreter {
             return;
         }
 
-        if (mutableSchema.isEmpty() || query.$cascade() == Cascade.CASCADE)
+        if (mutableSchema.isEmpty() || query.$cascade() == Cascade.CASCADE) {
+            mutableSchema = writable(mutableSchema);
             mutableSchema.catalog.schemas.remove(mutableSchema);
+        }
         else
             throw schemaNotEmpty(schema);
     }
@@ -373,6 +792,9 @@ final class Interpreter {
         if (mrf == null)
             throw notExists(impl.$referencesTable());
 
+        // The referenced key keeps track of its referencing keys
+        mrf = writable(mrf);
+
         List<MutableField> mfs = mt.fields(impl.$foreignKey(), true);
         List<MutableField> mrfs = mrf.fields(impl.$references(), true);
 
@@ -387,6 +809,8 @@ final class Interpreter {
         mt.foreignKeys.add(new MutableForeignKey(
             (UnqualifiedName) impl.getUnqualifiedName(), mt, mfs, mu, mrfs, impl.$onDelete(), impl.$onUpdate(), impl.$enforced()
         ));
+
+        touch(mt);
     }
 
     private final void drop(List<MutableTable> tables, MutableTable table, Cascade cascade) {
@@ -456,23 +880,17 @@ final class Interpreter {
     }
 
     private final void cascade(MutableUniqueKey key, List<MutableField> fields, Cascade cascade) {
-        for (MutableTable mt : tables()) {
-            Iterator<MutableForeignKey> it = mt.foreignKeys.iterator();
-
-            while (it.hasNext()) {
-                MutableForeignKey mfk = it.next();
-
-                if (mfk.referencedKey.equals(key)) {
-                    if (cascade == CASCADE)
-                        it.remove();
-                    else if (fields == null)
-                        throw new DataDefinitionException("Cannot drop constraint " + key + " because other objects depend on it");
-                    else if (fields.size() == 1)
-                        throw new DataDefinitionException("Cannot drop column " + fields.get(0) + " because other objects depend on it");
-                    else
-                        throw new DataDefinitionException("Cannot drop columns " + fields + " because other objects depend on them");
-                }
-            }
+        for (MutableForeignKey referencingKey : new ArrayList<>(key.referencingKeys)) {
+            MutableForeignKey mfk = current(referencingKey);
+
+            if (cascade == CASCADE)
+                writable(mfk.table).foreignKeys.remove(current(mfk));
+            else if (fields == null)
+                throw new DataDefinitionException("Cannot drop constraint " + key + " because other objects depend on it");
+            else if (fields.size() == 1)
+                throw new DataDefinitionException("Cannot drop column " + fields.get(0) + " because other objects depend on it");
+            else
+                throw new DataDefinitionException("Cannot drop columns " + fields + " because other objects depend on them");
         }
     }
 
@@ -490,6 +908,8 @@ final class Interpreter {
         else if (!existing.options.type().isTable())
             throw objectNotTable(table);
 
+        existing = writable(existing);
+
         if (query.$add() != null) {
             for (FieldOrConstraint fc : query.$add())
                 if (fc instanceof Field && find(existing.fields, (Field<?>) fc) != null)
@@ -769,7 +1189,8 @@ final class Interpreter {
         else if (query.$temporary() && existing.options.type() != TableType.TEMPORARY)
             throw objectNotTemporaryTable(table);
 
-        drop(schema.tables, existing, query.$cascade());
+        existing = writable(existing);
+        drop(existing.schema.tables, existing, query.$cascade());
     }
 
     private final void accept0(TruncateImpl<?> query) {
@@ -794,8 +1215,10 @@ final class Interpreter {
         if (existing != null) {
             if (!existing.options.type().isView())
                 throw objectNotView(table);
-            else if (query.$orReplace())
-                drop(schema.tables, existing, RESTRICT);
+            else if (query.$orReplace()) {
+                existing = writable(existing);
+                drop(existing.schema.tables, existing, RESTRICT);
+            }
             else if (!query.$ifNotExists())
                 throw viewAlreadyExists(table);
             else
@@ -825,7 +1248,7 @@ final class Interpreter {
 
         Table<?> renameTo = query.$renameTo();
         if (renameTo != null && checkNotExists(schema, renameTo))
-            existing.name((UnqualifiedName) renameTo.getUnqualifiedName());
+            writable(existing).name((UnqualifiedName) renameTo.getUnqualifiedName());
         else
             throw unsupportedQuery(query);
     }
@@ -844,7 +1267,8 @@ final class Interpreter {
         else if (!existing.options.type().isView())
             throw objectNotView(table);
 
-        drop(schema.tables, existing, RESTRICT);
+        existing = writable(existing);
+        drop(existing.schema.tables, existing, RESTRICT);
     }
 
     private final void accept0(CreateSequenceImpl query) {
@@ -859,7 +1283,7 @@ final class Interpreter {
             return;
         }
 
-        MutableSequence ms = new MutableSequence((UnqualifiedName) sequence.getUnqualifiedName(), schema);
+        MutableSequence ms = new MutableSequence((UnqualifiedName) sequence.getUnqualifiedName(), writable(schema));
 
         ms.startWith = query.$startWith();
         ms.incrementBy = query.$incrementBy();
@@ -881,6 +1305,8 @@ final class Interpreter {
             return;
         }
 
+        existing = writable(existing);
+
         Sequence<?> renameTo = query.$renameTo();
         if (renameTo != null) {
             if (schema.sequence(renameTo) != null)
@@ -941,7 +1367,7 @@ final class Interpreter {
             return;
         }
 
-        schema.sequences.remove(existing);
+        writable(schema).sequences.remove(existing);
     }
 
     private final void accept0(CreateIndexImpl query) {
@@ -953,6 +1379,7 @@ final class Interpreter {
         if (mt == null)
             throw notExists(table);
 
+        mt = writable(mt);
         MutableIndex existing = find(mt.indexes, index);
         List<MutableSortField> mtf = mt.sortFields(query.$on());
 
@@ -973,8 +1400,10 @@ final class Interpreter {
 
         if (existing != null) {
             if (query.$renameTo() != null)
-                if (index(query.$renameTo(), table, false, false) == null)
-                    existing.name((UnqualifiedName) query.$renameTo().getUnqualifiedName());
+                if (index(query.$renameTo(), table, false, false) == null) {
+                    writable(existing.table);
+                    current(existing).name((UnqualifiedName) query.$renameTo().getUnqualifiedName());
+                }
                 else
                     throw alreadyExists(query.$renameTo());
             else
@@ -988,7 +1417,7 @@ final class Interpreter {
         MutableIndex existing = index(index, table, query.$dropIndexIfExists(), true);
 
         if (existing != null)
-            existing.table.indexes.remove(existing);
+            writable(existing.table).indexes.remove(current(existing));
     }
 
     private final void accept0(CreateDomainImpl<?> query) {
@@ -1003,7 +1432,7 @@ final class Interpreter {
             return;
         }
 
-        MutableDomain md = new MutableDomain((UnqualifiedName) domain.getUnqualifiedName(), schema, query.$dataType());
+        MutableDomain md = new MutableDomain((UnqualifiedName) domain.getUnqualifiedName(), writable(schema), query.$dataType());
 
         if (query.$default_() != null)
             md.dataType = md.dataType.default_((Field) query.$default_());
@@ -1027,6 +1456,8 @@ final class Interpreter {
             return;
         }
 
+        existing = writable(existing);
+
         if (query.$addConstraint() != null) {
             if (find(existing.checks, query.$addConstraint()) != null)
                 throw alreadyExists(query.$addConstraint());
@@ -1094,11 +1525,14 @@ final class Interpreter {
         if (query.$cascade() != Cascade.CASCADE && !existing.fields.isEmpty())
             throw new DataDefinitionException("Domain " + domain.getQualifiedName() + " is still being referenced by fields.");
 
-        List<MutableField> field = new ArrayList<>(existing.fields);
-        for (MutableField mf : field)
-            dropColumns(mf.table, existing.fields, CASCADE);
+        existing = writable(existing);
 
-        schema.domains.remove(existing);
+        for (MutableField field : new ArrayList<>(existing.fields)) {
+            MutableTable mt = writable(current(field).table);
+            dropColumns(mt, asList(current(field)), CASCADE);
+        }
+
+        existing.schema.domains.remove(existing);
     }
 
     private final void accept0(CommentOnImpl query) {
@@ -1106,9 +1540,12 @@ final class Interpreter {
         Field<?> field = query.$field();
 
         if (table != null)
-            table(table).comment(query.$comment());
-        else if (field != null)
-            field(field).comment(query.$comment());
+            writable(table(table)).comment(query.$comment());
+        else if (field != null) {
+            MutableField mf = field(field);
+            writable(mf.table);
+            current(mf).comment(query.$comment());
+        }
         else
             throw unsupportedQuery(query);
     }
@@ -1216,7 +1653,7 @@ final class Interpreter {
         MutableSchema schema = defaultSchema;
         if ((schema = find(catalog.schemas, input)) == null && create)
             // TODO createSchemaIfNotExists should probably be configurable
-            schema = new MutableSchema((UnqualifiedName) input.getUnqualifiedName(), catalog);
+            schema = new MutableSchema((UnqualifiedName) input.getUnqualifiedName(), writable(catalog));
 
         return schema;
     }
@@ -1247,7 +1684,7 @@ final class Interpreter {
         Comment comment,
         TableOptions options
     ) {
-        MutableTable t = new MutableTable((UnqualifiedName) table.getUnqualifiedName(), schema, comment, options);
+        MutableTable t = new MutableTable((UnqualifiedName) table.getUnqualifiedName(), writable(schema), comment, options);
 
         if (!columns.isEmpty())
             for (int i = 0; i < columns.size(); i++)
@@ -1471,6 +1908,10 @@ final class Interpreter {
             }
         }
 
+        final Interpreter owner() {
+            return Interpreter.this;
+        }
+
         abstract MutableNamed parent();
         abstract void onDrop();
 
@@ -1487,6 +1928,13 @@ final class Interpreter {
             super(name, null);
         }
 
+        MutableCatalog(MutableCatalog copy) {
+            super(copy.name(), copy.comment());
+
+            schemas.addAll(copy.schemas);
+            copies.put(copy, this);
+        }
+
         @Override
         final void onDrop() {
             schemas.clear();
@@ -1496,20 +1944,24 @@ final class Interpreter {
         final MutableNamed parent() {
             return null;
         }
+    }
 
-        final InterpretedCatalog interpretedCatalog() {
-            return interpretedCatalogs.computeIfAbsent(qualifiedName(), n -> new InterpretedCatalog());
-        }
+    private final InterpretedCatalog interpretedCatalog(MutableCatalog catalog) {
+        return interpretedCatalogs.computeIfAbsent(catalog, c -> new InterpretedCatalog(c));
+    }
 
-        private final class InterpretedCatalog extends CatalogImpl {
-            InterpretedCatalog() {
-                super(MutableCatalog.this.name(), MutableCatalog.this.comment());
-            }
+    private final class InterpretedCatalog extends CatalogImpl {
+        private final MutableCatalog catalog;
 
-            @Override
-            public final List<Schema> getSchemas() {
-                return map(schemas, s -> s.interpretedSchema());
-            }
+        InterpretedCatalog(MutableCatalog catalog) {
+            super(catalog.name(), catalog.comment());
+
+            this.catalog = catalog;
+        }
+
+        @Override
+        public final List<Schema> getSchemas() {
+            return map(catalog.schemas, s -> interpretedSchema(s));
         }
     }
 
@@ -1526,11 +1978,30 @@ final class Interpreter {
             this.catalog.schemas.add(this);
         }
 
+        MutableSchema(MutableSchema copy, MutableCatalog catalog) {
+            super(copy.name(), copy.comment());
+
+            this.catalog = catalog;
+            tables.addAll(copy.tables);
+            domains.addAll(copy.domains);
+            sequences.addAll(copy.sequences);
+            copies.put(copy, this);
+        }
+
         @Override
         final void onDrop() {
-            for (MutableTable table : tables)
-                for (MutableForeignKey referencingKey : table.referencingKeys())
-                    referencingKey.table.foreignKeys.remove(referencingKey);
+
+            // Dropped tables have to remove their foreign keys from the
+            // referenced keys, which may be located in other schemas
+            for (MutableTable table : new ArrayList<>(tables))
+                writable(table);
+
+            for (MutableTable table : tables) {
+                for (MutableForeignKey referencingKey : table.referencingKeys()) {
+                    MutableTable referencingTable = writable(current(referencingKey).table);
+                    referencingTable.foreignKeys.remove(current(referencingKey));
+                }
+            }
 
             // TODO: Cascade domains?
 
@@ -1544,10 +2015,6 @@ final class Interpreter {
             return catalog;
         }
 
-        final InterpretedSchema interpretedSchema() {
-            return interpretedSchemas.computeIfAbsent(qualifiedName(), n -> new InterpretedSchema(catalog.interpretedCatalog()));
-        }
-
         final boolean isEmpty() {
             return tables.isEmpty();
         }
@@ -1563,26 +2030,38 @@ final class Interpreter {
         final MutableSequence sequence(Named s) {
             return find(sequences, s);
         }
+    }
 
-        private final class InterpretedSchema extends SchemaImpl {
-            InterpretedSchema(MutableCatalog.InterpretedCatalog catalog) {
-                super(MutableSchema.this.name(), catalog, MutableSchema.this.comment());
-            }
+    private final InterpretedSchema interpretedSchema(MutableSchema schema) {
+        return interpretedSchemas.computeIfAbsent(schema, s -> new InterpretedSchema(s, interpretedCatalog(current(s.catalog))));
+    }
 
-            @Override
-            public final List<Table<?>> getTables() {
-                return map(tables, t -> t.interpretedTable());
-            }
+    private final class InterpretedSchema extends SchemaImpl {
+        private final MutableSchema schema;
 
-            @Override
-            public final List<Domain<?>> getDomains() {
-                return map(domains, d -> d.interpretedDomain());
-            }
+        InterpretedSchema(MutableSchema schema, InterpretedCatalog catalog) {
+            super(schema.name(), catalog, schema.comment());
 
-            @Override
-            public final List<Sequence<?>> getSequences() {
-                return map(sequences, s -> s.interpretedSequence());
-            }
+            this.schema = schema;
+        }
+
+        final MutableSchema mutable() {
+            return schema;
+        }
+
+        @Override
+        public final List<Table<?>> getTables() {
+            return map(schema.tables, t -> interpretedTable(t));
+        }
+
+        @Override
+        public final List<Domain<?>> getDomains() {
+            return map(schema.domains, d -> interpretedDomain(d));
+        }
+
+        @Override
+        public final List<Sequence<?>> getSequences() {
+            return map(schema.sequences, s -> interpretedSequence(s));
         }
     }
 
@@ -1604,6 +2083,32 @@ final class Interpreter {
             schema.tables.add(this);
         }
 
+        MutableTable(MutableTable copy, MutableSchema schema) {
+            super(copy.name(), copy.comment());
+
+            this.schema = schema;
+            this.options = copy.options;
+            copies.put(copy, this);
+
+            for (MutableField f : copy.fields)
+                fields.add(new MutableField(f, this));
+
+            if (copy.primaryKey != null)
+                primaryKey = new MutableUniqueKey(copy.primaryKey, this);
+
+            for (MutableUniqueKey uk : copy.uniqueKeys)
+                uniqueKeys.add(new MutableUniqueKey(uk, this));
+
+            for (MutableForeignKey fk : copy.foreignKeys)
+                foreignKeys.add(new MutableForeignKey(fk, this));
+
+            for (MutableCheck ch : copy.checks)
+                checks.add(new MutableCheck(ch.name(), this, ch.condition, ch.enforced));
+
+            for (MutableIndex i : copy.indexes)
+                indexes.add(new MutableIndex(i, this));
+        }
+
         @Override
         final void onDrop() {
             if (primaryKey != null)
@@ -1621,10 +2126,6 @@ final class Interpreter {
             return schema;
         }
 
-        final InterpretedTable interpretedTable() {
-            return interpretedTables.computeIfAbsent(qualifiedName(), n -> new InterpretedTable(schema.interpretedSchema()));
-        }
-
         boolean hasReferencingKeys() {
             if (primaryKey != null && !primaryKey.referencingKeys.isEmpty())
                 return true;
@@ -1706,40 +2207,53 @@ final class Interpreter {
                 return findAny(uniqueKeys, mu -> set.equals(new HashSet<>(mu.fields)));
         }
 
-        private final class InterpretedTable extends TableImpl<Record> {
-            InterpretedTable(MutableSchema.InterpretedSchema schema) {
-                super(MutableTable.this.name(), schema, null, null, null, null, MutableTable.this.comment(), MutableTable.this.options);
+    }
 
-                for (MutableField field : MutableTable.this.fields)
-                    createField(field.name(), field.type, field.comment() != null ? field.comment().getComment() : null);
-            }
+    private final InterpretedTable interpretedTable(MutableTable table) {
+        return interpretedTables.computeIfAbsent(table, t -> new InterpretedTable(t, interpretedSchema(current(t.schema))));
+    }
 
-            @Override
-            public final UniqueKey<Record> getPrimaryKey() {
-                return MutableTable.this.primaryKey != null
-                     ? MutableTable.this.primaryKey.interpretedKey()
-                     : null;
-            }
+    private final class InterpretedTable extends TableImpl<Record> {
+        private final MutableTable table;
 
-            @Override
-            public final List<UniqueKey<Record>> getUniqueKeys() {
-                return map(MutableTable.this.uniqueKeys, uk -> uk.interpretedKey());
-            }
+        InterpretedTable(MutableTable table, InterpretedSchema schema) {
+            super(table.name(), schema, null, null, null, null, table.comment(), table.options);
 
-            @Override
-            public List<ForeignKey<Record, ?>> getReferences() {
-                return map(MutableTable.this.foreignKeys, fk -> fk.interpretedKey());
-            }
+            this.table = table;
 
-            @Override
-            public List<Check<Record>> getChecks() {
-                return map(MutableTable.this.checks, c -> new CheckImpl<>(this, c.name(), c.condition, c.enforced));
-            }
+            for (MutableField field : table.fields)
+                createField(field.name(), field.type, field.comment() != null ? field.comment().getComment() : null);
+        }
 
-            @Override
-            public final List<Index> getIndexes() {
-                return map(MutableTable.this.indexes, i -> i.interpretedIndex());
-            }
+        final MutableTable mutable() {
+            return table;
+        }
+
+        @Override
+        public final UniqueKey<Record> getPrimaryKey() {
+            return table.primaryKey != null
+                 ? interpretedKey(table.primaryKey)
+                 : null;
+        }
+
+        @Override
+        public final List<UniqueKey<Record>> getUniqueKeys() {
+            return map(table.uniqueKeys, uk -> interpretedKey(uk));
+        }
+
+        @Override
+        public List<ForeignKey<Record, ?>> getReferences() {
+            return map(table.foreignKeys, fk -> interpretedKey(fk));
+        }
+
+        @Override
+        public List<Check<Record>> getChecks() {
+            return map(table.checks, c -> new CheckImpl<>(this, c.name(), c.condition, c.enforced));
+        }
+
+        @Override
+        public final List<Index> getIndexes() {
+            return map(table.indexes, i -> interpretedIndex(i));
         }
     }
 
@@ -1757,6 +2271,19 @@ final class Interpreter {
             schema.domains.add(this);
         }
 
+        MutableDomain(MutableDomain copy, MutableSchema schema) {
+            super(copy.name(), copy.comment());
+
+            this.schema = schema;
+            this.dataType = copy.dataType;
+            copies.put(copy, this);
+
+            for (MutableCheck ch : copy.checks)
+                checks.add(new MutableCheck(ch.name(), null, ch.condition, ch.enforced));
+
+            fields.addAll(copy.fields);
+        }
+
         @Override
         final void onDrop() {
             schema.domains.remove(this);
@@ -1768,19 +2295,18 @@ final class Interpreter {
             return schema;
         }
 
-
-        final InterpretedDomain interpretedDomain() {
-            return interpretedDomains.computeIfAbsent(qualifiedName(), n -> new InterpretedDomain(schema.interpretedSchema()));
-        }
-
         final Check<?>[] interpretedChecks() {
             return map(checks, c -> new CheckImpl<>(null, c.name(), c.condition, c.enforced), Check[]::new);
         }
+    }
 
-        private final class InterpretedDomain extends DomainImpl {
-            InterpretedDomain(Schema schema) {
-                super(schema, MutableDomain.this.name(), dataType, interpretedChecks());
-            }
+    private final InterpretedDomain interpretedDomain(MutableDomain domain) {
+        return interpretedDomains.computeIfAbsent(domain, d -> new InterpretedDomain(d, interpretedSchema(current(d.schema))));
+    }
+
+    private final class InterpretedDomain extends DomainImpl {
+        InterpretedDomain(MutableDomain domain, Schema schema) {
+            super(schema, domain.name(), domain.dataType, domain.interpretedChecks());
         }
     }
 
@@ -1800,6 +2326,19 @@ final class Interpreter {
             schema.sequences.add(this);
         }
 
+        MutableSequence(MutableSequence copy, MutableSchema schema) {
+            super(copy.name(), copy.comment());
+
+            this.schema = schema;
+            this.startWith = copy.startWith;
+            this.incrementBy = copy.incrementBy;
+            this.minvalue = copy.minvalue;
+            this.maxvalue = copy.maxvalue;
+            this.cycle = copy.cycle;
+            this.cache = copy.cache;
+            copies.put(copy, this);
+        }
+
         @Override
         final void onDrop() {}
 
@@ -1808,20 +2347,29 @@ final class Interpreter {
             return schema;
         }
 
-        final InterpretedSequence interpretedSequence() {
-            return interpretedSequences.computeIfAbsent(qualifiedName(), n -> new InterpretedSequence(schema.interpretedSchema()));
+    }
+
+    private final InterpretedSequence interpretedSequence(MutableSequence sequence) {
+        return interpretedSequences.computeIfAbsent(sequence, q -> new InterpretedSequence(q, interpretedSchema(current(q.schema))));
+    }
+
+    private final class InterpretedSequence extends SequenceImpl<Long> {
+        private final MutableSequence sequence;
+
+        InterpretedSequence(MutableSequence sequence, Schema schema) {
+            super(sequence.name(), schema, BIGINT, false,
+                (Field<Long>) sequence.startWith,
+                (Field<Long>) sequence.incrementBy,
+                (Field<Long>) sequence.minvalue,
+                (Field<Long>) sequence.maxvalue,
+                sequence.cycle,
+                (Field<Long>) sequence.cache);
+
+            this.sequence = sequence;
         }
 
-        private final class InterpretedSequence extends SequenceImpl<Long> {
-            InterpretedSequence(Schema schema) {
-                super(MutableSequence.this.name(), schema, BIGINT, false,
-                    (Field<Long>) MutableSequence.this.startWith,
-                    (Field<Long>) MutableSequence.this.incrementBy,
-                    (Field<Long>) MutableSequence.this.minvalue,
-                    (Field<Long>) MutableSequence.this.maxvalue,
-                    MutableSequence.this.cycle,
-                    (Field<Long>) MutableSequence.this.cache);
-            }
+        final MutableSequence mutable() {
+            return sequence;
         }
     }
 
@@ -1898,6 +2446,13 @@ final class Interpreter {
             super(name, table, fields, enforced);
         }
 
+        MutableUniqueKey(MutableUniqueKey copy, MutableTable table) {
+            super(copy.name(), table, map(copy.fields, f -> current(f)), copy.enforced);
+
+            referencingKeys.addAll(copy.referencingKeys);
+            copies.put(copy, this);
+        }
+
         @Override
         final void onDrop() {
             // TODO Is this StackOverflowError safe?
@@ -1913,28 +2468,27 @@ final class Interpreter {
             else
                 return super.qualifiedName();
         }
+    }
 
-        final UniqueKeyImpl<Record> interpretedKey() {
-            Name qualifiedName = qualifiedName();
-            UniqueKeyImpl<Record> result = interpretedUniqueKeys.get(qualifiedName);
-
-            if (result == null) {
-                MutableTable.InterpretedTable t = table.interpretedTable();
+    private final UniqueKeyImpl<Record> interpretedKey(MutableUniqueKey key) {
+        UniqueKeyImpl<Record> result = interpretedUniqueKeys.get(key);
 
-                // Add to map before adding bi-directionality to avoid StackOverflowErrors
-                interpretedUniqueKeys.put(qualifiedName, result = new UniqueKeyImpl<>(
-                    t,
-                    name(),
-                    map(fields, f -> (TableField<Record, ?>) t.field(f.name()), TableField[]::new),
-                    enforced
-                ));
+        if (result == null) {
+            InterpretedTable t = interpretedTable(current(key.table));
 
-                for (MutableForeignKey referencingKey : referencingKeys)
-                    result.references.add((ForeignKey) referencingKey.interpretedKey());
-            }
+            // Add to map before adding bi-directionality to avoid StackOverflowErrors
+            interpretedUniqueKeys.put(key, result = new UniqueKeyImpl<>(
+                t,
+                key.name(),
+                map(key.fields, f -> (TableField<Record, ?>) t.field(f.name()), TableField[]::new),
+                key.enforced
+            ));
 
-            return result;
+            for (MutableForeignKey referencingKey : key.referencingKeys)
+                result.references.add((ForeignKey) interpretedKey(current(referencingKey)));
         }
+
+        return result;
     }
 
     private final class MutableForeignKey extends MutableKey {
@@ -1964,9 +2518,26 @@ final class Interpreter {
             this.onUpdate = onUpdate;
         }
 
+        MutableForeignKey(MutableForeignKey copy, MutableTable table) {
+            super(copy.name(), table, map(copy.fields, f -> current(f)), copy.enforced);
+
+            // The referenced key keeps referencing the copied key, which is
+            // resolved to this key by current()
+            this.referencedKey = copy.referencedKey;
+            this.referencedFields = copy.referencedFields;
+            this.onDelete = copy.onDelete;
+            this.onUpdate = copy.onUpdate;
+            copies.put(copy, this);
+        }
+
         @Override
         final void onDrop() {
-            this.referencedKey.referencingKeys.remove(this);
+            MutableUniqueKey key = current(referencedKey);
+            writable(key.table);
+            key = current(key);
+
+            if (key.owner() == Interpreter.this)
+                key.referencingKeys.removeIf(k -> current(k) == this);
         }
 
         @Override
@@ -1978,28 +2549,26 @@ final class Interpreter {
             else
                 return super.qualifiedName();
         }
+    }
 
-        final ForeignKey<Record, ?> interpretedKey() {
-            Name qualifiedName = qualifiedName();
-            ReferenceImpl<Record, ?> result = interpretedForeignKeys.get(qualifiedName);
+    private final ForeignKey<Record, ?> interpretedKey(MutableForeignKey key) {
+        ReferenceImpl<Record, ?> result = interpretedForeignKeys.get(key);
 
-            if (result == null) {
-                MutableTable.InterpretedTable t = table.interpretedTable();
-                UniqueKeyImpl<Record> uk = referencedKey.interpretedKey();
+        if (result == null) {
+            InterpretedTable t = interpretedTable(current(key.table));
+            UniqueKeyImpl<Record> uk = interpretedKey(current(key.referencedKey));
 
-                interpretedForeignKeys.put(qualifiedName, result = new ReferenceImpl<>(
-                    t,
-                    name(),
-                    map(fields, f -> (TableField<Record, ?>) t.field(f.name()), TableField[]::new),
-                    uk,
-                    map(referencedFields, f -> (TableField<Record, ?>) uk.getTable().field(f.name()), TableField[]::new),
-                    enforced
-                ));
-            }
-
-            return result;
+            interpretedForeignKeys.put(key, result = new ReferenceImpl<>(
+                t,
+                key.name(),
+                map(key.fields, f -> (TableField<Record, ?>) t.field(f.name()), TableField[]::new),
+                uk,
+                map(key.referencedFields, f -> (TableField<Record, ?>) uk.getTable().field(current(f).name()), TableField[]::new),
+                key.enforced
+            ));
         }
 
+        return result;
     }
 
     private final class MutableIndex extends MutableNamed {
@@ -2015,6 +2584,15 @@ final class Interpreter {
             this.unique = unique;
         }
 
+        MutableIndex(MutableIndex copy, MutableTable table) {
+            super(copy.name(), copy.comment());
+
+            this.table = table;
+            this.fields = map(copy.fields, sf -> new MutableSortField(current(sf.field), sf.sort));
+            this.unique = copy.unique;
+            copies.put(copy, this);
+        }
+
         @Override
         final void onDrop() {}
 
@@ -2029,24 +2607,23 @@ final class Interpreter {
             // TODO: Can we have unnamed indexes?
             return super.qualifiedName();
         }
+    }
 
-        final Index interpretedIndex() {
-            Name qualifiedName = qualifiedName();
-            Index result = interpretedIndexes.get(qualifiedName);
+    private final Index interpretedIndex(MutableIndex index) {
+        Index result = interpretedIndexes.get(index);
 
-            if (result == null) {
-                Table<?> t = table.interpretedTable();
-                interpretedIndexes.put(qualifiedName, result = new IndexImpl(
-                    name(),
-                    t,
-                    map(fields, msf -> t.field(msf.name()).sort(msf.sort), SortField[]::new),
-                    null,
-                    unique
-                ));
-            }
-
-            return result;
+        if (result == null) {
+            Table<?> t = interpretedTable(current(index.table));
+            interpretedIndexes.put(index, result = new IndexImpl(
+                index.name(),
+                t,
+                map(index.fields, msf -> t.field(msf.name()).sort(msf.sort), SortField[]::new),
+                null,
+                index.unique
+            ));
         }
+
+        return result;
     }
 
     private final class MutableField extends MutableNamed {
@@ -2059,16 +2636,27 @@ final class Interpreter {
 
             this.table = table;
             this.type = type;
-            this.domain = table.schema.domain(type);
 
-            if (this.domain != null)
+            MutableDomain d = table.schema.domain(type);
+            if (d != null) {
+                this.domain = writable(d);
                 this.domain.fields.add(this);
+            }
+        }
+
+        MutableField(MutableField copy, MutableTable table) {
+            super(copy.name(), copy.comment());
+
+            this.table = table;
+            this.type = copy.type;
+            this.domain = copy.domain;
+            copies.put(copy, this);
         }
 
         @Override
         final void onDrop() {
             if (this.domain != null)
-                this.domain.fields.remove(this);
+                writable(this.domain).fields.removeIf(f -> current(f) == this);
         }
 
         @Override
@@ -2123,7 +2711,11 @@ final class Interpreter {
         @Override
         public N remove(int index) {
             N removed = delegate.remove(index);
-            removed.onDrop();
+
+            // Shared objects are still part of another interpreter's model
+            if (removed.owner() == Interpreter.this)
+                removed.onDrop();
+
             return removed;
         }
     }
@@ -148,6 +148,8 @@ final class JSONEntryImpl<T> extends AbstractQueryPart implements JSONEntry<T>,
             case H2:
                 if (type.getType() == UUID.class)
                     return field.cast(VARCHAR(36));
+                else if (type.isTemporal())
+                    return field.cast(VARCHAR);
 
                 break;
 
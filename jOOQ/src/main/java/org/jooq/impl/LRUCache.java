@@ -37,25 +37,258 @@
  */
 package org.jooq.impl;
 
-import java.util.LinkedHashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Simple non-thread safe LRUCache
+ * A thread safe, approximate LRUCache, keeping track of hits, misses, and
+ * evictions.
+ * <p>
+ * Lookups and insertions don't acquire any monitors. The cache is backed by a
+ * {@link ConcurrentHashMap} whose values remember the time they were last
+ * accessed (with a resolution of {@link #RESOLUTION} nanoseconds, to avoid
+ * writing to shared memory on every hit). When an insertion makes the cache
+ * exceed its size, a single thread evicts the least recently used entries in
+ * a batch, shrinking the cache to about {@link #SHRINK} of its size, while
+ * other threads continue to read and write. This means that the size is a soft
+ * limit, which may be exceeded briefly under concurrent insertions.
  *
  * @author Lukas Eder
  */
-final class LRUCache<K, V> extends LinkedHashMap<K, V> {
-    private final int         size;
+final class LRUCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    /**
+     * The resolution of access times in nanoseconds.
+     */
+    private static final long                  RESOLUTION = 1_000_000L;
+
+    /**
+     * The fraction of the size that is retained after an eviction.
+     */
+    private static final double                SHRINK     = 0.9;
+
+    private final int                          size;
+    private final ConcurrentHashMap<K, Node<V>> delegate;
+    private final AtomicBoolean                evicting;
+    private final LongAdder                    hits;
+    private final LongAdder                    misses;
+    private final LongAdder                    evictions;
 
     LRUCache(int size) {
-        super(size, 0.75f, true);
+        this.size = Math.max(1, size);
+        this.delegate = new ConcurrentHashMap<>();
+        this.evicting = new AtomicBoolean();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * The maximum number of values in this cache.
+     */
+    final int maxSize() {
+        return size;
+    }
+
+    /**
+     * The number of lookups that produced a value.
+     */
+    final long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of lookups that didn't produce a value.
+     */
+    final long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * The number of values that were evicted from the cache because it was
+     * full.
+     */
+    final long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public final V get(Object key) {
+        Node<V> node = delegate.get(key);
+
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        node.touch();
+        return node.value;
+    }
 
-        this.size = size;
+    @Override
+    public final V put(K key, V value) {
+        Node<V> previous = delegate.put(key, new Node<>(value));
+
+        if (previous == null)
+            evictIfNeeded();
+
+        return previous == null ? null : previous.value;
+    }
+
+    @Override
+    public final V putIfAbsent(K key, V value) {
+        Node<V> previous = delegate.putIfAbsent(key, new Node<>(value));
+
+        if (previous == null) {
+            evictIfNeeded();
+            return null;
+        }
+
+        previous.touch();
+        return previous.value;
+    }
+
+    @Override
+    public final V remove(Object key) {
+        Node<V> previous = delegate.remove(key);
+        return previous == null ? null : previous.value;
+    }
+
+    @Override
+    public final boolean remove(Object key, Object value) {
+        Node<V> node = delegate.get(key);
+        return node != null && node.value.equals(value) && delegate.remove(key, node);
+    }
+
+    @Override
+    public final boolean replace(K key, V oldValue, V newValue) {
+        Node<V> node = delegate.get(key);
+        return node != null && node.value.equals(oldValue) && delegate.replace(key, node, new Node<>(newValue));
     }
 
     @Override
-    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-        return size() > size;
+    public final V replace(K key, V value) {
+        Node<V> previous = delegate.replace(key, new Node<>(value));
+        return previous == null ? null : previous.value;
+    }
+
+    @Override
+    public final boolean containsKey(Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public final int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public final void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public final Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                Iterator<Entry<K, Node<V>>> it = delegate.entrySet().iterator();
+
+                return new Iterator<Entry<K, V>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        Entry<K, Node<V>> e = it.next();
+                        return new SimpleImmutableEntry<>(e.getKey(), e.getValue().value);
+                    }
+
+                    @Override
+                    public void remove() {
+                        it.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return delegate.size();
+            }
+        };
+    }
+
+    private final void evictIfNeeded() {
+
+        // Other threads may have inserted values during an eviction, in case
+        // of which the cache is checked again
+        while (delegate.size() > size && evicting.compareAndSet(false, true)) {
+            try {
+                List<Entry<K, Node<V>>> entries = new ArrayList<>(delegate.entrySet());
+                int remove = entries.size() - (int) (size * SHRINK);
+
+                if (remove > 0) {
+
+                    // Access times may change concurrently, so they're sorted
+                    // in a snapshot, rather than via a comparator
+                    long[] accessed = new long[entries.size()];
+                    for (int i = 0; i < accessed.length; i++)
+                        accessed[i] = entries.get(i).getValue().accessed;
+
+                    long[] sorted = accessed.clone();
+                    Arrays.sort(sorted);
+                    long threshold = sorted[remove - 1];
+
+                    for (int i = 0; i < accessed.length && remove > 0; i++) {
+                        Entry<K, Node<V>> e = entries.get(i);
+
+                        if (accessed[i] <= threshold && delegate.remove(e.getKey(), e.getValue())) {
+                            evictions.increment();
+                            remove--;
+                        }
+                    }
+                }
+            }
+            finally {
+                evicting.set(false);
+            }
+        }
+    }
+
+    @Override
+    public final String toString() {
+        return "LRUCache [size=" + size() + ", maxSize=" + size + ", hits=" + hits() + ", misses=" + misses() + ", evictions=" + evictions() + "]";
+    }
+
+    private static final class Node<V> {
+        final V       value;
+
+        // Racy writes are acceptable, this is only an approximation
+        long          accessed;
+
+        Node(V value) {
+            this.value = value;
+            this.accessed = System.nanoTime();
+        }
+
+        final void touch() {
+            long now = System.nanoTime();
+
+            if (now - accessed > RESOLUTION)
+                accessed = now;
+        }
     }
 }
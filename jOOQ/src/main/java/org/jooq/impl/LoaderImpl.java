@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
+import static java.nio.charset.StandardCharsets.US_ASCII;
 // ...
 import static org.jooq.SQLDialect.MARIADB;
 // ...
@@ -46,6 +47,7 @@ import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.combine;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -57,6 +59,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
@@ -806,6 +809,10 @@ final class LoaderImpl<R extends Record> implements
                             if (fields[i].getType() == byte[].class && row[i] instanceof String)
                                 row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
 
+                            // Streamed binary data is decoded while the JDBC driver reads it
+                            else if (fields[i].getType() == InputStream.class && row[i] instanceof String)
+                                row[i] = Base64.getDecoder().wrap(new ByteArrayInputStream(((String) row[i]).getBytes(US_ASCII)));
+
                     // [#10583] Pad row to the fields length
                     if (row.length < fields.length)
                         row = Arrays.copyOf(row, fields.length);
@@ -0,0 +1,242 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * Streams over LOB values, and utilities for copying them.
+ * <p>
+ * The streams returned by {@link BlobStreamBinding} and
+ * {@link ClobStreamBinding} keep a reference to the JDBC LOB locator and open
+ * the LOB's own stream only when they are first read. This means that the LOB
+ * contents are never materialised on the heap by jOOQ. Closing a stream frees
+ * the LOB.
+ *
+ * @author Lukas Eder
+ */
+final class LobStreams {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * An {@link InputStream} over a {@link Blob} that is opened lazily.
+     */
+    static final class BlobInputStream extends InputStream {
+        private final Blob  blob;
+        private InputStream delegate;
+        private boolean     closed;
+
+        BlobInputStream(Blob blob) {
+            this.blob = blob;
+        }
+
+        private final InputStream delegate() throws IOException {
+            if (closed)
+                throw new IOException("Stream is closed");
+
+            if (delegate == null) {
+                try {
+                    delegate = blob.getBinaryStream();
+                }
+                catch (SQLException e) {
+                    throw new IOException("Cannot open BLOB", e);
+                }
+            }
+
+            return delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return delegate().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return delegate().read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return delegate().skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return delegate == null ? 0 : delegate.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+
+                try {
+                    if (delegate != null)
+                        delegate.close();
+                }
+                finally {
+                    JDBCUtils.safeFree(blob);
+                }
+            }
+        }
+    }
+
+    /**
+     * A {@link Reader} over a {@link Clob} that is opened lazily.
+     */
+    static final class ClobReader extends Reader {
+        private final Clob clob;
+        private Reader     delegate;
+        private boolean    closed;
+
+        ClobReader(Clob clob) {
+            this.clob = clob;
+        }
+
+        private final Reader delegate() throws IOException {
+            if (closed)
+                throw new IOException("Reader is closed");
+
+            if (delegate == null) {
+                try {
+                    delegate = clob.getCharacterStream();
+                }
+                catch (SQLException e) {
+                    throw new IOException("Cannot open CLOB", e);
+                }
+            }
+
+            return delegate;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            return delegate().read(cbuf, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return delegate().skip(n);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+
+                try {
+                    if (delegate != null)
+                        delegate.close();
+                }
+                finally {
+                    JDBCUtils.safeFree(clob);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy and close an {@link InputStream}.
+     */
+    static final void copy(InputStream in, OutputStream out) throws IOException {
+        try (InputStream i = in) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+
+            for (int n; (n = i.read(buffer)) != -1;)
+                out.write(buffer, 0, n);
+        }
+    }
+
+    /**
+     * Copy and close a {@link Reader}.
+     */
+    static final void copy(Reader in, Writer out) throws IOException {
+        try (Reader r = in) {
+            char[] buffer = new char[BUFFER_SIZE];
+
+            for (int n; (n = r.read(buffer)) != -1;)
+                out.write(buffer, 0, n);
+        }
+    }
+
+    /**
+     * Read and close an {@link InputStream}, e.g. when its contents are inlined
+     * into SQL.
+     */
+    static final byte[] bytes(InputStream in) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            copy(in, out);
+            return out.toByteArray();
+        }
+        catch (IOException e) {
+            throw new DataAccessException("Cannot read stream", e);
+        }
+    }
+
+    /**
+     * Read and close a {@link Reader}, e.g. when its contents are inlined into
+     * SQL.
+     */
+    static final String string(Reader in) {
+        try {
+            StringWriter out = new StringWriter();
+            copy(in, out);
+            return out.toString();
+        }
+        catch (IOException e) {
+            throw new DataAccessException("Cannot read stream", e);
+        }
+    }
+
+    private LobStreams() {}
+}
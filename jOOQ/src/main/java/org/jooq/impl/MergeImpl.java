@@ -1736,6 +1736,11 @@ implements
         return CLAUSES;
     }
 
+    @Override
+    final void invalidateCachedResults(Configuration c) {
+        ResultCaching.invalidate(c, table);
+    }
+
     private final class MatchedClause implements Serializable {
 
         FieldMapForUpdate         updateMap;
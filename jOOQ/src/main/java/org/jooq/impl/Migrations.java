@@ -40,6 +40,8 @@ package org.jooq.impl;
 import static java.util.Collections.emptyList;
 
 import java.util.Collections;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.jooq.Commit;
 import org.jooq.Commits;
@@ -47,6 +49,7 @@ import org.jooq.Configuration;
 import org.jooq.ContentType;
 import org.jooq.File;
 import org.jooq.Internal;
+import org.jooq.Meta;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -62,6 +65,18 @@ public final class Migrations {
         return new CommitsImpl(configuration, new CommitImpl(configuration, "init", "init", emptyList(), emptyList()));
     }
 
+    /**
+     * Look up the {@link Commit#meta()} of a commit in an external cache
+     * first, and store it there after interpreting it, if it wasn't found.
+     * <p>
+     * This avoids interpreting a commit's entire history when its
+     * {@link Commit#meta()} has been computed before.
+     */
+    @Internal
+    public static final void cacheMeta(Commit commit, Function<? super Commit, ? extends Meta> lookup, BiConsumer<? super Commit, ? super Meta> store) {
+        ((CommitImpl) commit).cacheMeta(lookup, store);
+    }
+
     @Internal
     @NotNull
     public static final File file(String path, String content, ContentType type) {
@@ -0,0 +1,352 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Arrays.asList;
+import static org.jooq.impl.DSL.jsonArray;
+import static org.jooq.impl.DSL.jsonArrayAgg;
+import static org.jooq.impl.DSL.jsonbArray;
+import static org.jooq.impl.DSL.jsonbArrayAgg;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.xmlagg;
+import static org.jooq.impl.DSL.xmlelement;
+import static org.jooq.impl.DSL.xmlforest;
+import static org.jooq.impl.Names.N_MULTISET;
+import static org.jooq.impl.Names.N_RECORD;
+import static org.jooq.impl.Names.N_RESULT;
+import static org.jooq.impl.Names.N_T;
+import static org.jooq.impl.SQLDataType.OTHER;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.fieldName;
+import static org.jooq.impl.Tools.fieldNameString;
+import static org.jooq.impl.Tools.fieldNames;
+import static org.jooq.impl.Tools.unalias;
+import static org.jooq.impl.Tools.visitSubquery;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.BindingGetSQLInputContext;
+import org.jooq.BindingGetStatementContext;
+import org.jooq.BindingRegisterContext;
+import org.jooq.BindingSQLContext;
+import org.jooq.BindingSetSQLOutputContext;
+import org.jooq.BindingSetStatementContext;
+import org.jooq.Configuration;
+import org.jooq.Context;
+import org.jooq.Converter;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.JSON;
+import org.jooq.JSONArrayAggOrderByStep;
+import org.jooq.JSONB;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.XML;
+import org.jooq.XMLAggOrderByStep;
+import org.jooq.conf.NestedCollectionEmulation;
+import org.jooq.exception.DataTypeException;
+import org.jooq.tools.json.JSONParser;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+
+/**
+ * A <code>MULTISET</code> nested collection, which is emulated by aggregating
+ * the nested {@link Select} into a JSON or XML document in a correlated
+ * subquery, and decoding that document back into a {@link Result} when
+ * fetching.
+ *
+ * @author Lukas Eder
+ */
+final class Multiset<R extends Record> extends AbstractField<Result<R>> {
+
+    final Select<R> select;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    Multiset(Select<R> select) {
+        super(N_MULTISET, (org.jooq.DataType) OTHER.asConvertedDataType(new MultisetBinding<>(select)));
+
+        this.select = select;
+    }
+
+    @Override
+    public final void accept(Context<?> ctx) {
+        SelectQueryImpl<R> q = Tools.selectQueryImpl(select);
+        List<Field<?>> s = select.getSelect();
+
+        // Aggregate the subquery's rows directly where possible, as not all
+        // dialects support references to outer queries from derived tables
+        if (q != null && q.isAggregatable(ctx.configuration())) {
+            List<Field<?>> fields = new ArrayList<>(s.size());
+
+            for (int i = 0; i < s.size(); i++)
+                fields.add(unalias(s.get(i)).as(fieldName(i)));
+
+            visitSubquery(ctx, q.copyWithProjection(aggregate(ctx, fields, q.getOrderBy())));
+        }
+        else {
+            Table<?> t = select.asTable(N_T, fieldNames(s.size()));
+            visitSubquery(ctx, select(aggregate(ctx, asList(t.fields()), null)).from(t));
+        }
+    }
+
+    private static final Field<?> aggregate(Context<?> ctx, List<Field<?>> fields, SortFieldList orderBy) {
+        switch (emulation(ctx)) {
+            case XML: {
+                XMLAggOrderByStep<XML> agg = xmlagg(xmlelement(N_RECORD, xmlforest(fields)));
+                return xmlelement(N_RESULT, Tools.isEmpty(orderBy) ? agg : agg.orderBy(orderBy));
+            }
+
+            case JSONB: {
+                JSONArrayAggOrderByStep<JSONB> agg = jsonbArrayAgg(jsonbArray(jsonFields(fields)).nullOnNull());
+                return DSL.coalesce(Tools.isEmpty(orderBy) ? agg : agg.orderBy(orderBy), jsonbArray(EMPTY_FIELD));
+            }
+
+            case JSON:
+            default: {
+                JSONArrayAggOrderByStep<JSON> agg = jsonArrayAgg(jsonArray(jsonFields(fields)).nullOnNull());
+                return DSL.coalesce(Tools.isEmpty(orderBy) ? agg : agg.orderBy(orderBy), jsonArray(EMPTY_FIELD));
+            }
+        }
+    }
+
+    private static final NestedCollectionEmulation emulation(Context<?> ctx) {
+        NestedCollectionEmulation result = ctx.settings().getEmulateMultiset();
+
+        if (result == null || result == NestedCollectionEmulation.DEFAULT)
+            return NestedCollectionEmulation.JSON;
+        else
+            return result;
+    }
+
+    /**
+     * JSON numbers are parsed as {@link Double}, so exact numeric values are
+     * transferred as strings instead.
+     */
+    private static final List<Field<?>> jsonFields(List<Field<?>> fields) {
+        List<Field<?>> result = new ArrayList<>(fields.size());
+
+        for (Field<?> f : fields) {
+            Class<?> type = f.getDataType().getType();
+
+            if (type == BigDecimal.class || type == BigInteger.class)
+                result.add(unalias(f).cast(VARCHAR));
+            else
+                result.add(unalias(f));
+        }
+
+        return result;
+    }
+
+    /**
+     * The {@link Binding} decoding aggregated <code>MULTISET</code> documents
+     * into {@link Result} values.
+     */
+    static final class MultisetBinding<R extends Record> implements Binding<Object, Result<R>> {
+
+        final AbstractRow<R>                  row;
+        final Class<? extends R>              recordType;
+        final Converter<Object, Result<R>>    converter;
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        MultisetBinding(Select<R> select) {
+            this.row = (AbstractRow<R>) Tools.row0(select.getSelect());
+            this.recordType = select.getRecordType();
+            this.converter = Converter.ofNullable(Object.class, (Class) Result.class, o -> decode(null, o), r -> {
+                throw new DataTypeException("Cannot convert a Result back into a MULTISET document");
+            });
+        }
+
+        @Override
+        public final Converter<Object, Result<R>> converter() {
+            return converter;
+        }
+
+        @Override
+        public final void sql(BindingSQLContext<Result<R>> ctx) throws SQLException {
+            ctx.render().sql(ctx.variable());
+        }
+
+        @Override
+        public final void register(BindingRegisterContext<Result<R>> ctx) throws SQLException {
+            throw new SQLFeatureNotSupportedException("MULTISET values cannot be used as OUT parameters");
+        }
+
+        @Override
+        public final void set(BindingSetStatementContext<Result<R>> ctx) throws SQLException {
+            throw new SQLFeatureNotSupportedException("MULTISET values cannot be bound");
+        }
+
+        @Override
+        public final void set(BindingSetSQLOutputContext<Result<R>> ctx) throws SQLException {
+            throw new SQLFeatureNotSupportedException("MULTISET values cannot be bound");
+        }
+
+        @Override
+        public final void get(BindingGetResultSetContext<Result<R>> ctx) throws SQLException {
+            ctx.value(decode(ctx.configuration(), ctx.resultSet().getString(ctx.index())));
+        }
+
+        @Override
+        public final void get(BindingGetStatementContext<Result<R>> ctx) throws SQLException {
+            ctx.value(decode(ctx.configuration(), ctx.statement().getString(ctx.index())));
+        }
+
+        @Override
+        public final void get(BindingGetSQLInputContext<Result<R>> ctx) throws SQLException {
+            ctx.value(decode(ctx.configuration(), ctx.input().readString()));
+        }
+
+        /**
+         * Decode a JSON or XML document, or a nested JSON array or XML element
+         * thereof, into a {@link Result}.
+         */
+        @SuppressWarnings("unchecked")
+        final Result<R> decode(Configuration configuration, Object document) {
+            if (document == null)
+                return null;
+
+            try {
+                Object root = document;
+
+                if (document instanceof String) {
+                    String string = ((String) document).trim();
+
+                    if (string.startsWith("<"))
+                        root = XMLasDOMBinding.builder().parse(new InputSource(new StringReader(string))).getDocumentElement();
+                    else
+                        root = new JSONParser().parse(string);
+                }
+
+                Result<R> result = new ResultImpl<>(configuration, row);
+                Supplier<R> factory = Tools.recordFactory(recordType, row);
+                RecordDelegate<AbstractRecord> delegate = Tools.newRecord(true, (Supplier<AbstractRecord>) factory, configuration);
+
+                if (root instanceof List) {
+                    for (Object o : (List<?>) root) {
+                        List<?> values = (List<?>) o;
+                        result.add((R) delegate.operate(r -> init(configuration, r, values::get)));
+                    }
+                }
+                else {
+                    for (Node n = ((Element) root).getFirstChild(); n != null; n = n.getNextSibling()) {
+                        if (n instanceof Element) {
+                            Element e = (Element) n;
+                            result.add((R) delegate.operate(r -> init(configuration, r, i -> child(e, fieldNameString(i)))));
+                        }
+                    }
+                }
+
+                return result;
+            }
+            catch (DataTypeException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                throw new DataTypeException("Cannot decode MULTISET document", e);
+            }
+        }
+
+        private final AbstractRecord init(Configuration configuration, AbstractRecord record, IntFunction<Object> values) {
+            for (int i = 0; i < row.size(); i++) {
+                Field<?> field = row.field(i);
+                Object value = values.apply(i);
+
+                if (field.getBinding() instanceof MultisetBinding)
+                    value = ((MultisetBinding<?>) field.getBinding()).decode(configuration, value instanceof Element ? child((Element) value, N_RESULT.last()) : value);
+                else if (value instanceof Element)
+                    value = convert(field, ((Element) value).getTextContent());
+                else
+                    value = convert(field, value);
+
+                record.values[i] = value;
+                record.originals[i] = value;
+            }
+
+            return record;
+        }
+
+        /**
+         * Convert a JSON or XML value to a field's type.
+         * <p>
+         * Documents encode timestamps in ISO 8601 format, e.g.
+         * <code>2020-01-01T10:00:00</code>, which is not accepted by
+         * {@link java.sql.Timestamp#valueOf(String)}, so the <code>T</code>
+         * separator is replaced by a space, as in JDBC escape syntax.
+         */
+        private static final Object convert(Field<?> field, Object value) {
+            DataType<?> type = field.getDataType();
+
+            if (value instanceof String && type.isTimestamp()) {
+                String string = (String) value;
+
+                if (string.length() > 10 && string.charAt(10) == 'T')
+                    value = string.substring(0, 10) + ' ' + string.substring(11);
+            }
+
+            return type.convert(value);
+        }
+
+        /**
+         * The child element of an XML record for a given field, or
+         * <code>null</code> if the element is absent, i.e. if the field's
+         * value is <code>NULL</code>.
+         */
+        private static final Element child(Element record, String name) {
+            for (Node n = record.getFirstChild(); n != null; n = n.getNextSibling())
+                if (n instanceof Element && name.equals(n.getNodeName()))
+                    return (Element) n;
+
+            return null;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.Result;
+import org.jooq.ResultCacheProvider;
+import org.jooq.Table;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An "empty" implementation that never caches any results.
+ *
+ * @author Lukas Eder
+ */
+public class NoResultCacheProvider implements ResultCacheProvider {
+
+    /**
+     * This method will always return <code>null</code>.
+     */
+    @Nullable
+    @Override
+    public final Result<?> get(String sql, List<?> columns, List<?> bindValues) {
+        return null;
+    }
+
+    /**
+     * This method has no effect.
+     */
+    @Override
+    public final void put(String sql, List<?> columns, List<?> bindValues, Collection<? extends Table<?>> tables, Result<?> result) {}
+
+    /**
+     * This method has no effect.
+     */
+    @Override
+    public final void invalidate(Collection<? extends Table<?>> tables) {}
+
+    /**
+     * This method has no effect.
+     */
+    @Override
+    public final void invalidateAll() {}
+
+    /**
+     * This method will always return <code>false</code>.
+     */
+    @Override
+    public final boolean enabled() {
+        return false;
+    }
+}
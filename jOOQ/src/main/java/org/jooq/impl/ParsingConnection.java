@@ -37,11 +37,14 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static org.jooq.conf.ParamType.INDEXED;
 import static org.jooq.impl.Tools.EMPTY_PARAM;
 import static org.jooq.impl.Tools.dataTypes;
 import static org.jooq.impl.Tools.map;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
@@ -49,6 +52,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -56,10 +60,16 @@ import org.jooq.impl.CacheType;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
 import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.QueryPart;
 import org.jooq.SQLDialect;
+import org.jooq.VisitContext;
+import org.jooq.conf.ParamType;
+import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DetachedException;
 import org.jooq.impl.DefaultRenderContext.Rendered;
+import org.jooq.impl.TranslationNormalizer.Normalized;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.DefaultConnection;
 
@@ -85,11 +95,21 @@ final class ParsingConnection extends DefaultConnection {
         final String                      output;
         final int                         bindSize;
         final Map<Integer, List<Integer>> bindMapping;
+        final Query                       query;
+        final Param<?>[]                  parsed;
+
+        /**
+         * Whether all input bind values are rendered as bind values, rather
+         * than being frozen into the {@link #output} as inline values.
+         */
+        final boolean                     complete;
 
         CacheValue(Configuration configuration, String input, Param<?>[] bindValues) {
             DSLContext ctx = configuration.dsl();
             DefaultRenderContext render = (DefaultRenderContext) ctx.renderContext();
-            render.paramType(configuration.settings().getParamType()).visit(ctx.parser().parseQuery(input, (Object[]) bindValues));
+            query = ctx.parser().parseQuery(input, (Object[]) bindValues);
+            parsed = bindValues;
+            render.paramType(configuration.settings().getParamType()).visit(query);
 
             output = render.render();
             bindSize = render.bindValues().size();
@@ -100,11 +120,12 @@ final class ParsingConnection extends DefaultConnection {
             // - Wrappings are possible
             // - Conversions are possible
             // Ideally, we should be able to maintain and extract the map directly in the DefaultRenderContext
-            // TODO: If anything goes wrong (probably because of the above), the cache must be invalid, and we must re-parse and re-render the query every time
             for (int i = 0; i < bindValues.length; i++)
                 for (int j = 0; j < render.bindValues().size(); j++)
                     if (bindValues[i] == render.bindValues().get(j))
                         bindMapping.computeIfAbsent(i, x -> new ArrayList<>()).add(j);
+
+            complete = bindMapping.size() == bindValues.length;
         }
 
         Rendered rendered(Param<?>... bindValues) {
@@ -117,27 +138,126 @@ final class ParsingConnection extends DefaultConnection {
             return new Rendered(output, new QueryPartList<>(binds), 0);
         }
 
+        /**
+         * Render the parsed query with the argument bind values inlined in
+         * place of the ones it was parsed with.
+         */
+        String inlined(Configuration configuration, Param<?>... bindValues) {
+            Map<QueryPart, Param<?>> substitutes = new IdentityHashMap<>();
+
+            for (int i = 0; i < bindValues.length; i++)
+                substitutes.put(parsed[i], bindValues[i]);
+
+            return configuration.deriveAppending(new DefaultVisitListener() {
+                @Override
+                public void visitStart(VisitContext context) {
+                    Param<?> substitute = substitutes.get(context.queryPart());
+
+                    if (substitute != null)
+                        context.queryPart(substitute);
+                }
+            }).dsl().renderInlined(query);
+        }
+
         @Override
         public String toString() {
             return output;
         }
     }
 
+    /**
+     * A {@link CacheValue} and the bind values it is rendered with.
+     */
+    private static final class Translation {
+        final CacheValue value;
+        final Param<?>[] bindValues;
+
+        Translation(CacheValue value, Param<?>[] bindValues) {
+            this.value = value;
+            this.bindValues = bindValues;
+        }
+    }
+
     static final Rendered translate(Configuration configuration, String sql, Param<?>... bindValues) {
+        Translation translation = translation(configuration, sql, bindValues);
+        Rendered result = translation.value.rendered(translation.bindValues);
+
+        log.debug("Translating to", result.sql);
+        return result;
+    }
+
+    /**
+     * Translate a static statement, inlining any bind values that may have
+     * been produced by normalisation.
+     */
+    static final String translateStatic(Configuration configuration, String sql) {
+        Translation translation = translation(configuration, sql);
+        String result = translation.bindValues.length == 0
+            ? translation.value.output
+            : translation.value.inlined(configuration, translation.bindValues);
+
+        log.debug("Translating to", result);
+        return result;
+    }
+
+    private static final Translation translation(Configuration configuration, String sql, Param<?>... bindValues) {
         log.debug("Translating from", sql);
 
-        Rendered result = Cache.run(
+        Normalized normalized = normalize(configuration, sql, nonNull(bindValues));
+        if (normalized != null) {
+            log.debug("Normalised to", normalized.sql);
+            CacheValue value = value(configuration, normalized.sql, normalized.bindValues);
+
+            // Values that the dialect inlines would be frozen into the cached
+            // SQL, so such queries can't be normalised
+            if (value.complete)
+                return new Translation(value, normalized.bindValues);
+            else
+                log.debug("Normalisation not possible", normalized.sql);
+        }
+
+        return new Translation(value(configuration, sql, bindValues), bindValues);
+    }
+
+    private static final CacheValue value(Configuration configuration, String sql, Param<?>[] bindValues) {
+        return Cache.run(
             configuration,
             () -> {
                 log.debug("Translation cache miss", sql);
-                return new CacheValue(configuration, sql, bindValues);
+                CacheValue value = new CacheValue(configuration, sql, bindValues);
+
+                if (log.isDebugEnabled()) {
+                    Object cache = configuration.data(CacheType.CACHE_PARSING_CONNECTION);
+
+                    if (cache instanceof LRUCache)
+                        log.debug("Translation cache statistics", cache);
+                }
+
+                return value;
             },
             CacheType.CACHE_PARSING_CONNECTION,
-            () -> Cache.key(sql, map(nonNull(bindValues), f -> f.getDataType()))
-        ).rendered(bindValues);
+            () -> Cache.key(sql, map(bindValues, f -> f.getDataType()))
+        );
+    }
 
-        log.debug("Translating to", result.sql);
-        return result;
+    private static final Normalized normalize(Configuration configuration, String sql, Param<?>[] bindValues) {
+        Settings settings = configuration.settings();
+
+        if (!TRUE.equals(settings.isCacheParsingConnectionNormalizeLiterals()))
+            return null;
+
+        // Bind values produced by normalisation can only be rendered as such
+        // with indexed parameters
+        ParamType paramType = settings.getParamType();
+        if (paramType != null && paramType != INDEXED)
+            return null;
+
+        return TranslationNormalizer.normalize(
+            sql,
+            bindValues,
+            true,
+            TRUE.equals(settings.isInListPadding()) ? defaultIfNull(settings.getInListPadBase(), 2) : 0
+        );
     }
 
     private static Param<?>[] nonNull(Param<?>[] bindValues) {
@@ -40,6 +40,7 @@ package org.jooq.impl;
 import static java.util.Collections.nCopies;
 import static org.jooq.impl.DSL.val;
 import static org.jooq.impl.ParsingConnection.translate;
+import static org.jooq.impl.ParsingConnection.translateStatic;
 import static org.jooq.impl.R2DBC.setParamType;
 import static org.jooq.impl.Tools.EMPTY_PARAM;
 
@@ -218,7 +219,7 @@ final class ParsingConnectionFactory implements ConnectionFactory {
 
         @Override
         public final Batch add(String sql) {
-            delegate.add(translate(configuration, sql).sql);
+            delegate.add(translateStatic(configuration, sql));
             return this;
         }
 
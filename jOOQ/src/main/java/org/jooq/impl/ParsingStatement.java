@@ -39,7 +39,7 @@ package org.jooq.impl;
 
 import static java.util.Collections.singletonList;
 import static org.jooq.impl.DSL.val;
-import static org.jooq.impl.ParsingConnection.translate;
+import static org.jooq.impl.ParsingConnection.translateStatic;
 import static org.jooq.impl.SQLDataType.NVARCHAR;
 
 import java.io.InputStream;
@@ -242,72 +242,72 @@ final class ParsingStatement implements CallableStatement {
 
     @Override
     public final ResultSet executeQuery(String sql) throws SQLException {
-        return statement.executeQuery(translate(connection.configuration, sql).sql);
+        return statement.executeQuery(translateStatic(connection.configuration, sql));
     }
 
     @Override
     public final int executeUpdate(String sql) throws SQLException {
-        return statement.executeUpdate(translate(connection.configuration, sql).sql);
+        return statement.executeUpdate(translateStatic(connection.configuration, sql));
     }
 
     @Override
     public final int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
-        return statement.executeUpdate(translate(connection.configuration, sql).sql, autoGeneratedKeys);
+        return statement.executeUpdate(translateStatic(connection.configuration, sql), autoGeneratedKeys);
     }
 
     @Override
     public final int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
-        return statement.executeUpdate(translate(connection.configuration, sql).sql, columnIndexes);
+        return statement.executeUpdate(translateStatic(connection.configuration, sql), columnIndexes);
     }
 
     @Override
     public final int executeUpdate(String sql, String[] columnNames) throws SQLException {
-        return statement.executeUpdate(translate(connection.configuration, sql).sql, columnNames);
+        return statement.executeUpdate(translateStatic(connection.configuration, sql), columnNames);
     }
 
     @Override
     public final boolean execute(String sql) throws SQLException {
-        return statement.execute(translate(connection.configuration, sql).sql);
+        return statement.execute(translateStatic(connection.configuration, sql));
     }
 
     @Override
     public final boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
-        return statement.execute(translate(connection.configuration, sql).sql, autoGeneratedKeys);
+        return statement.execute(translateStatic(connection.configuration, sql), autoGeneratedKeys);
     }
 
     @Override
     public final boolean execute(String sql, int[] columnIndexes) throws SQLException {
-        return statement.execute(translate(connection.configuration, sql).sql, columnIndexes);
+        return statement.execute(translateStatic(connection.configuration, sql), columnIndexes);
     }
 
     @Override
     public final boolean execute(String sql, String[] columnNames) throws SQLException {
-        return statement.execute(translate(connection.configuration, sql).sql, columnNames);
+        return statement.execute(translateStatic(connection.configuration, sql), columnNames);
     }
 
     @Override
     public final long executeLargeUpdate(String sql) throws SQLException {
-        return statement.executeLargeUpdate(translate(connection.configuration, sql).sql);
+        return statement.executeLargeUpdate(translateStatic(connection.configuration, sql));
     }
 
     @Override
     public final long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
-        return statement.executeLargeUpdate(translate(connection.configuration, sql).sql, autoGeneratedKeys);
+        return statement.executeLargeUpdate(translateStatic(connection.configuration, sql), autoGeneratedKeys);
     }
 
     @Override
     public final long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
-        return statement.executeLargeUpdate(translate(connection.configuration, sql).sql, columnIndexes);
+        return statement.executeLargeUpdate(translateStatic(connection.configuration, sql), columnIndexes);
     }
 
     @Override
     public final long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
-        return statement.executeLargeUpdate(translate(connection.configuration, sql).sql, columnNames);
+        return statement.executeLargeUpdate(translateStatic(connection.configuration, sql), columnNames);
     }
 
     @Override
     public final void addBatch(String sql) throws SQLException {
-        statement.addBatch(translate(connection.configuration, sql).sql);
+        statement.addBatch(translateStatic(connection.configuration, sql));
     }
 
     @Override
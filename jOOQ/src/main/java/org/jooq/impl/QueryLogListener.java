@@ -0,0 +1,539 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteType;
+import org.jooq.Param;
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.LoggerListener;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An {@link ExecuteListener} that writes a structured log of executed queries
+ * to a {@link Sink}, with a low overhead on the executing thread.
+ * <p>
+ * Unlike the {@link LoggerListener}, this listener doesn't render SQL with
+ * inlined bind values or preview results. For each logged query, it captures a
+ * compact {@link Entry} consisting of the SQL string as passed to JDBC, an
+ * identifier of the query's shape (see {@link Entry#id()}), the types of its
+ * bind values, its timings, and its row count. Entries are offered to a bounded,
+ * lock-free ring buffer, which is drained into the {@link Sink} by a single
+ * background thread. If the ring buffer is full, entries are dropped rather
+ * than blocking the executing thread.
+ * <p>
+ * To reduce the volume of the log:
+ * <ul>
+ * <li>Only a random sample of executions is logged, according to a sampling
+ * rate.</li>
+ * <li>At most a fixed number of entries per second is logged for each query
+ * shape.</li>
+ * </ul>
+ * <p>
+ * This is a stateful listener, which must be shared among query executions,
+ * and which must be {@link #close() closed} to stop its background thread:
+ * <p>
+ *
+ * <pre>
+ * <code>
+ * QueryLogListener queryLog = new QueryLogListener(entry -&gt; log.info(entry), 0.1, 10, 8192);
+ * configuration.set(queryLog);
+ * </code>
+ * </pre>
+ *
+ * @author Lukas Eder
+ */
+public class QueryLogListener extends DefaultExecuteListener implements AutoCloseable {
+
+    private static final JooqLogger              log        = JooqLogger.getLogger(QueryLogListener.class);
+
+    private static final int                     SHAPES     = 1024;
+    private static final int                     BATCH      = 256;
+    private static final long                    IDLE_NANOS = 10_000_000L;
+    private static final Class<?>[]              NO_TYPES   = new Class[0];
+
+    private final Sink                           sink;
+    private final double                         samplingRate;
+    private final int                            limit;
+    private final LRUCache<String, Shape>        shapes;
+    private final LRUCache<String, ShapeLimit>   limits;
+
+    // A multi producer, single consumer ring buffer
+    private final AtomicReferenceArray<Entry>    buffer;
+    private final int                            mask;
+    private final AtomicLong                     head;
+    private final AtomicLong                     tail;
+    private final LongAdder                      dropped;
+    private final LongAdder                      limited;
+
+    private final Thread                         drain;
+    private volatile boolean                     running;
+
+    /**
+     * Create a new listener that logs all executions.
+     */
+    public QueryLogListener(Sink sink) {
+        this(sink, 1.0, 0, 8192);
+    }
+
+    /**
+     * Create a new listener.
+     *
+     * @param sink The sink that receives entries on a background thread.
+     * @param samplingRate The fraction of executions that are logged, between
+     *            <code>0.0</code> and <code>1.0</code>.
+     * @param limit The maximum number of entries per second that are logged
+     *            for each query shape, or <code>0</code> for no limit.
+     * @param capacity The capacity of the ring buffer, which is rounded up to
+     *            the next power of two.
+     */
+    public QueryLogListener(Sink sink, double samplingRate, int limit, int capacity) {
+        if (samplingRate < 0.0 || samplingRate > 1.0)
+            throw new IllegalArgumentException("Sampling rate must be between 0.0 and 1.0: " + samplingRate);
+        if (capacity <= 0 || capacity > (1 << 30))
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+
+        this.sink = sink;
+        this.samplingRate = samplingRate;
+        this.limit = limit;
+        this.shapes = new LRUCache<>(SHAPES);
+        this.limits = limit > 0 ? new LRUCache<>(SHAPES) : null;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.head = new AtomicLong();
+        this.tail = new AtomicLong();
+        this.dropped = new LongAdder();
+        this.limited = new LongAdder();
+        this.running = true;
+        this.drain = new Thread(this::drain, "jOOQ-query-log");
+        this.drain.setDaemon(true);
+        this.drain.start();
+    }
+
+    /**
+     * The number of entries that were dropped because the ring buffer was
+     * full.
+     */
+    public final long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * The number of entries that were not logged because their query shape
+     * exceeded its limit.
+     */
+    public final long limited() {
+        return limited.sum();
+    }
+
+    /**
+     * Stop the background thread, after draining the remaining entries into
+     * the {@link Sink}.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(drain);
+
+        try {
+            drain.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: ExecuteListener API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        if (running && (samplingRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < samplingRate))
+            ctx.data(this, new long[] { System.nanoTime(), 0L, 0L });
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        Object timings = ctx.data(this);
+
+        if (timings instanceof long[])
+            ((long[]) timings)[1] = System.nanoTime();
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        Object timings = ctx.data(this);
+
+        if (timings instanceof long[])
+            ((long[]) timings)[2] = System.nanoTime();
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        Object data = ctx.data(this);
+
+        if (!(data instanceof long[]))
+            return;
+
+        long now = System.nanoTime();
+        long[] timings = (long[]) data;
+        String sql = ctx.sql();
+
+        if (sql == null)
+            return;
+
+        // Normalising is much more expensive than looking up its result
+        Shape shape = shapes.get(sql);
+        if (shape == null)
+            shapes.put(sql, shape = new Shape(TranslationNormalizer.shape(sql)));
+
+        if (limits != null) {
+            ShapeLimit l = limits.get(shape.sql);
+
+            if (l == null) {
+                ShapeLimit x = limits.putIfAbsent(shape.sql, l = new ShapeLimit());
+
+                if (x != null)
+                    l = x;
+            }
+
+            if (!l.acquire(now, limit)) {
+                limited.increment();
+                return;
+            }
+        }
+
+        // The values that were bound to the statement, without traversing the
+        // query again
+        List<Param<?>> params = ctx instanceof DefaultExecuteContext
+            ? ((DefaultExecuteContext) ctx).bindValues()
+            : null;
+        Class<?>[] bindTypes = params == null ? NO_TYPES : new Class[params.size()];
+
+        for (int i = 0; i < bindTypes.length; i++) {
+            Object value = params.get(i).getValue();
+            bindTypes[i] = value == null ? null : value.getClass();
+        }
+
+        Exception e = ctx.exception();
+        offer(new Entry(
+            System.currentTimeMillis(),
+            ctx.type(),
+            sql,
+            shape.id,
+            bindTypes,
+            timings[1] == 0L || timings[2] == 0L ? -1L : timings[2] - timings[1],
+            now - timings[0],
+            ctx.rows(),
+            e == null ? null : e.getClass()
+        ));
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Ring buffer
+    // -------------------------------------------------------------------------
+
+    private final void offer(Entry entry) {
+        for (;;) {
+            long t = tail.get();
+
+            if (t - head.get() >= buffer.length()) {
+                dropped.increment();
+                return;
+            }
+
+            // The slot is published only after it has been claimed, so the
+            // consumer may briefly see it empty
+            if (tail.compareAndSet(t, t + 1)) {
+                buffer.lazySet((int) (t & mask), entry);
+                return;
+            }
+        }
+    }
+
+    private final Entry poll() {
+        long h = head.get();
+        int i = (int) (h & mask);
+        Entry entry = buffer.get(i);
+
+        if (entry != null) {
+            buffer.lazySet(i, null);
+            head.lazySet(h + 1);
+        }
+
+        return entry;
+    }
+
+    private final void drain() {
+        for (;;) {
+            int drained = 0;
+
+            for (Entry entry; drained < BATCH && (entry = poll()) != null; drained++) {
+                try {
+                    sink.write(entry);
+                }
+                catch (RuntimeException e) {
+                    log.warn("Cannot write query log entry", e);
+                }
+            }
+
+            if (drained > 0) {
+                try {
+                    sink.flush();
+                }
+                catch (RuntimeException e) {
+                    log.warn("Cannot flush query log", e);
+                }
+            }
+            else if (running)
+                LockSupport.parkNanos(this, IDLE_NANOS);
+
+            // Claimed slots may not yet have been published when closing
+            else if (head.get() == tail.get())
+                return;
+            else
+                Thread.yield();
+        }
+    }
+
+    /**
+     * A normalised SQL string, in which literals are replaced by bind markers.
+     */
+    private static final class Shape {
+        final String sql;
+        final long   id;
+
+        Shape(String sql) {
+            long h = 0xcbf29ce484222325L;
+
+            for (int i = 0; i < sql.length(); i++) {
+                h ^= sql.charAt(i);
+                h *= 0x100000001b3L;
+            }
+
+            this.sql = sql;
+            this.id = h;
+        }
+    }
+
+    private static final class ShapeLimit {
+
+        // Racy writes are acceptable, this is only an approximation
+        volatile long       second;
+        final AtomicInteger count = new AtomicInteger();
+
+        final boolean acquire(long now, int limit) {
+            long s = now / 1_000_000_000L;
+
+            if (second != s) {
+                second = s;
+                count.set(0);
+            }
+
+            return count.incrementAndGet() <= limit;
+        }
+    }
+
+    /**
+     * A consumer of {@link QueryLogListener} entries.
+     * <p>
+     * All methods are called on the listener's single background thread.
+     */
+    @FunctionalInterface
+    public interface Sink {
+
+        /**
+         * Write an entry.
+         */
+        void write(Entry entry);
+
+        /**
+         * Flush any buffered entries, after a batch of entries has been
+         * written.
+         */
+        default void flush() {}
+    }
+
+    /**
+     * An entry of a {@link QueryLogListener}.
+     */
+    public static final class Entry {
+        private final long                       timestamp;
+        private final ExecuteType                type;
+        private final String                     sql;
+        private final long                       id;
+        private final Class<?>[]                 bindTypes;
+        private final long                       executionNanos;
+        private final long                       totalNanos;
+        private final int                        rows;
+        private final Class<? extends Exception> exception;
+
+        Entry(
+            long timestamp,
+            ExecuteType type,
+            String sql,
+            long id,
+            Class<?>[] bindTypes,
+            long executionNanos,
+            long totalNanos,
+            int rows,
+            Class<? extends Exception> exception
+        ) {
+            this.timestamp = timestamp;
+            this.type = type;
+            this.sql = sql;
+            this.id = id;
+            this.bindTypes = bindTypes;
+            this.executionNanos = executionNanos;
+            this.totalNanos = totalNanos;
+            this.rows = rows;
+            this.exception = exception;
+        }
+
+        /**
+         * A 64 bit FNV-1a hash of the query's shape, i.e. of {@link #sql()}
+         * with its literals replaced by bind markers, and its <code>IN</code>
+         * lists padded to the next power of two, such that executions with
+         * inlined values share an id.
+         */
+        public long id() {
+            return id;
+        }
+
+        /**
+         * The time when the execution ended.
+         */
+        @NotNull
+        public Instant timestamp() {
+            return Instant.ofEpochMilli(timestamp);
+        }
+
+        /**
+         * The type of execution.
+         */
+        @NotNull
+        public ExecuteType type() {
+            return type;
+        }
+
+        /**
+         * The SQL string as passed to JDBC.
+         */
+        @NotNull
+        public String sql() {
+            return sql;
+        }
+
+        /**
+         * The types of the bind values, containing <code>null</code> for
+         * <code>null</code> bind values.
+         */
+        @NotNull
+        public Class<?>[] bindTypes() {
+            return bindTypes.clone();
+        }
+
+        /**
+         * The time in nanoseconds spent in JDBC's execution methods, or
+         * <code>-1</code> if the statement wasn't executed.
+         */
+        public long executionNanos() {
+            return executionNanos;
+        }
+
+        /**
+         * The time in nanoseconds between the start and the end of the
+         * execution, including rendering, binding, and fetching.
+         */
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * The number of affected or fetched rows, or <code>-1</code> if
+         * unknown.
+         */
+        public int rows() {
+            return rows;
+        }
+
+        /**
+         * The type of exception that was thrown, if any.
+         */
+        @Nullable
+        public Class<? extends Exception> exception() {
+            return exception;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder()
+                .append("id=").append(Long.toHexString(id()))
+                .append(" type=").append(type)
+                .append(" execution=").append(executionNanos < 0L ? "-" : (executionNanos / 1000L) + "us")
+                .append(" total=").append(totalNanos / 1000L).append("us")
+                .append(" rows=").append(rows)
+                .append(" binds=[");
+
+            for (int i = 0; i < bindTypes.length; i++)
+                sb.append(i > 0 ? "," : "").append(bindTypes[i] == null ? "null" : bindTypes[i].getSimpleName());
+
+            sb.append(']');
+
+            if (exception != null)
+                sb.append(" exception=").append(exception.getName());
+
+            return sb.append(" sql=").append(sql).toString();
+        }
+    }
+}
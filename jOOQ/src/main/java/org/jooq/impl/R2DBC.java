@@ -67,6 +67,7 @@ import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -91,6 +92,7 @@ import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DataTypeException;
+import org.jooq.exception.QueryTimeoutException;
 import org.jooq.impl.DefaultRenderContext.Rendered;
 import org.jooq.impl.ThreadGuard.Guard;
 import org.jooq.tools.Convert;
@@ -187,12 +189,16 @@ final class R2DBC {
             return !completed.get() && requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : Math.max(0, l - 1)) > 0;
         }
 
-        final void complete(boolean cancelled) {
+        final boolean complete(boolean cancelled) {
 
             // required_spec306_afterSubscriptionIsCancelledRequestMustBeNops
             // required_spec307_afterSubscriptionIsCancelledAdditionalCancelationsMustBeNops
-            if (!completed.getAndSet(true))
+            if (!completed.getAndSet(true)) {
                 cancel0(cancelled);
+                return true;
+            }
+
+            return false;
         }
 
         abstract void request0();
@@ -510,6 +516,8 @@ final class R2DBC {
         final Publisher<? extends Connection>       connection;
         final AtomicInteger                         nextForwarderIndex;
         final ConcurrentMap<Integer, Forwarding<T>> forwarders;
+        final Long                                  deadline;
+        volatile ScheduledFuture<?>                 timeout;
 
         AbstractNonBlockingSubscription(
             Configuration configuration,
@@ -521,14 +529,25 @@ final class R2DBC {
             this.connection = configuration.connectionFactory().create();
             this.nextForwarderIndex = new AtomicInteger();
             this.forwarders = new ConcurrentHashMap<>();
+            this.deadline = Deadline.current();
         }
 
         @Override
         final void request0() {
 
             // Lazy execution of the query
-            if (!subscribed.getAndSet(true))
+            if (!subscribed.getAndSet(true)) {
+                if (deadline != null) {
+                    if (deadline - System.nanoTime() <= 0) {
+                        expire();
+                        return;
+                    }
+
+                    timeout = Deadline.schedule(deadline, this::expire);
+                }
+
                 connection.subscribe(delegate());
+            }
 
             // Forwarders all forward to the same downstream and are not
             // expected to be contained in the map at the same time.
@@ -545,8 +564,21 @@ final class R2DBC {
                 s.request(1);
         }
 
+        /**
+         * Cancel the subscription when the {@link Deadline} expires, closing
+         * the connection.
+         */
+        final void expire() {
+            if (complete(true))
+                subscriber.onError(new QueryTimeoutException("Deadline expired"));
+        }
+
         @Override
         final void cancel0(boolean cancelled) {
+            ScheduledFuture<?> f = timeout;
+            if (f != null)
+                f.cancel(false);
+
             delegate().connection.updateAndGet(c -> {
 
                 // close() calls on already closed resources have no effect, so
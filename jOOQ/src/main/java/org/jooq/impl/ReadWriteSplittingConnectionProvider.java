@@ -0,0 +1,222 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_READ_ONLY_QUERY;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.sql.DataSource;
+
+import org.jooq.ConnectionProvider;
+import org.jooq.ExecuteContext;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.JooqLogger;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link ConnectionProvider} that routes read-only queries to read replicas,
+ * and everything else to a primary database.
+ * <p>
+ * When jOOQ executes a query outside of a transaction, it acquires a
+ * connection from this provider for that query only. If the query is a
+ * <code>SELECT</code> statement that doesn't lock any rows (e.g. using
+ * <code>FOR UPDATE</code>), create any tables (using <code>INTO</code>), or
+ * contain any sequence calls, stored function calls, or plain SQL, the
+ * connection is obtained from one of the replica {@link DataSource}s,
+ * which are picked at random, according to their weights. All other
+ * connections, including the ones acquired by a
+ * {@link org.jooq.TransactionProvider} for the duration of a transaction, and
+ * the ones acquired for plain SQL queries, batches, and routines, are obtained
+ * from the primary {@link DataSource}.
+ * <p>
+ * Replicas may lag behind the primary. To allow a thread to read its own
+ * writes, all of its reads are routed to the primary as well during a
+ * configurable window after it has released a primary connection that may
+ * have been written to. If a replica connection cannot be obtained, the
+ * primary is used instead.
+ *
+ * @author Lukas Eder
+ */
+public class ReadWriteSplittingConnectionProvider implements ConnectionProvider {
+
+    private static final JooqLogger log = JooqLogger.getLogger(ReadWriteSplittingConnectionProvider.class);
+
+    private final DataSource        primary;
+    private final DataSource[]      replicas;
+    private final int[]             weights;
+    private final long              window;
+    private final Set<Connection>   writes;
+    private final ThreadLocal<Long> lastWrite;
+
+    /**
+     * Create a new provider with equally weighted replicas and no
+     * read-your-writes window.
+     */
+    public ReadWriteSplittingConnectionProvider(DataSource primary, DataSource... replicas) {
+        this(primary, weights(replicas), Duration.ZERO);
+    }
+
+    /**
+     * Create a new provider.
+     *
+     * @param primary The primary {@link DataSource}.
+     * @param replicas The replica {@link DataSource}s and their relative
+     *            weights.
+     * @param readYourWritesWindow The duration after a write during which the
+     *            writing thread's reads are routed to the primary.
+     */
+    public ReadWriteSplittingConnectionProvider(DataSource primary, Map<? extends DataSource, Integer> replicas, Duration readYourWritesWindow) {
+        this.primary = primary;
+        this.replicas = new DataSource[replicas.size()];
+        this.weights = new int[replicas.size()];
+        this.window = readYourWritesWindow.toNanos();
+        this.writes = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        this.lastWrite = new ThreadLocal<>();
+
+        int i = 0;
+        int sum = 0;
+        for (Entry<? extends DataSource, Integer> e : replicas.entrySet()) {
+            if (e.getValue() <= 0)
+                throw new IllegalArgumentException("Replica weights must be positive: " + e.getValue());
+
+            this.replicas[i] = e.getKey();
+            this.weights[i++] = sum += e.getValue();
+        }
+    }
+
+    private static final Map<DataSource, Integer> weights(DataSource... replicas) {
+        Map<DataSource, Integer> result = new LinkedHashMap<>();
+
+        for (DataSource replica : replicas)
+            result.put(replica, 1);
+
+        return result;
+    }
+
+    @NotNull
+    public DataSource primary() {
+        return primary;
+    }
+
+    @NotNull
+    public DataSource[] replicas() {
+        return replicas.clone();
+    }
+
+    /**
+     * Acquire a connection from a replica {@link DataSource} if the
+     * {@link ExecuteContext} acquiring it executes a read-only query, or from
+     * the primary {@link DataSource} otherwise.
+     * <p>
+     * The primary is also used whenever jOOQ doesn't acquire a connection for
+     * a specific query, e.g. at the beginning of a transaction.
+     */
+    @NotNull
+    @Override
+    public Connection acquire() {
+        ExecuteContext ctx = DefaultExecuteContext.localAcquiringContext();
+
+        // Sequences, stored functions, and plain SQL may write
+        if (ctx == null || !TRUE.equals(ctx.data(DATA_READ_ONLY_QUERY)))
+            return write(primary());
+
+        // Read your own writes until the replicas have likely caught up
+        Long last = lastWrite.get();
+        if (replicas.length == 0 || last != null && System.nanoTime() - last < window)
+            return connection(primary());
+
+        DataSource replica = replica();
+        try {
+            return replica.getConnection();
+        }
+        catch (SQLException e) {
+            log.warn("Replica unavailable", "Falling back to primary after error getting connection from replica " + replica + ": " + e.getMessage());
+            return connection(primary());
+        }
+    }
+
+    @Override
+    public void release(Connection connection) {
+        try {
+            if (writes.remove(connection) && window > 0)
+                lastWrite.set(System.nanoTime());
+
+            connection.close();
+        }
+        catch (SQLException e) {
+            throw new DataAccessException("Error closing connection " + connection, e);
+        }
+    }
+
+    private final DataSource replica() {
+        if (replicas.length == 1)
+            return replicas[0];
+
+        int r = ThreadLocalRandom.current().nextInt(weights[weights.length - 1]);
+        int i = Arrays.binarySearch(weights, r + 1);
+        return replicas[i >= 0 ? i : -i - 1];
+    }
+
+    private final Connection write(DataSource dataSource) {
+        Connection result = connection(dataSource);
+        writes.add(result);
+        return result;
+    }
+
+    private static final Connection connection(DataSource dataSource) {
+        try {
+            return dataSource.getConnection();
+        }
+        catch (SQLException e) {
+            throw new DataAccessException("Error getting connection from data source " + dataSource, e);
+        }
+    }
+}
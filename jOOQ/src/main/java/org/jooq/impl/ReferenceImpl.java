@@ -41,12 +41,17 @@ import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.Tools.filterOne;
 import static org.jooq.impl.Tools.first;
 import static org.jooq.impl.Tools.list;
+import static org.jooq.impl.Tools.fetchByValues;
 import static org.jooq.impl.Tools.map;
+import static org.jooq.impl.Tools.valuesKey;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jooq.ConstraintEnforcementStep;
 import org.jooq.DSLContext;
@@ -60,6 +65,7 @@ import org.jooq.Table;
 import org.jooq.TableField;
 import org.jooq.UniqueKey;
 import org.jooq.exception.DetachedException;
+import org.jooq.impl.TableRecordImpl.Prefetched;
 
 /**
  * @author Lukas Eder
@@ -91,9 +97,15 @@ final class ReferenceImpl<R extends Record, O extends Record> extends AbstractKe
         return ukFields;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public final O fetchParent(R record) {
-        return filterOne(fetchParents(record));
+        Prefetched prefetched = prefetched(record, true);
+
+        if (prefetched != null)
+            return (O) prefetched.value;
+        else
+            return filterOne(fetchParents(record));
     }
 
     @Override
@@ -107,12 +119,41 @@ final class ReferenceImpl<R extends Record, O extends Record> extends AbstractKe
         if (records == null || records.size() == 0)
             return new ResultImpl<>(new DefaultConfiguration(), uk.getFields());
         else
-            return extractDSLContext(records).selectFrom(parents(records)).fetch();
+            return fetch(records, uk.getTable(), truncate(ukFields, getFieldsArray()), truncate(getFieldsArray(), ukFields));
+    }
+
+    @Override
+    public final Result<O> prefetchParents(Collection<? extends R> records) {
+        Result<O> result = fetchParents(records);
+
+        if (records != null) {
+            TableField<R, ?>[] f1 = truncate(getFieldsArray(), ukFields);
+            TableField<O, ?>[] f2 = truncate(ukFields, getFieldsArray());
+            Map<List<Object>, O> parents = new HashMap<>();
+
+            for (O parent : result)
+                parents.put(key(parent, f2), parent);
+
+            for (R record : records) {
+                if (record instanceof TableRecordImpl) {
+                    List<Object> key = key(record, f1);
+                    ((TableRecordImpl<?>) record).prefetchedParents().put(this, new Prefetched(key, parents.get(key)));
+                }
+            }
+        }
+
+        return result;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public final Result<R> fetchChildren(O record) {
-        return fetchChildren(list(record));
+        Prefetched prefetched = prefetched(record, false);
+
+        if (prefetched != null)
+            return (Result<R>) prefetched.value;
+        else
+            return fetchChildren(list(record));
     }
 
     @Override
@@ -126,7 +167,103 @@ final class ReferenceImpl<R extends Record, O extends Record> extends AbstractKe
         if (records == null || records.size() == 0)
             return new ResultImpl<>(new DefaultConfiguration(), getFields());
         else
-            return extractDSLContext(records).selectFrom(children(records)).fetch();
+            return fetch(records, getTable(), truncate(getFieldsArray(), ukFields), truncate(ukFields, getFieldsArray()));
+    }
+
+    @Override
+    public final Result<R> prefetchChildren(Collection<? extends O> records) {
+        Result<R> result = fetchChildren(records);
+
+        if (records != null && !records.isEmpty()) {
+            DSLContext ctx = extractDSLContext(records);
+            TableField<R, ?>[] f1 = truncate(getFieldsArray(), ukFields);
+            TableField<O, ?>[] f2 = truncate(ukFields, getFieldsArray());
+            Map<List<Object>, Result<R>> children = new HashMap<>();
+
+            for (R child : result)
+                children.computeIfAbsent(key(child, f1), k -> ctx.newResult(getTable())).add(child);
+
+            for (O record : records) {
+                if (record instanceof TableRecordImpl) {
+                    List<Object> key = key(record, f2);
+                    Result<R> c = children.get(key);
+                    ((TableRecordImpl<?>) record).prefetchedChildren().put(this, new Prefetched(key, c != null ? c : ctx.newResult(getTable())));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Get a prefetched parent or result of children, if they were prefetched
+     * for the record's current key values.
+     */
+    private final Prefetched prefetched(Record record, boolean parent) {
+        if (record instanceof TableRecordImpl) {
+            TableRecordImpl<?> r = (TableRecordImpl<?>) record;
+            Map<ForeignKey<?, ?>, Prefetched> map = parent ? r.prefetchedParents : r.prefetchedChildren;
+            Prefetched prefetched;
+
+            if (map != null && (prefetched = map.get(this)) != null) {
+                TableField<?, ?>[] fields = parent
+                    ? truncate(getFieldsArray(), ukFields)
+                    : truncate(ukFields, getFieldsArray());
+
+                if (prefetched.values.equals(key(record, fields)))
+                    return prefetched;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the values of a record's foreign key or referenced key fields, for
+     * matching parents and children.
+     * <p>
+     * Both sides are converted to the referenced key's data types, as the
+     * foreign key may be declared with different (e.g. wider) types, in case
+     * of which the raw values wouldn't be equal.
+     */
+    private final List<Object> key(Record record, TableField<?, ?>[] fields) {
+        TableField<O, ?>[] types = truncate(ukFields, fields);
+        Object[] values = values(record, fields);
+
+        for (int i = 0; i < values.length; i++)
+            values[i] = types[i].getDataType().convert(values[i]);
+
+        return valuesKey(values);
+    }
+
+    /**
+     * Fetch the records from a table whose fields match the values of the
+     * other fields in a set of records, in chunks.
+     */
+    private static <R1 extends Record> Result<R1> fetch(
+        Collection<? extends Record> records,
+        Table<R1> table,
+        TableField<R1, ?>[] fields1,
+        TableField<?, ?>[] fields2
+    ) {
+        Map<List<Object>, Object[]> values = new LinkedHashMap<>();
+
+        for (Record record : records) {
+            Object[] v = values(record, fields2);
+
+            // NULL values never match any records
+            if (!Arrays.asList(v).contains(null))
+                values.putIfAbsent(valuesKey(v), v);
+        }
+
+        if (values.isEmpty())
+            return extractDSLContext(records).newResult(table);
+        else
+            return fetchByValues(extractDSLContext(records), table, fields1, values.values());
+    }
+
+    private static Object[] values(Record record, TableField<?, ?>[] fields) {
+        return map(fields, f -> record.get(f), Object[]::new);
     }
 
     @Override
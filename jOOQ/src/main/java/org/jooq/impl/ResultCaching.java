@@ -0,0 +1,285 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.traverseJoins;
+import static org.jooq.impl.Tools.DataKey.DATA_RESULT_CACHE_INVALIDATIONS;
+import static org.jooq.impl.Tools.unalias;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.QueryPart;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultCacheProvider;
+import org.jooq.Routine;
+import org.jooq.SQL;
+import org.jooq.Sequence;
+import org.jooq.Table;
+import org.jooq.TransactionContext;
+import org.jooq.TransactionListener;
+import org.jooq.VisitContext;
+import org.jooq.impl.DefaultRenderContext.Rendered;
+
+/**
+ * Utilities shared by queries that read from or invalidate a
+ * {@link org.jooq.ResultCacheProvider}.
+ *
+ * @author Lukas Eder
+ */
+final class ResultCaching {
+
+    /**
+     * A description of the columns projected by a query, used as a part of the
+     * cache key.
+     * <p>
+     * Each column is described by its name, its type, and its
+     * {@link org.jooq.Binding}, which includes its converter. Bindings are
+     * compared by identity, so ad-hoc converters (e.g. from
+     * {@link Field#convertFrom(java.util.function.Function)}) are never
+     * confused with one another, though they prevent caching.
+     */
+    static final List<Object> columns(Field<?>[] fields) {
+        List<Object> result = new ArrayList<>(fields.length * 3);
+
+        for (Field<?> field : fields) {
+            result.add(field.getName());
+            result.add(field.getType());
+            result.add(field.getDataType().getBinding());
+        }
+
+        return result;
+    }
+
+    /**
+     * The bind values of a rendered query, used as a part of the cache key.
+     */
+    static final List<Object> bindValues(Rendered rendered) {
+        if (rendered.bindValues == null)
+            return Collections.emptyList();
+
+        List<Object> result = new ArrayList<>(rendered.bindValues.size());
+        for (Param<?> param : rendered.bindValues)
+            result.add(param.getValue());
+
+        return result;
+    }
+
+    /**
+     * The tables referenced by a query part, or <code>null</code> if they
+     * cannot be known.
+     * <p>
+     * This is the case when the query part contains plain SQL, which may
+     * reference any table, or when it calls sequences or stored functions,
+     * whose results must not be cached.
+     */
+    static final Set<Table<?>> tables(Configuration configuration, QueryPart part) {
+        Set<Table<?>> result = new LinkedHashSet<>();
+        return visit(configuration, part, result) || result.isEmpty() ? null : result;
+    }
+
+    private static final boolean visit(Configuration configuration, QueryPart part, Set<Table<?>> tables) {
+        boolean[] opaque = { false };
+
+        Configuration c = configuration.deriveAppending(new DefaultVisitListener() {
+            @Override
+            public void visitStart(VisitContext context) {
+                QueryPart p = context.queryPart();
+
+                if (p instanceof TableImpl) {
+                    tables.add(unalias((Table<?>) p));
+                }
+                else if (p instanceof SQL || p instanceof Sequence || p instanceof Routine || p instanceof AbstractRoutine.RoutineField)
+                    opaque[0] = true;
+            }
+        });
+
+        new DefaultRenderContext(c).visit(part);
+        return opaque[0];
+    }
+
+    /**
+     * Invalidate the cached results that reference a table modified by a DML
+     * statement, or all cached results, if the table is not known.
+     */
+    static final void invalidate(Configuration configuration, Table<?> table) {
+        ResultCacheProvider cache = configuration.resultCacheProvider();
+
+        if (cache.enabled()) {
+            Set<Table<?>> tables = new LinkedHashSet<>();
+            traverseJoins(table, t -> tables.add(unalias(t)));
+
+            for (Table<?> t : tables) {
+                if (!(t instanceof TableImpl)) {
+                    invalidateAll(configuration);
+                    return;
+                }
+            }
+
+            cache.invalidate(tables);
+
+            Invalidations invalidations = invalidations(configuration);
+            if (invalidations != null)
+                invalidations.tables.addAll(tables);
+        }
+    }
+
+    /**
+     * Invalidate all cached results.
+     */
+    static final void invalidateAll(Configuration configuration) {
+        ResultCacheProvider cache = configuration.resultCacheProvider();
+
+        if (cache.enabled()) {
+            cache.invalidateAll();
+
+            Invalidations invalidations = invalidations(configuration);
+            if (invalidations != null)
+                invalidations.all = true;
+        }
+    }
+
+    /**
+     * Invalidate the cached results that may have been affected by a query
+     * that was executed in a batch.
+     */
+    static final void invalidate(Configuration configuration, Query query) {
+        if (query instanceof AbstractDelegatingQuery)
+            query = ((AbstractDelegatingQuery<?, ?>) query).getDelegate();
+
+        if (query instanceof AbstractQuery)
+            ((AbstractQuery<?>) query).invalidateCachedResults(configuration);
+        else
+            invalidateAll(configuration);
+    }
+
+    /**
+     * A {@link TransactionListener} that invalidates the cached results that
+     * were invalidated within a transaction again, once it commits, or
+     * <code>null</code> if results aren't cached.
+     * <p>
+     * Until then, concurrent readers outside of the transaction may still
+     * read and cache the previously committed rows.
+     */
+    static final TransactionListener transactionListener(Configuration configuration) {
+        return configuration.resultCacheProvider().enabled() ? INVALIDATE_ON_COMMIT : null;
+    }
+
+    private static final TransactionListener INVALIDATE_ON_COMMIT = new DefaultTransactionListener() {
+        @Override
+        public void beginStart(TransactionContext ctx) {
+
+            // Nested transactions share the invalidations of their top-level
+            // transaction, whose data they inherit
+            if (invalidations(ctx.configuration()) == null)
+                ctx.configuration().data(DATA_RESULT_CACHE_INVALIDATIONS, new Invalidations(ctx));
+        }
+
+        @Override
+        public void commitEnd(TransactionContext ctx) {
+            Invalidations invalidations = invalidations(ctx.configuration());
+
+            if (invalidations != null && invalidations.transaction == ctx)
+                invalidations.invalidate(ctx.configuration().resultCacheProvider());
+        }
+    };
+
+    private static final Invalidations invalidations(Configuration configuration) {
+        return (Invalidations) configuration.data(DATA_RESULT_CACHE_INVALIDATIONS);
+    }
+
+    /**
+     * The cached results that were invalidated within a top-level transaction.
+     */
+    private static final class Invalidations {
+        final TransactionContext transaction;
+        final Set<Table<?>>      tables;
+        volatile boolean         all;
+
+        Invalidations(TransactionContext transaction) {
+            this.transaction = transaction;
+            this.tables = ConcurrentHashMap.newKeySet();
+        }
+
+        final void invalidate(ResultCacheProvider cache) {
+            if (all)
+                cache.invalidateAll();
+            else if (!tables.isEmpty())
+                cache.invalidate(tables);
+        }
+    }
+
+    /**
+     * Copy a result and its records into a result of the argument fields,
+     * attaching the copies to a configuration.
+     * <p>
+     * Cached results are shared between threads, so they are never handed out
+     * directly. Clients may modify the records they fetch.
+     */
+    @SuppressWarnings("unchecked")
+    static final <R extends Record> Result<R> copy(Configuration configuration, Result<?> source, Field<?>[] fields, Class<? extends R> type) {
+        AbstractRow<R> row = (AbstractRow<R>) Tools.row0(fields);
+        Result<R> result = new ResultImpl<>(configuration, row);
+        RecordDelegate<AbstractRecord> delegate = Tools.newRecord(true, (Supplier<AbstractRecord>) Tools.recordFactory(type, row), configuration);
+
+        for (Record record : source) {
+            AbstractRecord s = (AbstractRecord) record;
+
+            result.add((R) delegate.operate(r -> {
+                System.arraycopy(s.values, 0, r.values, 0, r.values.length);
+                System.arraycopy(s.originals, 0, r.originals, 0, r.originals.length);
+                r.changed.or(s.changed);
+                return r;
+            }));
+        }
+
+        return result;
+    }
+
+    private ResultCaching() {}
+}
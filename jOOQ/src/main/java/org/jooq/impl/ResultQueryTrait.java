@@ -284,7 +284,7 @@ interface ResultQueryTrait<R extends Record> extends QueryPartInternal, ResultQu
 
     @Override
     default CompletionStage<Result<R>> fetchAsync(Executor executor) {
-        return ExecutorProviderCompletionStage.of(CompletableFuture.supplyAsync(blocking(this::fetch), executor), () -> executor);
+        return ExecutorProviderCompletionStage.of(CompletableFuture.supplyAsync(blocking(Deadline.propagate(this::fetch)), executor), () -> executor);
     }
 
     @Override
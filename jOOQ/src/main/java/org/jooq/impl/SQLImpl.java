@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 import static org.jooq.Clause.TEMPLATE;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_RENDERED_OPAQUE;
 
 import java.util.List;
 
@@ -58,6 +59,7 @@ final class SQLImpl extends AbstractQueryPart implements SQL {
 
     @Override
     public final void accept(Context<?> ctx) {
+        ctx.data(DATA_RENDERED_OPAQUE, true);
         Tools.renderAndBind(ctx, sql, substitutes);
     }
 
@@ -81,6 +81,11 @@ final class SQLResultQuery extends AbstractResultQuery<Record> {
         return null;
     }
 
+    @Override
+    final boolean isCacheable() {
+        return false;
+    }
+
     @Override
     public final Class<? extends Record> getRecordType0() {
         return RecordImplN.class;
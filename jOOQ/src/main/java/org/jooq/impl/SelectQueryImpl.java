@@ -255,6 +255,7 @@ import org.jooq.QualifiedAsterisk;
 import org.jooq.QueryPart;
 import org.jooq.Record;
 import org.jooq.Row;
+import org.jooq.SQL;
 import org.jooq.SQLDialect;
 import org.jooq.Select;
 import org.jooq.SelectFieldOrAsterisk;
@@ -271,6 +272,7 @@ import org.jooq.TableOnStep;
 import org.jooq.TableOptionalOnStep;
 import org.jooq.TablePartitionByStep;
 // ...
+import org.jooq.VisitContext;
 import org.jooq.WindowDefinition;
 import org.jooq.XML;
 import org.jooq.exception.DataAccessException;
@@ -3863,6 +3865,104 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
         return (unionOp.size() == 0) ? limit : unionLimit;
     }
 
+    @Override
+    final boolean isReadOnly() {
+
+        // Locking clauses and SELECT INTO have side effects
+        return forLock == null && intoTable == null;
+    }
+
+    @Override
+    final boolean isCacheable() {
+        return super.isCacheable() && isReadOnly();
+    }
+
+    @Override
+    final Field<?>[] getCacheableFields() {
+        List<Field<?>> fields = getSelect();
+
+        // Without an explicit projection, fields are created from the result
+        // set meta data
+        return fields.isEmpty() ? null : fieldArray(fields);
+    }
+
+    @Override
+    final boolean isModifying() {
+        return intoTable != null;
+    }
+
+    /**
+     * Whether the projection of this query can be replaced by an aggregate
+     * function of its columns, which then aggregates exactly the rows that
+     * this query would otherwise produce.
+     */
+    final boolean isAggregatable(Configuration configuration) {
+        if (with != null
+            || distinct
+            || !Tools.isEmpty(distinctOn)
+            || grouping
+            || !Tools.isEmpty(groupBy)
+            || having.hasWhere()
+            || !Tools.isEmpty(window)
+            || qualify.hasWhere()
+            || limit.isApplicable()
+            || !union.isEmpty()
+            || !seek.isEmpty()
+            || forLock != null
+            || intoTable != null)
+            return false;
+
+        for (Field<?> f : getSelect())
+            if (containsAggregateOrWindowFunction(configuration, unalias(f)))
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Whether a field is or contains an aggregate or window function, outside
+     * of nested subqueries. Plain SQL may contain either.
+     */
+    private static final boolean containsAggregateOrWindowFunction(Configuration configuration, Field<?> field) {
+        boolean[] result = { false };
+        int[] subqueries = { 0 };
+
+        Configuration c = configuration.deriveAppending(new DefaultVisitListener() {
+            @Override
+            public void visitStart(VisitContext context) {
+                QueryPart p = context.queryPart();
+
+                if (p instanceof Select)
+                    subqueries[0]++;
+                else if (subqueries[0] == 0 && (p instanceof AbstractWindowFunction || p instanceof SQL))
+                    result[0] = true;
+            }
+
+            @Override
+            public void visitEnd(VisitContext context) {
+                if (context.queryPart() instanceof Select)
+                    subqueries[0]--;
+            }
+        });
+
+        new DefaultRenderContext(c).visit(field);
+        return result[0];
+    }
+
+    /**
+     * Copy this query, replacing its projection by a single field, and
+     * removing its <code>ORDER BY</code> clause.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    final SelectQueryImpl<Record> copyWithProjection(Field<?> field) {
+        return (SelectQueryImpl) copy(c -> {
+            c.select.clear();
+            c.select.add(field);
+            c.orderBy.clear();
+            return c;
+        });
+    }
+
     final SortFieldList getNonEmptyOrderBy(Configuration configuration) {
         if (getOrderBy().isEmpty()) {
             SortFieldList result = new SortFieldList();
@@ -56,6 +56,7 @@ import static org.jooq.impl.Names.N_CURRVAL;
 import static org.jooq.impl.Names.N_GENERATE_SERIES;
 import static org.jooq.impl.Names.N_GEN_ID;
 import static org.jooq.impl.Names.N_NEXTVAL;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_RENDERED_OPAQUE;
 
 import org.jooq.Catalog;
 import org.jooq.Clause;
@@ -215,6 +216,9 @@ public class SequenceImpl<T extends Number> extends AbstractTypedNamed<T> implem
 
         @Override
         public final void accept(Context<?> ctx) {
+            if (method == SequenceMethod.NEXTVAL)
+                ctx.data(DATA_RENDERED_OPAQUE, true);
+
             Configuration configuration = ctx.configuration();
             SQLDialect family = configuration.family();
 
@@ -0,0 +1,337 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Collections.emptyList;
+import static org.jooq.impl.Tools.DataKey.DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.ExecuteType;
+import org.jooq.Explain;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.ResultQuery;
+import org.jooq.tools.JooqLogger;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An {@link ExecuteListener} that captures queries exceeding a threshold,
+ * along with their execution plans.
+ * <p>
+ * When the time between {@link #executeStart(ExecuteContext)} and
+ * {@link #end(ExecuteContext)} (including fetching) of a query exceeds the
+ * threshold, its SQL string and bind values are captured. If the query is a
+ * {@link ExecuteType#READ}, {@link org.jooq.DSLContext#explain(Query)} is run
+ * for the captured SQL string and bind values asynchronously on a separate
+ * connection, using the {@link Configuration#executorProvider()}. Other
+ * queries are not explained, as some dialects execute the explained
+ * statement.
+ * The captured queries are stored in a bounded ring buffer, overwriting the
+ * oldest ones, and can be retrieved using {@link #slowQueries()} or
+ * {@link #dump()}.
+ * <p>
+ * Execution plans are collected from connections of the supplied
+ * {@link ConnectionProvider}, or if none was supplied, from the executing
+ * {@link Configuration#connectionProvider()}, unless that provides a single
+ * connection (e.g. in a transaction), which must not be used concurrently. In
+ * that case, no plan is collected.
+ * <p>
+ * This is a stateful listener, which must be shared among query executions:
+ * <p>
+ *
+ * <pre>
+ * <code>
+ * SlowQueryListener slow = new SlowQueryListener(Duration.ofSeconds(1));
+ * configuration.set(slow);
+ * </code>
+ * </pre>
+ *
+ * @author Lukas Eder
+ */
+public class SlowQueryListener extends DefaultExecuteListener {
+
+    private static final JooqLogger                log = JooqLogger.getLogger(SlowQueryListener.class);
+
+    private final long                             threshold;
+    private final ConnectionProvider               connectionProvider;
+    private final AtomicReferenceArray<SlowQuery>  buffer;
+    private final AtomicLong                       next;
+
+    /**
+     * Create a new listener that retains the last 100 slow queries.
+     */
+    public SlowQueryListener(Duration threshold) {
+        this(threshold, 100);
+    }
+
+    /**
+     * Create a new listener.
+     *
+     * @param threshold The execution time above which queries are captured.
+     * @param capacity The number of slow queries that are retained.
+     */
+    public SlowQueryListener(Duration threshold, int capacity) {
+        this(threshold, capacity, null);
+    }
+
+    /**
+     * Create a new listener.
+     *
+     * @param threshold The execution time above which queries are captured.
+     * @param capacity The number of slow queries that are retained.
+     * @param connectionProvider The provider of connections to collect plans
+     *            with, or <code>null</code> to use the executing
+     *            {@link Configuration#connectionProvider()}.
+     */
+    public SlowQueryListener(Duration threshold, int capacity, ConnectionProvider connectionProvider) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+
+        this.threshold = threshold.toNanos();
+        this.connectionProvider = connectionProvider;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.next = new AtomicLong();
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        ctx.data(this, System.nanoTime());
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        Object start = ctx.data(this);
+
+        if (!(start instanceof Long))
+            return;
+
+        long time = System.nanoTime() - (Long) start;
+        if (time < threshold || ctx.sql() == null)
+            return;
+
+        // The query may be re-bound or re-executed by the caller while its
+        // plan is collected, so the plan is collected for a snapshot of the
+        // executed SQL string and bind values
+        SlowQuery slow = new SlowQuery(
+            Instant.now(),
+            Duration.ofNanos(time),
+            ctx.sql(),
+            bindValues(ctx)
+        );
+
+        long i = next.getAndIncrement();
+        buffer.set((int) (i % buffer.length()), slow);
+
+        // Some dialects' EXPLAIN statements execute the explained statement
+        // (e.g. H2's EXPLAIN ANALYZE), so only reads are explained
+        if (ctx.type() == ExecuteType.READ) {
+            Configuration configuration = ctx instanceof DefaultExecuteContext
+                ? ((DefaultExecuteContext) ctx).originalConfiguration()
+                : ctx.configuration();
+            ConnectionProvider provider = connectionProvider(configuration);
+
+            if (provider != null) {
+                Configuration c = configuration
+                    .derive(provider)
+
+                    // Explaining must not be captured by this or other listeners
+                    .derive(new ExecuteListenerProvider[0]);
+                Executor executor = configuration.executorProvider().provide();
+                ResultQuery<?> query = DSL.resultQuery(slow.sql, slow.bindValues.toArray());
+
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        slow.plan = c.dsl().explain(query);
+                    }
+                    catch (RuntimeException e) {
+                        log.debug("Cannot explain slow query", e);
+                    }
+                }, executor);
+            }
+        }
+    }
+
+    private static final List<Object> bindValues(ExecuteContext ctx) {
+        List<Param<?>> params = ctx instanceof DefaultExecuteContext
+            ? ((DefaultExecuteContext) ctx).bindValues()
+            : null;
+
+        if (params == null || params.isEmpty())
+            return emptyList();
+
+        List<Object> result = new ArrayList<>(params.size());
+        for (Param<?> param : params)
+            result.add(param.getValue());
+
+        return Collections.unmodifiableList(result);
+    }
+
+    private final ConnectionProvider connectionProvider(Configuration configuration) {
+        if (connectionProvider != null)
+            return connectionProvider;
+        else if (configuration.data(DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION) != null
+              || configuration.connectionProvider() instanceof DefaultConnectionProvider)
+            return null;
+        else
+            return configuration.connectionProvider();
+    }
+
+    /**
+     * The captured slow queries, from the oldest to the most recent one.
+     */
+    @NotNull
+    public List<SlowQuery> slowQueries() {
+        List<SlowQuery> result = new ArrayList<>();
+        long n = next.get();
+
+        for (long i = Math.max(0L, n - buffer.length()); i < n; i++) {
+            SlowQuery slow = buffer.get((int) (i % buffer.length()));
+
+            if (slow != null)
+                result.add(slow);
+        }
+
+        return result;
+    }
+
+    /**
+     * A human readable representation of the captured slow queries, from the
+     * oldest to the most recent one.
+     */
+    @NotNull
+    public String dump() {
+        StringBuilder sb = new StringBuilder();
+
+        for (SlowQuery slow : slowQueries())
+            sb.append(slow).append('\n');
+
+        return sb.toString();
+    }
+
+    /**
+     * Discard all captured slow queries.
+     */
+    public void clear() {
+        for (int i = 0; i < buffer.length(); i++)
+            buffer.set(i, null);
+    }
+
+    /**
+     * A query that exceeded the threshold of a {@link SlowQueryListener}.
+     */
+    public static final class SlowQuery {
+        private final Instant       timestamp;
+        private final Duration      executionTime;
+        private final String        sql;
+        private final List<Object>  bindValues;
+        volatile Explain            plan;
+
+        SlowQuery(Instant timestamp, Duration executionTime, String sql, List<Object> bindValues) {
+            this.timestamp = timestamp;
+            this.executionTime = executionTime;
+            this.sql = sql;
+            this.bindValues = bindValues;
+        }
+
+        /**
+         * The time when the query ended.
+         */
+        @NotNull
+        public Instant timestamp() {
+            return timestamp;
+        }
+
+        /**
+         * The time it took to execute the query and fetch its results.
+         */
+        @NotNull
+        public Duration executionTime() {
+            return executionTime;
+        }
+
+        /**
+         * The SQL string that was executed.
+         */
+        @NotNull
+        public String sql() {
+            return sql;
+        }
+
+        /**
+         * The bind values that were bound to {@link #sql()}.
+         */
+        @NotNull
+        public List<Object> bindValues() {
+            return bindValues;
+        }
+
+        /**
+         * The execution plan, or <code>null</code> if it hasn't been
+         * collected (yet).
+         */
+        @Nullable
+        public Explain plan() {
+            return plan;
+        }
+
+        @Override
+        public String toString() {
+            Explain p = plan;
+
+            return timestamp + " (" + executionTime.toMillis() + "ms): " + sql
+                 + (bindValues.isEmpty() ? "" : " " + bindValues)
+                 + (p == null ? "" : "\n" + p.plan());
+        }
+    }
+}
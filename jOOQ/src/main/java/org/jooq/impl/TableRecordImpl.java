@@ -59,7 +59,10 @@ import java.math.BigInteger;
 import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jooq.Configuration;
@@ -91,6 +94,16 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
     private static final JooqLogger      log                    = JooqLogger.getLogger(TableRecordImpl.class);
     private static final Set<SQLDialect> REFRESH_GENERATED_KEYS = SQLDialect.supportedBy(DERBY, H2, MARIADB, MYSQL);
 
+    /**
+     * Parents prefetched through {@link ForeignKey#prefetchParents(Collection)}.
+     */
+    transient Map<ForeignKey<?, ?>, Prefetched> prefetchedParents;
+
+    /**
+     * Children prefetched through {@link ForeignKey#prefetchChildren(Collection)}.
+     */
+    transient Map<ForeignKey<?, ?>, Prefetched> prefetchedChildren;
+
     public TableRecordImpl(Table<R> table) {
         super(table);
     }
@@ -384,4 +397,32 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
 
         return result;
     }
+
+    final Map<ForeignKey<?, ?>, Prefetched> prefetchedParents() {
+        if (prefetchedParents == null)
+            prefetchedParents = new HashMap<>();
+
+        return prefetchedParents;
+    }
+
+    final Map<ForeignKey<?, ?>, Prefetched> prefetchedChildren() {
+        if (prefetchedChildren == null)
+            prefetchedChildren = new HashMap<>();
+
+        return prefetchedChildren;
+    }
+
+    /**
+     * A prefetched parent record or result of child records, along with the
+     * key values that they were fetched for.
+     */
+    static final class Prefetched {
+        final List<Object> values;
+        final Object       value;
+
+        Prefetched(List<Object> values, Object value) {
+            this.values = values;
+            this.value = value;
+        }
+    }
 }
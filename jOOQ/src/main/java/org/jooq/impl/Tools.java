@@ -177,6 +177,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
@@ -391,6 +392,31 @@ final class Tools {
          */
         DATA_FORCE_STATIC_STATEMENT,
 
+        /**
+         * [#1520] The SQL string is rendered with inline values for the
+         * execution of a static statement, rather than for logging or other
+         * inspection.
+         * <p>
+         * Bindings of values that can only be read once, such as
+         * {@link BlobStreamBinding} and {@link ClobStreamBinding}, read their
+         * values only when this flag is set, and render a placeholder
+         * otherwise.
+         */
+        DATA_RENDER_STATIC_STATEMENT,
+
+        /**
+         * A {@link QueryPart} whose side effects jOOQ cannot know, such as
+         * plain SQL, a sequence, or a stored function, has been rendered.
+         */
+        DATA_RENDERED_OPAQUE,
+
+        /**
+         * The {@link ExecuteContext#query()} is known not to modify or lock any
+         * data, e.g. because it is a <code>SELECT</code> without locking
+         * clauses and without {@link #DATA_RENDERED_OPAQUE} content.
+         */
+        DATA_READ_ONLY_QUERY,
+
         /**
          * [#2665] Omit the emission of clause events by {@link QueryPart}s.
          * <p>
@@ -620,7 +646,18 @@ final class Tools {
          * [#10540] Aliases to be applied to the current <code>SELECT</code>
          * statement.
          */
-        DATA_SELECT_ALIASES
+        DATA_SELECT_ALIASES,
+
+        /**
+         * The POJOs that DAOs have looked up by ID within a transaction.
+         */
+        DATA_DAO_IDENTITY_MAP,
+
+        /**
+         * The cached results that were invalidated within a transaction, and
+         * that are invalidated again when it commits.
+         */
+        DATA_RESULT_CACHE_INVALIDATIONS
     }
 
     /**
@@ -2902,6 +2939,9 @@ final class Tools {
      * Safely close a statement
      */
     static final void safeClose(ExecuteListener listener, ExecuteContext ctx, boolean keepStatement, boolean keepResultSet) {
+        if (ctx instanceof DefaultExecuteContext)
+            ((DefaultExecuteContext) ctx).cancelDeadline();
+
         // [#2523] Set JDBC objects to null, to prevent repeated closing
         JDBCUtils.safeClose(ctx.resultSet());
         ctx.resultSet(null);
@@ -3321,6 +3361,93 @@ final class Tools {
             provider.addConditions(condition(field, record.get(field)));
     }
 
+    /**
+     * [#1520] The maximum number of bind values that a dialect supports in a
+     * single statement, or {@link Integer#MAX_VALUE} if there is no known
+     * limit.
+     * <p>
+     * A positive {@link Settings#getInlineThreshold()} overrides the dialect's
+     * limit.
+     */
+    static final int maxBindValues(Configuration configuration) {
+        Integer threshold = configuration.settings().getInlineThreshold();
+
+        if (threshold != null && threshold > 0)
+            return threshold;
+
+        switch (configuration.family()) {
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+            // [#5701] Tests were conducted with PostgreSQL 9.5 and pgjdbc 9.4.1209
+            case POSTGRES:
+                return 32767;
+
+            case SQLITE:
+                return 999;
+
+            default:
+                return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Create a hash key for a set of values, comparing <code>byte[]</code>
+     * values by their contents.
+     */
+    static final List<Object> valuesKey(Object[] values) {
+        List<Object> result = new ArrayList<>(values.length);
+
+        for (Object value : values)
+            result.add(value instanceof byte[] ? ByteBuffer.wrap((byte[]) value) : value);
+
+        return result;
+    }
+
+    /**
+     * Fetch all records from a table whose fields match any of a set of
+     * values, in chunks that respect the dialect's bind value limits.
+     */
+    @SuppressWarnings("unchecked")
+    static final <R extends Record> Result<R> fetchByValues(DSLContext ctx, Table<R> table, Field<?>[] fields, Collection<Object[]> values) {
+        Result<R> result = ctx.newResult(table);
+        List<Object[]> list = values instanceof List ? (List<Object[]>) values : new ArrayList<>(values);
+        int chunk = Math.max(1, maxBindValues(ctx.configuration()) / fields.length);
+
+        for (int i = 0; i < list.size(); i += chunk) {
+            List<Object[]> sublist = list.subList(i, Math.min(i + chunk, list.size()));
+
+            result.addAll(ctx.selectFrom(table).where(
+                fields.length == 1
+                    ? ((Field<Object>) fields[0]).in(map(sublist, v -> v[0]))
+                    : row(fields).in(map(sublist, v -> row(v)))
+            ).fetch());
+        }
+
+        return result;
+    }
+
     /**
      * Create a <code>null</code>-safe condition.
      */
@@ -5054,6 +5181,16 @@ final class Tools {
         return VARCHAR(length).nullability(type.nullability()).defaultValue((Field) type.defaultValue());
     }
 
+    /**
+     * Render a {@link QueryPart} with inline values for the execution of a
+     * static statement.
+     */
+    static final String renderStatic(Configuration configuration, QueryPart part) {
+        DefaultRenderContext render = new DefaultRenderContext(configuration);
+        render.data(BooleanDataKey.DATA_RENDER_STATIC_STATEMENT, true);
+        return render.paramType(INLINED).visit(part).render();
+    }
+
     static <C extends Context<? extends C>> C prependSQL(C ctx, Query... queries) {
         ctx.data().compute(DataKey.DATA_PREPEND_SQL, (k, v) -> {
             String sql = ctx.dsl().renderInlined(ctx.dsl().queries(queries));
@@ -55,7 +55,19 @@ class TransactionListeners implements TransactionListener {
     private final TransactionListener[] listeners;
 
     TransactionListeners(Configuration configuration) {
-        listeners = map(configuration.transactionListenerProviders(), p -> p.provide(), TransactionListener[]::new);
+        TransactionListener[] provided = map(configuration.transactionListenerProviders(), p -> p.provide(), TransactionListener[]::new);
+
+        // jOOQ-internal listeners are added first
+        TransactionListener cache = ResultCaching.transactionListener(configuration);
+
+        if (cache == null) {
+            listeners = provided;
+        }
+        else {
+            listeners = new TransactionListener[provided.length + 1];
+            listeners[0] = cache;
+            System.arraycopy(provided, 0, listeners, 1, provided.length);
+        }
     }
 
     @Override
@@ -0,0 +1,532 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.log;
+import static java.lang.Math.max;
+import static java.lang.Math.pow;
+import static java.lang.Math.round;
+import static org.jooq.impl.DSL.val;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.Param;
+
+/**
+ * A lightweight, lexer based normalisation of SQL strings that are passed to
+ * the {@link ParsingConnection}, prior to looking up translations in the
+ * {@link CacheType#CACHE_PARSING_CONNECTION} cache.
+ * <p>
+ * The normalisation works without parsing the SQL string, which is the
+ * expensive operation that the cache is trying to avoid. It can:
+ * <ul>
+ * <li>Extract literals from obvious bind value positions (comparison
+ * predicates, <code>LIKE</code> predicates, and <code>IN</code> lists) into
+ * bind values. String literals are extracted only from <code>LIKE</code>
+ * patterns, as elsewhere, their type is inferred from the other operand by
+ * some dialects (e.g. <code>int_col = '5'</code> in PostgreSQL), which a
+ * <code>VARCHAR</code> bind value would prevent.</li>
+ * <li>Pad <code>IN</code> lists consisting only of bind values to the next
+ * power of a pad base, repeating the last bind value, just like
+ * {@link org.jooq.conf.Settings#isInListPadding()} does when rendering.</li>
+ * </ul>
+ * <p>
+ * Whenever the lexer encounters anything it does not fully understand (e.g.
+ * vendor specific string escaping, named parameters, multiple statements, or
+ * non-DML statements), the input is returned unchanged, which is always
+ * correct, though it may produce more cache misses.
+ *
+ * @author Lukas Eder
+ */
+final class TranslationNormalizer {
+
+    private static final int TRIVIA  = 0;
+    private static final int WORD    = 1;
+    private static final int NUMBER  = 2;
+    private static final int STRING  = 3;
+    private static final int BIND    = 4;
+    private static final int OP      = 5;
+
+    /**
+     * The outcome of a normalisation.
+     */
+    static final class Normalized {
+        final String     sql;
+        final Param<?>[] bindValues;
+
+        Normalized(String sql, Param<?>[] bindValues) {
+            this.sql = sql;
+            this.bindValues = bindValues;
+        }
+    }
+
+    private static final class Token {
+        final int     type;
+        final int     start;
+        final int     end;
+        final boolean extractable;
+
+        Token(int type, int start, int end, boolean extractable) {
+            this.type = type;
+            this.start = start;
+            this.end = end;
+            this.extractable = extractable;
+        }
+    }
+
+    private final String         sql;
+    private final Param<?>[]     bindValues;
+    private final boolean        shape;
+    private final boolean        literals;
+    private final int            padBase;
+    private final List<Token>    tokens;
+    private final StringBuilder  out;
+    private final List<Param<?>> binds;
+    private int                  bindIndex;
+    private boolean              changed;
+
+    private TranslationNormalizer(String sql, Param<?>[] bindValues, boolean literals, int padBase) {
+        this.sql = sql;
+        this.bindValues = bindValues;
+        this.shape = bindValues == null;
+        this.literals = literals;
+        this.padBase = padBase;
+        this.tokens = new ArrayList<>();
+        this.out = new StringBuilder(sql.length());
+        this.binds = new ArrayList<>(shape ? 0 : bindValues.length);
+    }
+
+    /**
+     * Normalise a SQL string and its bind values.
+     *
+     * @param sql The SQL string.
+     * @param bindValues The bind values, which must correspond to the
+     *            <code>?</code> markers in the SQL string.
+     * @param literals Whether literals should be extracted into bind values.
+     * @param padBase The <code>IN</code> list pad base, or <code>0</code> if
+     *            <code>IN</code> lists should not be padded.
+     * @return The normalised SQL string and bind values, or <code>null</code>
+     *         if nothing could be normalised.
+     */
+    static final Normalized normalize(String sql, Param<?>[] bindValues, boolean literals, int padBase) {
+        if (!literals && padBase <= 0)
+            return null;
+
+        TranslationNormalizer n = new TranslationNormalizer(sql, bindValues, literals, padBase);
+        return n.tokenize() && n.isDML() ? n.emit() : null;
+    }
+
+    /**
+     * The shape of a SQL string, in which all literals are replaced by bind
+     * markers, and <code>IN</code> lists are padded to the next power of two,
+     * such that executions of a query with different values share a shape.
+     *
+     * @param sql The SQL string.
+     * @return The shape, or the SQL string itself if it cannot be normalised.
+     */
+    static final String shape(String sql) {
+        TranslationNormalizer n = new TranslationNormalizer(sql, null, true, 2);
+        return n.tokenize() && n.isDML() && n.emit() != null ? n.out.toString() : sql;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Lexing
+    // -------------------------------------------------------------------------
+
+    private final boolean tokenize() {
+        int binds = 0;
+        int length = sql.length();
+
+        for (int i = 0; i < length;) {
+            char c = sql.charAt(i);
+            int start = i;
+
+            if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i)))
+                    i++;
+
+                tokens.add(new Token(TRIVIA, start, i, false));
+            }
+            else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                while (i < length && sql.charAt(i) != '\n' && sql.charAt(i) != '\r')
+                    i++;
+
+                tokens.add(new Token(TRIVIA, start, i, false));
+            }
+            else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int e = sql.indexOf("*/", i + 2);
+
+                if (e < 0)
+                    return false;
+
+                tokens.add(new Token(TRIVIA, start, i = e + 2, false));
+            }
+            else if (c == '\'') {
+                Token previous = tokens.isEmpty() ? null : tokens.get(tokens.size() - 1);
+                boolean prefixed = previous != null && previous.type == WORD && previous.end == start;
+
+                // Oracle's alternative quoting mechanism: q'[...]'
+                if (prefixed && "q".equalsIgnoreCase(sql.substring(previous.end - 1, previous.end)))
+                    return false;
+
+                for (i++;; i++) {
+                    if (i >= length)
+                        return false;
+
+                    // Backslash escaping is vendor (and configuration) specific
+                    else if (sql.charAt(i) == '\\')
+                        return false;
+                    else if (sql.charAt(i) == '\'')
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'')
+                            i++;
+                        else
+                            break;
+                }
+
+                tokens.add(new Token(STRING, start, ++i, !prefixed));
+            }
+            else if (c == '"' || c == '`') {
+                int e = sql.indexOf(c, i + 1);
+
+                if (e < 0)
+                    return false;
+
+                tokens.add(new Token(WORD, start, i = e + 1, false));
+            }
+            else if (c == '$') {
+
+                // Dollar quoted strings or numbered parameters
+                return false;
+            }
+            else if (c == ':' && i + 1 < length && Character.isJavaIdentifierStart(sql.charAt(i + 1))
+                && (i == 0 || sql.charAt(i - 1) != ':')) {
+
+                // Named parameters
+                return false;
+            }
+            else if (c == '?') {
+                binds++;
+                tokens.add(new Token(BIND, start, ++i, false));
+            }
+            else if (Character.isDigit(c) || c == '.' && i + 1 < length && Character.isDigit(sql.charAt(i + 1))) {
+                while (i < length && Character.isDigit(sql.charAt(i)))
+                    i++;
+
+                if (i < length && sql.charAt(i) == '.')
+                    for (i++; i < length && Character.isDigit(sql.charAt(i)); i++);
+
+                if (i < length && (sql.charAt(i) == 'e' || sql.charAt(i) == 'E')) {
+                    int e = i + 1;
+
+                    if (e < length && (sql.charAt(e) == '+' || sql.charAt(e) == '-'))
+                        e++;
+
+                    if (e < length && Character.isDigit(sql.charAt(e)))
+                        for (i = e; i < length && Character.isDigit(sql.charAt(i)); i++);
+                }
+
+                // Things like 0x1F or 1abc are not numeric literals
+                if (i < length && isWordPart(sql.charAt(i))) {
+                    while (i < length && isWordPart(sql.charAt(i)))
+                        i++;
+
+                    tokens.add(new Token(WORD, start, i, false));
+                }
+                else
+                    tokens.add(new Token(NUMBER, start, i, true));
+            }
+            else if (isWordPart(c)) {
+                while (i < length && isWordPart(sql.charAt(i)))
+                    i++;
+
+                tokens.add(new Token(WORD, start, i, false));
+            }
+            else if (isComparisonPart(c)) {
+                while (i < length && isComparisonPart(sql.charAt(i)))
+                    i++;
+
+                tokens.add(new Token(OP, start, i, false));
+            }
+
+            // Statement batches could contain any type of statement
+            else if (c == ';') {
+                for (i++; i < length; i++)
+                    if (!Character.isWhitespace(sql.charAt(i)))
+                        return false;
+
+                tokens.add(new Token(TRIVIA, start, i, false));
+            }
+            else
+                tokens.add(new Token(OP, start, ++i, false));
+        }
+
+        return shape || binds == bindValues.length;
+    }
+
+    private static final boolean isWordPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '#' || c == '@';
+    }
+
+    private static final boolean isComparisonPart(char c) {
+        return c == '<' || c == '>' || c == '=' || c == '!';
+    }
+
+    private final boolean isDML() {
+        for (Token token : tokens) {
+            if (token.type == TRIVIA || is(token, "("))
+                continue;
+            else if (token.type != WORD)
+                return false;
+
+            String keyword = text(token).toUpperCase();
+            return "SELECT".equals(keyword)
+                || "WITH".equals(keyword)
+                || "INSERT".equals(keyword)
+                || "UPDATE".equals(keyword)
+                || "DELETE".equals(keyword)
+                || "MERGE".equals(keyword)
+                || "VALUES".equals(keyword);
+        }
+
+        return false;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Emitting
+    // -------------------------------------------------------------------------
+
+    private final Normalized emit() {
+        Token previous = null;
+
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+
+            if (token.type == TRIVIA) {
+                out.append(sql, token.start, token.end);
+                continue;
+            }
+
+            int end;
+            if (previous != null && previous.type == WORD && "IN".equalsIgnoreCase(text(previous)) && is(token, "(")
+                    && (end = inList(i)) > 0) {
+                i = end;
+                previous = tokens.get(end);
+                continue;
+            }
+
+            int literal = shape && token.extractable
+                ? i
+                : literals && previous != null && isLiteralContext(previous)
+                ? literal(i, shape || isStringContext(previous))
+                : -1;
+
+            if (literal >= 0) {
+                out.append('?');
+
+                if (!shape)
+                    binds.add(value(i, literal));
+
+                changed = true;
+                previous = tokens.get(literal);
+                i = literal;
+                continue;
+            }
+
+            if (token.type == BIND && !shape)
+                binds.add(bindValues[bindIndex++]);
+
+            out.append(sql, token.start, token.end);
+            previous = token;
+        }
+
+        return changed ? new Normalized(out.toString(), binds.toArray(Tools.EMPTY_PARAM)) : null;
+    }
+
+    private final boolean isLiteralContext(Token previous) {
+        if (previous.type == OP) {
+            String op = text(previous);
+
+            return "=".equals(op)
+                || "<>".equals(op)
+                || "!=".equals(op)
+                || "<".equals(op)
+                || ">".equals(op)
+                || "<=".equals(op)
+                || ">=".equals(op);
+        }
+        else
+            return isStringContext(previous);
+    }
+
+    /**
+     * Whether a literal following a token is known to be a string.
+     */
+    private final boolean isStringContext(Token previous) {
+        return previous.type == WORD && "LIKE".equalsIgnoreCase(text(previous));
+    }
+
+    /**
+     * If the token at position <code>i</code> is an extractable (possibly
+     * signed) literal, return the position of its last token, or
+     * <code>-1</code> otherwise.
+     *
+     * @param strings Whether string literals may be extracted.
+     */
+    private final int literal(int i, boolean strings) {
+        Token token = tokens.get(i);
+
+        if (token.extractable)
+            return token.type != STRING || strings ? i : -1;
+        else if ((is(token, "-") || is(token, "+"))
+                && i + 1 < tokens.size()
+                && tokens.get(i + 1).type == NUMBER)
+            return i + 1;
+        else
+            return -1;
+    }
+
+    /**
+     * Try normalising an <code>IN</code> list starting at the opening
+     * parenthesis at position <code>i</code>, returning the position of the
+     * closing parenthesis, or <code>-1</code> if the list cannot be
+     * normalised.
+     */
+    private final int inList(int i) {
+        List<Param<?>> list = new ArrayList<>();
+        int b = bindIndex;
+        boolean extracted = false;
+
+        for (int j = i + 1; j < tokens.size(); j++) {
+            Token token = tokens.get(j);
+
+            if (token.type == TRIVIA)
+                continue;
+
+            int literal;
+            if (token.type == BIND) {
+                list.add(shape ? null : bindValues[b++]);
+            }
+            else if (literals && (literal = literal(j, shape)) >= 0) {
+                list.add(shape ? null : value(j, literal));
+                extracted = true;
+                j = literal;
+            }
+            else
+                return -1;
+
+            // Expect a comma or the closing parenthesis
+            for (j++; j < tokens.size() && tokens.get(j).type == TRIVIA; j++);
+
+            if (j >= tokens.size())
+                return -1;
+            else if (is(tokens.get(j), ")"))
+                return inList(list, extracted, b, j);
+            else if (!is(tokens.get(j), ","))
+                return -1;
+        }
+
+        return -1;
+    }
+
+    private final int inList(List<Param<?>> list, boolean extracted, int b, int end) {
+        int size = list.size();
+        int padSize = padBase > 0 ? (int) round(pow(max(2, padBase), ceil(log(size) / log(max(2, padBase))))) : size;
+
+        if (!extracted && padSize == size)
+            return -1;
+
+        out.append('(');
+        for (int k = 0; k < padSize; k++) {
+            out.append(k > 0 ? ", ?" : "?");
+
+            // Shapes don't have any bind values
+            if (shape) {
+            }
+            else if (k < size) {
+                binds.add(list.get(k));
+            }
+
+            // Padded bind values must not be identical to the last bind
+            // value, as ParsingConnection.CacheValue relies on identity
+            else {
+                Param<?> last = list.get(size - 1);
+                binds.add(val(last.getValue(), last.getDataType()));
+            }
+        }
+        out.append(')');
+
+        bindIndex = b;
+        changed = true;
+        return end;
+    }
+
+    private final Param<?> value(int i, int literal) {
+        Token token = tokens.get(literal);
+        String text = text(token);
+
+        if (token.type == STRING)
+            return val(text.substring(1, text.length() - 1).replace("''", "'"));
+
+        if (literal > i && is(tokens.get(i), "-"))
+            text = "-" + text;
+
+        if (text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0)
+            return val(new BigDecimal(text));
+
+        BigInteger integer = new BigInteger(text);
+
+        if (integer.bitLength() < 32)
+            return val(integer.intValue());
+        else if (integer.bitLength() < 64)
+            return val(integer.longValue());
+        else
+            return val(integer);
+    }
+
+    private final String text(Token token) {
+        return sql.substring(token.start, token.end);
+    }
+
+    private final boolean is(Token token, String text) {
+        return token.type == OP && token.end - token.start == text.length() && sql.startsWith(text, token.start);
+    }
+}
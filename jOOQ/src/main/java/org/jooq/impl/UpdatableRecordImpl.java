@@ -49,15 +49,24 @@ import static org.jooq.impl.RecordDelegate.RecordLifecycleType.REFRESH;
 import static org.jooq.impl.RecordDelegate.RecordLifecycleType.STORE;
 import static org.jooq.impl.RecordDelegate.RecordLifecycleType.UPDATE;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.fetchByValues;
 import static org.jooq.impl.Tools.settings;
+import static org.jooq.impl.Tools.valuesKey;
 
 import java.math.BigInteger;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.DataType;
 import org.jooq.DeleteQuery;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
@@ -322,7 +331,12 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
             // Record's original values with the ones in the database
             // [#5384] Do this only if the exclusion flag for unversioned records is off
             else if (isExecuteWithOptimisticLockingIncludeUnversioned())
-                checkIfChanged(keys);
+
+                // Alternatively, compare the original values in the WHERE clause
+                if (!merge && isExecuteWithOptimisticLockingUnversionedInWhereClause())
+                    addConditionsForOriginalValues(query, keys);
+                else
+                    checkIfChanged(keys);
 
         // [#1596]  Check if the record was really changed in the database
         // [#1859]  Specify the returning clause if needed
@@ -372,7 +386,12 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
                 // Record's original values with the ones in the database
                 // [#5384] Do this only if the exclusion flag for unversioned records is off
                 else if (isExecuteWithOptimisticLockingIncludeUnversioned())
-                    checkIfChanged(keys);
+
+                    // Alternatively, compare the original values in the WHERE clause
+                    if (isExecuteWithOptimisticLockingUnversionedInWhereClause())
+                        addConditionsForOriginalValues(delete1, keys);
+                    else
+                        checkIfChanged(keys);
 
             int result = delete1.execute();
             checkIfChanged(result, null, null);
@@ -399,18 +418,87 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
         select.addFrom(getTable());
         Tools.addConditions(select, this, getPrimaryKey().getFieldsArray());
 
-        if (select.execute() == 1) {
-            final AbstractRecord source = (AbstractRecord) select.getResult().get(0);
+        if (select.execute() == 1)
+            refresh0(refreshFields, (AbstractRecord) select.getResult().get(0));
+        else
+            throw new NoDataFoundException("Exactly one row expected for refresh. Record does not exist in database.");
+    }
+
+    private final void refresh0(Field<?>[] refreshFields, AbstractRecord source) {
+        delegate(configuration(), (Record) this, REFRESH)
+            .operate(record -> {
+                setValues(refreshFields, source);
+                return record;
+            });
+    }
+
+    /**
+     * Refresh a set of records with as few queries per table as possible.
+     * <p>
+     * No record is modified before all rows have been resolved.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static final void refresh(DSLContext ctx, Collection<? extends UpdatableRecord<?>> records) {
+        Map<Table<?>, List<UpdatableRecordImpl<?>>> tables = new LinkedHashMap<>();
+        List<UpdatableRecord<?>> custom = new ArrayList<>();
 
-            delegate(configuration(), (Record) this, REFRESH)
-                .operate(record -> {
-                    setValues(refreshFields, source);
-                    return record;
-                });
+        for (UpdatableRecord<?> record : records) {
+            if (record instanceof UpdatableRecordImpl)
+                tables.computeIfAbsent(record.getTable(), t -> new ArrayList<>()).add((UpdatableRecordImpl<?>) record);
+
+            // Custom implementations are refreshed individually
+            else
+                custom.add(record);
         }
-        else {
-            throw new NoDataFoundException("Exactly one row expected for refresh. Record does not exist in database.");
+
+        List<UpdatableRecordImpl<?>> targets = new ArrayList<>();
+        List<AbstractRecord> sources = new ArrayList<>();
+
+        for (Entry<Table<?>, List<UpdatableRecordImpl<?>>> entry : tables.entrySet()) {
+            Table<Record> table = (Table) entry.getKey();
+            TableField<Record, ?>[] keys = table.getPrimaryKey().getFieldsArray();
+            Map<List<Object>, Object[]> values = new LinkedHashMap<>();
+
+            for (UpdatableRecordImpl<?> record : entry.getValue()) {
+                Object[] v = record.primaryKeyValues(keys);
+                values.putIfAbsent(valuesKey(v), v);
+            }
+
+            Map<List<Object>, AbstractRecord> fetched = new HashMap<>();
+            for (Record record : fetchByValues(ctx, table, keys, values.values()))
+                fetched.put(valuesKey(record.into(keys).intoArray()), (AbstractRecord) record);
+
+            for (UpdatableRecordImpl<?> record : entry.getValue()) {
+                AbstractRecord source = fetched.get(valuesKey(record.primaryKeyValues(keys)));
+
+                if (source == null)
+                    throw new NoDataFoundException("Exactly one row expected for refresh. Record does not exist in database.");
+
+                targets.add(record);
+                sources.add(source);
+            }
         }
+
+        // Custom implementations resolve their rows themselves, so they are
+        // refreshed before any of the resolved records are modified
+        for (UpdatableRecord<?> record : custom)
+            record.refresh();
+
+        for (int i = 0; i < targets.size(); i++)
+            targets.get(i).refresh0(targets.get(i).fields.fields.fields, sources.get(i));
+    }
+
+    /**
+     * The primary key values identifying this record in the database.
+     */
+    private final Object[] primaryKeyValues(Field<?>[] keys) {
+        boolean original = updatablePrimaryKeys(settings(this));
+        Object[] result = new Object[keys.length];
+
+        for (int i = 0; i < keys.length; i++)
+            result[i] = original ? original(keys[i]) : get(keys[i]);
+
+        return result;
     }
 
     @Override
@@ -450,6 +538,50 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
         return configuration == null || !TRUE.equals(configuration.settings().isExecuteWithOptimisticLockingExcludeUnversioned());
     }
 
+    private final boolean isExecuteWithOptimisticLockingUnversionedInWhereClause() {
+        Configuration configuration = configuration();
+        return configuration != null && TRUE.equals(configuration.settings().isExecuteWithOptimisticLockingUnversionedInWhereClause());
+    }
+
+    /**
+     * Add conditions comparing the database record with this record's original
+     * values, such that an <code>UPDATE</code> or <code>DELETE</code> statement
+     * doesn't affect any rows if the database record has been changed.
+     * <p>
+     * This replaces {@link #checkIfChanged(TableField[])} without an additional
+     * round trip, but values that cannot be compared portably in SQL are not
+     * checked.
+     */
+    private final void addConditionsForOriginalValues(org.jooq.ConditionProvider query, TableField<R, ?>[] keys) {
+        List<TableField<R, ?>> k = asList(keys);
+
+        for (Field<?> field : fields.fields.fields)
+            if (!k.contains(field) && isComparable(field.getDataType()))
+                addConditionForOriginalValue(query, field);
+    }
+
+    private final <T> void addConditionForOriginalValue(org.jooq.ConditionProvider query, Field<T> field) {
+
+        // The IS NULL predicate makes this comparison NULL-safe
+        query.addConditions(Tools.condition(field, original(field)));
+    }
+
+    private static final boolean isComparable(DataType<?> type) {
+        return !type.isLob()
+            && !type.isJSON()
+            && !type.isXML()
+            && !type.isArray()
+            && !type.isUDT()
+            && !type.isRecord()
+            && !type.isEmbeddable()
+            && type.getType() != Object.class
+
+            // Approximate numeric types (FLOAT, REAL, DOUBLE) may not compare
+            // equal to their own value after a round trip through JDBC
+            && type.getType() != Float.class
+            && type.getType() != Double.class;
+    }
+
     private final void addConditionForVersionAndTimestamp(org.jooq.ConditionProvider query) {
         TableField<R, ?> v = getTable().getRecordVersion();
         TableField<R, ?> t = getTable().getRecordTimestamp();
@@ -83,6 +83,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import javax.xml.bind.JAXB;
@@ -155,6 +157,12 @@ public final class Convert {
      */
     private static final boolean JAXB_AVAILABLE;
 
+    /**
+     * Conversion plans per target type and source type, for types that are
+     * loaded by the JDK or by jOOQ's class loader.
+     */
+    private static final ConcurrentHashMap<Class<?>, ConcurrentHashMap<Class<?>, Function<Object, Object>>> PLANS = new ConcurrentHashMap<>();
+
     static {
         Set<String> trueValues = new HashSet<>();
         Set<String> falseValues = new HashSet<>();
@@ -384,8 +392,7 @@ public final class Convert {
         if (fromType == Object.class)
             return converter.from((T) from);
 
-        ConvertAll<T> convertAll = new ConvertAll<>(fromType);
-        return converter.from(convertAll.from(from));
+        return converter.from(convert(from, fromType));
     }
 
     /**
@@ -454,10 +461,118 @@ public final class Convert {
      */
     @SuppressWarnings("unchecked")
     public static final <T> T convert(Object from, Class<? extends T> toClass) throws DataTypeException {
-        if (from != null && from.getClass() == toClass)
+        if (from == null)
+            return convert0(from, new ConvertAll<T>(toClass));
+        else if (from.getClass() == toClass)
             return (T) from;
         else
-            return convert0(from, new ConvertAll<T>(toClass));
+            return (T) plan(from.getClass(), toClass).apply(from);
+    }
+
+    /**
+     * Resolve the conversion of values from one type to another once, for
+     * repeated use.
+     * <p>
+     * The resulting function converts values according to the rules of
+     * {@link #convert(Object, Class)}. Values whose type is exactly
+     * <code>fromClass</code> (or its wrapper type) are converted without
+     * looking up the applicable rule again, which is useful when many values
+     * of the same type are converted, e.g. all values of a column.
+     *
+     * @param fromClass The expected type of the objects to convert
+     * @param toClass The target type
+     * @return A function converting objects to the target type
+     * @see #convert(Object, Class)
+     */
+    @SuppressWarnings("unchecked")
+    public static final <T> Function<Object, T> conversion(Class<?> fromClass, Class<? extends T> toClass) {
+        Class<?> wrapperFrom = wrapper(fromClass);
+        Function<Object, Object> plan = plan(wrapperFrom, toClass);
+        ConvertAll<T> all = new ConvertAll<>(toClass);
+
+        return o -> o == null
+            ? all.from(null)
+            : o.getClass() == wrapperFrom
+            ? (T) plan.apply(o)
+            : convert(o, toClass);
+    }
+
+    /**
+     * Get a (possibly cached) conversion plan for non-null values of exactly
+     * the type <code>fromClass</code>.
+     * <p>
+     * Plans are cached only if both types are loaded by the JDK or by jOOQ's
+     * class loader, to prevent leaking user class loaders.
+     */
+    private static final Function<Object, Object> plan(Class<?> fromClass, Class<?> toClass) {
+        if (cacheable(fromClass) && cacheable(toClass)) {
+            ConcurrentHashMap<Class<?>, Function<Object, Object>> plans = PLANS.get(toClass);
+
+            if (plans == null)
+                plans = PLANS.computeIfAbsent(toClass, t -> new ConcurrentHashMap<>());
+
+            Function<Object, Object> plan = plans.get(fromClass);
+
+            if (plan == null)
+                plan = plans.computeIfAbsent(fromClass, f -> compile(f, toClass));
+
+            return plan;
+        }
+        else
+            return compile(fromClass, toClass);
+    }
+
+    private static final boolean cacheable(Class<?> type) {
+        ClassLoader cl = type.getClassLoader();
+        return cl == null || cl == Convert.class.getClassLoader();
+    }
+
+    /**
+     * Compile a conversion plan for non-null values of exactly the type
+     * <code>fromClass</code>.
+     * <p>
+     * This implements shortcuts for the most common conversions, which must
+     * produce the same results as {@link ConvertAll#from(Object)}. All other
+     * conversions are delegated to {@link ConvertAll}.
+     */
+    private static final Function<Object, Object> compile(Class<?> fromClass, Class<?> toClass) {
+        Class<?> wrapperTo = wrapper(toClass);
+
+        // No conversion, up-casting, or primitive / wrapper conversion
+        if (toClass == fromClass || toClass.isAssignableFrom(fromClass) || wrapperTo == wrapper(fromClass))
+            return Function.identity();
+
+        // Arrays and collections have their own, more complex rules
+        else if (fromClass.isArray() || Collection.class.isAssignableFrom(fromClass))
+            return new ConvertAll<Object>(toClass)::from;
+
+        else if (toClass == String.class)
+            return EnumType.class.isAssignableFrom(fromClass)
+                ? o -> ((EnumType) o).getLiteral()
+                : Object::toString;
+
+        else if (Number.class.isAssignableFrom(fromClass)) {
+            if (wrapperTo == Byte.class)
+                return o -> Byte.valueOf(((Number) o).byteValue());
+            else if (wrapperTo == Short.class)
+                return o -> Short.valueOf(((Number) o).shortValue());
+            else if (wrapperTo == Integer.class)
+                return o -> Integer.valueOf(((Number) o).intValue());
+            else if (wrapperTo == Long.class)
+                return o -> Long.valueOf(((Number) o).longValue());
+            else if (wrapperTo == Float.class)
+                return o -> Float.valueOf(((Number) o).floatValue());
+            else if (wrapperTo == Double.class)
+                return o -> Double.valueOf(((Number) o).doubleValue());
+        }
+
+        else if (java.util.Date.class.isAssignableFrom(fromClass) && ConvertAll.isDate(toClass))
+            return o -> ConvertAll.toDate(((java.util.Date) o).getTime(), toClass);
+
+        else if (Temporal.class.isAssignableFrom(fromClass) && ConvertAll.isDate(toClass))
+            return o -> ConvertAll.toDate(ConvertAll.millis((Temporal) o), toClass);
+
+        return new ConvertAll<Object>(toClass)::from;
     }
 
     /**
@@ -1189,6 +1304,23 @@ public final class Convert {
             return (Class<U>) toClass;
         }
 
+        /**
+         * Whether {@link #toDate(long, Class)} supports a type.
+         */
+        private static boolean isDate(Class<?> toClass) {
+            return toClass == Date.class
+                || toClass == Time.class
+                || toClass == Timestamp.class
+                || toClass == java.util.Date.class
+                || toClass == Calendar.class
+                || toClass == LocalDate.class
+                || toClass == LocalTime.class
+                || toClass == OffsetTime.class
+                || toClass == LocalDateTime.class
+                || toClass == OffsetDateTime.class
+                || toClass == Instant.class;
+        }
+
         /**
          * Convert a long timestamp to any date type
          */
@@ -45,11 +45,17 @@ import static org.jooq.tools.StringUtils.abbreviate;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
+import org.jooq.ExecuteEvent;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteType;
 import org.jooq.Field;
@@ -67,12 +73,35 @@ import org.jooq.impl.DefaultVisitListener;
 /**
  * A default {@link ExecuteListener} that just logs events to java.util.logging,
  * log4j, or slf4j using the {@link JooqLogger}
+ * <p>
+ * This listener renders SQL with inlined bind values and previews results on
+ * the executing thread. For a cheaper log that can be kept on in production,
+ * see {@link org.jooq.impl.QueryLogListener}.
  *
  * @author Lukas Eder
  */
 public class LoggerListener extends DefaultExecuteListener {
 
-    private static final JooqLogger log   = JooqLogger.getLogger(LoggerListener.class);
+    private static final JooqLogger                               log                   = JooqLogger.getLogger(LoggerListener.class);
+
+    // The events consumed by (subclasses of) this listener when not logging on TRACE level
+    private static final Map<Set<ExecuteEvent>, Set<ExecuteEvent>> WITHOUT_RECORD_END    = new ConcurrentHashMap<>();
+
+    /**
+     * Whether a subclass overrides {@link #recordEnd(ExecuteContext)}, in case
+     * of which it must receive the event regardless of the log level.
+     */
+    private static final ClassValue<Boolean>                       RECORD_END_OVERRIDDEN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("recordEnd", ExecuteContext.class).getDeclaringClass() != LoggerListener.class;
+            }
+            catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
 
     @Override
     public void renderEnd(ExecuteContext ctx) {
@@ -126,6 +155,21 @@ public class LoggerListener extends DefaultExecuteListener {
         }
     }
 
+    @Override
+    public Set<ExecuteEvent> events() {
+        Set<ExecuteEvent> result = super.events();
+
+        // Records are logged only on TRACE level
+        if (log.isTraceEnabled() || !result.contains(ExecuteEvent.RECORD_END) || RECORD_END_OVERRIDDEN.get(getClass()))
+            return result;
+
+        return WITHOUT_RECORD_END.computeIfAbsent(result, e -> {
+            Set<ExecuteEvent> r = EnumSet.copyOf(e);
+            r.remove(ExecuteEvent.RECORD_END);
+            return Collections.unmodifiableSet(r);
+        });
+    }
+
     @Override
     public void recordEnd(ExecuteContext ctx) {
         if (log.isTraceEnabled() && ctx.record() != null)
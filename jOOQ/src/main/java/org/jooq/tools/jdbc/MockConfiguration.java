@@ -63,6 +63,7 @@ import org.jooq.RecordMapper;
 import org.jooq.RecordMapperProvider;
 import org.jooq.RecordUnmapper;
 import org.jooq.RecordUnmapperProvider;
+import org.jooq.ResultCacheProvider;
 import org.jooq.SQLDialect;
 import org.jooq.TransactionListenerProvider;
 import org.jooq.TransactionProvider;
@@ -158,6 +159,11 @@ public class MockConfiguration extends AbstractConfiguration {
         return delegate.cacheProvider();
     }
 
+    @Override
+    public ResultCacheProvider resultCacheProvider() {
+        return delegate.resultCacheProvider();
+    }
+
     @Override
     public TransactionProvider transactionProvider() {
         return delegate.transactionProvider();
@@ -298,6 +304,11 @@ public class MockConfiguration extends AbstractConfiguration {
         return delegate.set(newCacheProvider);
     }
 
+    @Override
+    public Configuration set(ResultCacheProvider newResultCacheProvider) {
+        return delegate.set(newResultCacheProvider);
+    }
+
     @Override
     public Configuration set(TransactionProvider newTransactionProvider) {
         return delegate.set(newTransactionProvider);
@@ -448,6 +459,11 @@ public class MockConfiguration extends AbstractConfiguration {
         return delegate.derive(newCacheProvider);
     }
 
+    @Override
+    public Configuration derive(ResultCacheProvider newResultCacheProvider) {
+        return delegate.derive(newResultCacheProvider);
+    }
+
     @Override
     public Configuration derive(TransactionProvider newTransactionProvider) {
         return delegate.derive(newTransactionProvider);